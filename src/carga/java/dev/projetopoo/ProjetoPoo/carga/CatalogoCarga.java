@@ -0,0 +1,31 @@
+package dev.projetopoo.ProjetoPoo.carga;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+// Jogos existentes na aplicação, na ordem de popularidade usada pelos sorteios
+class CatalogoCarga {
+
+    private final List<Long> porPopularidade;
+    private final Map<Long, Long> precosCentavos;
+    private final SorteadorZipf popularidade;
+
+    CatalogoCarga(List<Long> porPopularidade, Map<Long, Long> precosCentavos, double expoenteZipf) {
+        this.porPopularidade = porPopularidade;
+        this.precosCentavos = precosCentavos;
+        this.popularidade = new SorteadorZipf(porPopularidade.size(), expoenteZipf);
+    }
+
+    int tamanho() {
+        return porPopularidade.size();
+    }
+
+    long sortear(Random aleatorio) {
+        return porPopularidade.get(popularidade.sortear(aleatorio));
+    }
+
+    long preco(long jogoId) {
+        return precosCentavos.getOrDefault(jogoId, 0L);
+    }
+}
@@ -0,0 +1,103 @@
+package dev.projetopoo.ProjetoPoo.carga;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Cliente HTTP da API que mede cada chamada e a agrupa pelo modelo de rota informado
+class ClienteApi {
+
+    private final HttpClient http;
+    private final String base;
+    private final MetricasCarga metricas;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    ClienteApi(String base, MetricasCarga metricas) {
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.base = base.endsWith("/") ? base.substring(0, base.length() - 1) : base;
+        this.metricas = metricas;
+    }
+
+    Resposta get(String rota, String caminho) {
+        return enviar(rota, HttpRequest.newBuilder(URI.create(base + caminho)).GET());
+    }
+
+    Resposta post(String rota, String caminho, Object corpo) {
+        return enviar(rota, HttpRequest.newBuilder(URI.create(base + caminho))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json(corpo))));
+    }
+
+    Resposta postTexto(String rota, String caminho, String contentType, String corpo, String token) {
+        return enviar(rota, HttpRequest.newBuilder(URI.create(base + caminho))
+                .header("Content-Type", contentType)
+                .header("Authorization", "Bearer " + token)
+                .POST(HttpRequest.BodyPublishers.ofString(corpo)));
+    }
+
+    private Resposta enviar(String rota, HttpRequest.Builder requisicao) {
+        HttpRequest pronta = requisicao.timeout(Duration.ofSeconds(30)).build();
+        long inicio = System.nanoTime();
+        int status = 0;
+        String corpo = null;
+        try {
+            HttpResponse<String> resposta = http.send(pronta, HttpResponse.BodyHandlers.ofString());
+            status = resposta.statusCode();
+            corpo = resposta.body();
+        } catch (IOException e) {
+            corpo = e.toString();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            corpo = e.toString();
+        }
+        metricas.registrar(pronta.method() + " " + rota, (System.nanoTime() - inicio) / 1000, status);
+        return new Resposta(status, corpo);
+    }
+
+    private String json(Object corpo) {
+        try {
+            return objectMapper.writeValueAsString(corpo);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    class Resposta {
+        final int status;
+        final String corpo;
+
+        Resposta(int status, String corpo) {
+            this.status = status;
+            this.corpo = corpo;
+        }
+
+        boolean isSucesso() {
+            return status >= 200 && status < 300;
+        }
+
+        JsonNode json() {
+            try {
+                return objectMapper.readTree(corpo);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Resposta não é JSON: " + corpo, e);
+            }
+        }
+
+        Resposta exigirSucesso() {
+            if (!isSucesso()) {
+                throw new IllegalStateException("Falha HTTP " + status + ": " + corpo);
+            }
+            return this;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package dev.projetopoo.ProjetoPoo.carga;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+// Opções do gerador de carga, lidas de argumentos "--nome=valor"
+class ConfiguracaoCarga {
+
+    // Sem --url, a aplicação é iniciada no próprio processo, sobre H2 em memória
+    String url;
+    int usuarios = 200;
+    int jogos = 5000;
+    int bibliotecaMedia = 20;
+    int carrinhoMedio = 2;
+    double expoenteZipf = 1.0;
+    int concorrencia = 32;
+    Duration aquecimento = Duration.ofSeconds(10);
+    Duration duracao = Duration.ofSeconds(60);
+    long semente = 42;
+    String saida = "target/carga-resultado.json";
+    // Conta usada na importação do catálogo; com --url, o e-mail precisa estar em sessao.administradores do alvo
+    String adminEmail = "admin@carga.dev";
+    String adminSenha = "carga-admin";
+    final Map<Fluxo, Integer> mix = new EnumMap<>(Fluxo.class);
+
+    ConfiguracaoCarga() {
+        mix.put(Fluxo.NAVEGAR, 55);
+        mix.put(Fluxo.CARRINHO, 20);
+        mix.put(Fluxo.COMPRA, 10);
+        mix.put(Fluxo.RECARGA, 5);
+        mix.put(Fluxo.AVALIACAO, 10);
+    }
+
+    static ConfiguracaoCarga deArgumentos(String[] args) {
+        Map<String, String> valores = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Argumento inválido: " + arg + ". Use --nome=valor");
+            }
+            int igual = arg.indexOf('=');
+            valores.put(arg.substring(2, igual), arg.substring(igual + 1));
+        }
+
+        ConfiguracaoCarga config = new ConfiguracaoCarga();
+        config.url = valores.remove("url");
+        config.usuarios = inteiro(valores.remove("usuarios"), config.usuarios);
+        config.jogos = inteiro(valores.remove("jogos"), config.jogos);
+        config.bibliotecaMedia = inteiro(valores.remove("biblioteca-media"), config.bibliotecaMedia);
+        config.carrinhoMedio = inteiro(valores.remove("carrinho-medio"), config.carrinhoMedio);
+        config.concorrencia = inteiro(valores.remove("concorrencia"), config.concorrencia);
+        String semente = valores.remove("semente");
+        if (semente != null) {
+            config.semente = Long.parseLong(semente.trim());
+        }
+        config.aquecimento = duracao(valores.remove("aquecimento"), config.aquecimento);
+        config.duracao = duracao(valores.remove("duracao"), config.duracao);
+        String zipf = valores.remove("zipf");
+        if (zipf != null) {
+            config.expoenteZipf = Double.parseDouble(zipf);
+        }
+        String saida = valores.remove("saida");
+        if (saida != null) {
+            config.saida = saida;
+        }
+        String adminEmail = valores.remove("admin-email");
+        if (adminEmail != null) {
+            config.adminEmail = adminEmail;
+        }
+        String adminSenha = valores.remove("admin-senha");
+        if (adminSenha != null) {
+            config.adminSenha = adminSenha;
+        }
+        String mix = valores.remove("mix");
+        if (mix != null) {
+            config.mix.clear();
+            for (String parte : mix.split(",")) {
+                String[] pesos = parte.split(":");
+                if (pesos.length != 2) {
+                    throw new IllegalArgumentException("Mix inválido: " + mix + ". Use fluxo:peso,fluxo:peso");
+                }
+                config.mix.put(Fluxo.de(pesos[0]), Integer.parseInt(pesos[1].trim()));
+            }
+        }
+
+        if (!valores.isEmpty()) {
+            throw new IllegalArgumentException("Opções desconhecidas: " + valores.keySet());
+        }
+        return config;
+    }
+
+    private static int inteiro(String valor, int padrao) {
+        return valor == null ? padrao : Integer.parseInt(valor.trim());
+    }
+
+    // Aceita "90s", "5m" ou o formato ISO-8601 ("PT1M30S")
+    private static Duration duracao(String valor, Duration padrao) {
+        if (valor == null) {
+            return padrao;
+        }
+        String texto = valor.trim().toLowerCase();
+        if (texto.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(texto.substring(0, texto.length() - 2)));
+        }
+        if (texto.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(texto.substring(0, texto.length() - 1)));
+        }
+        if (texto.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(texto.substring(0, texto.length() - 1)));
+        }
+        return Duration.parse(valor.trim());
+    }
+}
@@ -0,0 +1,29 @@
+package dev.projetopoo.ProjetoPoo.carga;
+
+// Jornadas de usuário que o gerador sorteia, cada uma com uma ou mais requisições
+enum Fluxo {
+    NAVEGAR("navegar"),
+    CARRINHO("carrinho"),
+    COMPRA("compra"),
+    RECARGA("recarga"),
+    AVALIACAO("avaliacao");
+
+    private final String chave;
+
+    Fluxo(String chave) {
+        this.chave = chave;
+    }
+
+    String getChave() {
+        return chave;
+    }
+
+    static Fluxo de(String valor) {
+        for (Fluxo fluxo : values()) {
+            if (fluxo.chave.equalsIgnoreCase(valor.trim())) {
+                return fluxo;
+            }
+        }
+        throw new IllegalArgumentException("Fluxo inválido: " + valor + ". Use navegar, carrinho, compra, recarga ou avaliacao");
+    }
+}
@@ -0,0 +1,162 @@
+package dev.projetopoo.ProjetoPoo.carga;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import dev.projetopoo.ProjetoPoo.ProjetoPooApplication;
+
+// Gerador de carga da API do marketplace.
+// Sem --url, sobe a aplicação neste processo sobre H2 em memória; com --url, usa uma instância já
+// iniciada (por exemplo com um Postgres local). Semeia os dados pela API, roda as jornadas com a
+// concorrência pedida (aquecimento sem medição, depois a medição) e relata vazão, p50/p99 e erros por endpoint.
+public class GeradorCarga {
+
+    public static void main(String[] args) throws Exception {
+        ConfiguracaoCarga config = ConfiguracaoCarga.deArgumentos(args);
+        ConfigurableApplicationContext contexto = null;
+        String url = config.url;
+        if (url == null) {
+            contexto = iniciarAplicacao(config);
+            url = "http://localhost:" + contexto.getEnvironment().getProperty("local.server.port");
+        }
+
+        int codigo = 0;
+        try {
+            executar(config, url);
+        } catch (Exception e) {
+            e.printStackTrace();
+            codigo = 1;
+        } finally {
+            if (contexto != null) {
+                contexto.close();
+            }
+        }
+        System.exit(codigo);
+    }
+
+    private static void executar(ConfiguracaoCarga config, String url) throws Exception {
+        MetricasCarga metricas = new MetricasCarga();
+        ClienteApi api = new ClienteApi(url, metricas);
+        PopuladorDados populador = new PopuladorDados(api, config);
+
+        System.out.printf("Alvo: %s%nSemeando %d jogos e %d usuários...%n", url, config.jogos, config.usuarios);
+        long inicioSemeadura = System.nanoTime();
+        CatalogoCarga catalogo = populador.popularCatalogo();
+        List<UsuarioVirtual> usuarios = populador.popularUsuarios(catalogo);
+        System.out.printf("Semeadura concluída em %.1fs. Mix: %s%n", (System.nanoTime() - inicioSemeadura) / 1e9, config.mix);
+
+        JornadasUsuario jornadas = new JornadasUsuario(api, catalogo, populador);
+        int threads = Math.min(config.concorrencia, usuarios.size());
+        AtomicBoolean parar = new AtomicBoolean();
+        CountDownLatch terminadas = new CountDownLatch(threads);
+        List<Fluxo> sorteio = montarSorteio(config.mix);
+
+        for (int t = 0; t < threads; t++) {
+            // Cada thread fica com uma fatia fixa dos usuários, para as jornadas de um usuário não se sobreporem
+            List<UsuarioVirtual> fatia = new ArrayList<>();
+            for (int i = t; i < usuarios.size(); i += threads) {
+                fatia.add(usuarios.get(i));
+            }
+            Random aleatorio = new Random(config.semente + t);
+            Thread thread = new Thread(() -> {
+                try {
+                    while (!parar.get()) {
+                        UsuarioVirtual usuario = fatia.get(aleatorio.nextInt(fatia.size()));
+                        Fluxo fluxo = sorteio.get(aleatorio.nextInt(sorteio.size()));
+                        try {
+                            jornadas.executar(fluxo, usuario, aleatorio);
+                        } catch (RuntimeException e) {
+                            // A falha já foi contada na requisição; segue para a próxima jornada
+                        }
+                    }
+                } finally {
+                    terminadas.countDown();
+                }
+            }, "carga-" + t);
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        System.out.printf("Aquecimento de %ds com %d threads...%n", config.aquecimento.toSeconds(), threads);
+        Thread.sleep(config.aquecimento.toMillis());
+        metricas.iniciarGravacao();
+        long inicio = System.nanoTime();
+        System.out.printf("Medindo por %ds...%n", config.duracao.toSeconds());
+        Thread.sleep(config.duracao.toMillis());
+        metricas.pararGravacao();
+        double segundos = (System.nanoTime() - inicio) / 1e9;
+        parar.set(true);
+        terminadas.await();
+
+        metricas.imprimir(segundos);
+        gravarResultado(config, url, threads, segundos, metricas);
+    }
+
+    // Lista com cada fluxo repetido pelo seu peso; sortear um índice respeita o mix
+    private static List<Fluxo> montarSorteio(Map<Fluxo, Integer> mix) {
+        List<Fluxo> sorteio = new ArrayList<>();
+        mix.forEach((fluxo, peso) -> {
+            for (int i = 0; i < peso; i++) {
+                sorteio.add(fluxo);
+            }
+        });
+        if (sorteio.isEmpty()) {
+            throw new IllegalArgumentException("O mix precisa de ao menos um fluxo com peso positivo");
+        }
+        return sorteio;
+    }
+
+    private static void gravarResultado(ConfiguracaoCarga config, String url, int threads, double segundos,
+                                        MetricasCarga metricas) throws Exception {
+        Map<String, Object> resultado = new LinkedHashMap<>();
+        resultado.put("alvo", url);
+        resultado.put("usuarios", config.usuarios);
+        resultado.put("jogos", config.jogos);
+        resultado.put("concorrencia", threads);
+        resultado.put("duracaoSegundos", segundos);
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        config.mix.forEach((fluxo, peso) -> mix.put(fluxo.getChave(), peso));
+        resultado.put("mix", mix);
+        resultado.put("endpoints", metricas.relatorio(segundos));
+
+        File arquivo = new File(config.saida);
+        if (arquivo.getParentFile() != null) {
+            arquivo.getParentFile().mkdirs();
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(arquivo, resultado);
+        System.out.println("Resultado gravado em " + arquivo.getPath());
+    }
+
+    private static ConfigurableApplicationContext iniciarAplicacao(ConfiguracaoCarga config) {
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        System.out.println("Iniciando a aplicação sobre H2 em memória...");
+        return new SpringApplicationBuilder(ProjetoPooApplication.class).run(
+                "--server.port=0",
+                "--management.server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:carga;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                "--spring.datasource.driverClassName=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.show-sql=false",
+                "--sessao.administradores=" + config.adminEmail,
+                // Os usuários virtuais não fazem login
+                "--sessao.exigir-autenticacao=false",
+                "--spring.main.banner-mode=off",
+                "--spring.autoconfigure.exclude=org.springframework.boot.devtools.autoconfigure.DevToolsDataSourceAutoConfiguration",
+                "--logging.level.root=WARN",
+                "--server.tomcat.threads.max=" + Math.max(200, Runtime.getRuntime().availableProcessors() * 8));
+    }
+}
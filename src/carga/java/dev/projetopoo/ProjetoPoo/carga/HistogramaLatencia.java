@@ -0,0 +1,54 @@
+package dev.projetopoo.ProjetoPoo.carga;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+
+// Histograma de latências em microssegundos com baldes logarítmicos de 1% de largura.
+// Registrar é só um incremento atômico, então várias threads podem gravar sem bloquear;
+// os percentis saem com erro de no máximo 1%.
+class HistogramaLatencia {
+
+    private static final double FATOR = 1.01;
+    private static final double LOG_FATOR = Math.log(FATOR);
+    // 1,01^2000 µs ≈ 7 minutos, bem acima de qualquer timeout razoável
+    private static final int BALDES = 2000;
+
+    private final AtomicLongArray contagens = new AtomicLongArray(BALDES);
+    private final LongAccumulator maximo = new LongAccumulator(Math::max, 0L);
+
+    void registrar(long micros) {
+        long valor = Math.max(1L, micros);
+        int balde = (int) Math.min(BALDES - 1, Math.round(Math.log(valor) / LOG_FATOR));
+        contagens.incrementAndGet(balde);
+        maximo.accumulate(valor);
+    }
+
+    long total() {
+        long total = 0;
+        for (int i = 0; i < BALDES; i++) {
+            total += contagens.get(i);
+        }
+        return total;
+    }
+
+    // Percentil em microssegundos (0 < p <= 100)
+    long percentil(double p) {
+        long total = total();
+        if (total == 0) {
+            return 0;
+        }
+        long alvo = (long) Math.ceil(total * p / 100.0);
+        long acumulado = 0;
+        for (int i = 0; i < BALDES; i++) {
+            acumulado += contagens.get(i);
+            if (acumulado >= alvo) {
+                return Math.min(maximo.get(), Math.round(Math.pow(FATOR, i)));
+            }
+        }
+        return maximo.get();
+    }
+
+    long maximo() {
+        return maximo.get();
+    }
+}
@@ -0,0 +1,154 @@
+package dev.projetopoo.ProjetoPoo.carga;
+
+import java.math.BigDecimal;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+// As jornadas sorteadas durante a carga. Cada uma é uma sequência curta de requisições,
+// como um cliente real faria, e mantém o estado local do usuário em dia com as respostas.
+class JornadasUsuario {
+
+    private static final long RECARGA_CENTAVOS = 5_000;
+
+    private final ClienteApi api;
+    private final CatalogoCarga catalogo;
+    private final PopuladorDados populador;
+
+    JornadasUsuario(ClienteApi api, CatalogoCarga catalogo, PopuladorDados populador) {
+        this.api = api;
+        this.catalogo = catalogo;
+        this.populador = populador;
+    }
+
+    void executar(Fluxo fluxo, UsuarioVirtual usuario, Random aleatorio) {
+        switch (fluxo) {
+            case NAVEGAR -> navegar(usuario, aleatorio);
+            case CARRINHO -> colocarNoCarrinho(usuario, aleatorio);
+            case COMPRA -> comprar(usuario, aleatorio);
+            case RECARGA -> recarregar(usuario);
+            case AVALIACAO -> avaliar(usuario, aleatorio);
+        }
+    }
+
+    // Página do catálogo (seguindo o cursor da anterior), uma busca ou sugestão, o detalhe de um jogo
+    // e às vezes a própria biblioteca
+    private void navegar(UsuarioVirtual usuario, Random aleatorio) {
+        String caminho = "/jogo/pagina?tamanho=20" + (usuario.cursorCatalogo == null ? ""
+                : "&cursor=" + URLEncoder.encode(usuario.cursorCatalogo, StandardCharsets.UTF_8));
+        ClienteApi.Resposta pagina = api.get("/jogo/pagina", caminho);
+        if (pagina.isSucesso()) {
+            JsonNode proximo = pagina.json().get("proximoCursor");
+            usuario.cursorCatalogo = proximo == null || proximo.isNull() ? null : proximo.asText();
+        }
+
+        String genero = PopuladorDados.GENEROS[aleatorio.nextInt(PopuladorDados.GENEROS.length)].toLowerCase();
+        if (aleatorio.nextBoolean()) {
+            api.get("/jogo/busca", "/jogo/busca?tamanho=20&q=" + genero);
+        } else {
+            api.get("/jogo/sugestoes", "/jogo/sugestoes?q=" + genero.substring(0, 3));
+        }
+
+        api.get("/jogo/{id}", "/jogo/" + catalogo.sortear(aleatorio));
+
+        if (aleatorio.nextInt(100) < 30) {
+            api.get("/library/usuario/{usuarioId}/jogos/pagina", "/library/usuario/" + usuario.id + "/jogos/pagina?tamanho=20");
+        }
+    }
+
+    private void colocarNoCarrinho(UsuarioVirtual usuario, Random aleatorio) {
+        Long jogoId = sortearDisponivel(usuario, aleatorio);
+        if (jogoId != null) {
+            ClienteApi.Resposta resposta = api.post("/cart/usuario/{usuarioId}/jogos",
+                    "/cart/usuario/" + usuario.id + "/jogos", Map.of("jogoId", jogoId));
+            if (resposta.isSucesso()) {
+                usuario.carrinho.add(jogoId);
+            }
+        }
+        api.get("/cart/usuario/{usuarioId}/jogos", "/cart/usuario/" + usuario.id + "/jogos");
+    }
+
+    private void comprar(UsuarioVirtual usuario, Random aleatorio) {
+        if (usuario.carrinho.isEmpty()) {
+            colocarNoCarrinho(usuario, aleatorio);
+            if (usuario.carrinho.isEmpty()) {
+                return;
+            }
+        }
+
+        long total = usuario.carrinho.stream().mapToLong(catalogo::preco).sum();
+        if (usuario.saldoCentavos < total) {
+            populador.recarregar(usuario, total - usuario.saldoCentavos + RECARGA_CENTAVOS);
+        }
+
+        ClienteApi.Resposta resposta = api.post("/compras/{usuarioId}", "/compras/" + usuario.id, Map.of());
+        if (resposta.isSucesso()) {
+            usuario.biblioteca.addAll(usuario.carrinho);
+            usuario.carrinho.clear();
+            usuario.saldoCentavos -= total;
+        } else {
+            sincronizarCarrinho(usuario);
+        }
+        api.get("/compras/usuario/{usuarioId}/pagina", "/compras/usuario/" + usuario.id + "/pagina?tamanho=10");
+    }
+
+    private void recarregar(UsuarioVirtual usuario) {
+        ClienteApi.Resposta resposta = api.post("/wallet/{userId}", "/wallet/" + usuario.id,
+                Map.of("valor", BigDecimal.valueOf(RECARGA_CENTAVOS, 2)));
+        if (resposta.isSucesso()) {
+            usuario.saldoCentavos += RECARGA_CENTAVOS;
+        }
+        api.get("/wallet/{userId}/movimentacoes", "/wallet/" + usuario.id + "/movimentacoes?tamanho=20");
+    }
+
+    private void avaliar(UsuarioVirtual usuario, Random aleatorio) {
+        Long jogoId = null;
+        for (Long possuido : usuario.biblioteca) {
+            if (!usuario.avaliados.contains(possuido)) {
+                jogoId = possuido;
+                break;
+            }
+        }
+        if (jogoId == null) {
+            // Nada para avaliar: lê as avaliações de um jogo popular
+            api.get("/avaliacao/jogo/{jogoId}/pagina", "/avaliacao/jogo/" + catalogo.sortear(aleatorio) + "/pagina?tamanho=20");
+            return;
+        }
+
+        ClienteApi.Resposta resposta = api.post("/avaliacao/avaliacoes/usuario/{usuarioId}/jogo/{jogoId}",
+                "/avaliacao/avaliacoes/usuario/" + usuario.id + "/jogo/" + jogoId,
+                Map.of("nota", 1 + aleatorio.nextInt(5), "comentario", "Avaliação gerada pela carga"));
+        // Mesmo em caso de erro não insiste no mesmo jogo
+        usuario.avaliados.add(jogoId);
+        if (resposta.isSucesso()) {
+            api.get("/avaliacao/jogo/{jogoId}/resumo", "/avaliacao/jogo/" + jogoId + "/resumo");
+        }
+    }
+
+    private Long sortearDisponivel(UsuarioVirtual usuario, Random aleatorio) {
+        for (int tentativa = 0; tentativa < 20; tentativa++) {
+            long jogoId = catalogo.sortear(aleatorio);
+            if (usuario.podeColocarNoCarrinho(jogoId)) {
+                return jogoId;
+            }
+        }
+        return null;
+    }
+
+    private void sincronizarCarrinho(UsuarioVirtual usuario) {
+        ClienteApi.Resposta resposta = api.get("/cart/usuario/{usuarioId}/jogos", "/cart/usuario/" + usuario.id + "/jogos");
+        if (resposta.isSucesso()) {
+            usuario.carrinho.clear();
+            for (JsonNode jogo : resposta.json()) {
+                usuario.carrinho.add(jogo.get("id").asLong());
+            }
+        }
+        List.copyOf(usuario.carrinho).stream()
+                .filter(usuario.biblioteca::contains)
+                .forEach(usuario.carrinho::remove);
+    }
+}
@@ -0,0 +1,89 @@
+package dev.projetopoo.ProjetoPoo.carga;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Resultado agregado por endpoint (método + modelo de rota, ex.: "POST /compras/{usuarioId}")
+class MetricasCarga {
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private volatile boolean gravando;
+
+    void iniciarGravacao() {
+        endpoints.clear();
+        gravando = true;
+    }
+
+    void pararGravacao() {
+        gravando = false;
+    }
+
+    void registrar(String endpoint, long micros, int status) {
+        if (!gravando) {
+            return;
+        }
+        Endpoint estatistica = endpoints.computeIfAbsent(endpoint, chave -> new Endpoint());
+        estatistica.latencias.registrar(micros);
+        if (status >= 500 || status <= 0) {
+            estatistica.errosServidor.increment();
+        } else if (status >= 400) {
+            estatistica.errosCliente.increment();
+        }
+    }
+
+    List<Map<String, Object>> relatorio(double segundos) {
+        List<Map<String, Object>> linhas = new ArrayList<>();
+        endpoints.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entrada -> linhas.add(linha(entrada.getKey(), entrada.getValue(), segundos)));
+        return linhas;
+    }
+
+    void imprimir(double segundos) {
+        System.out.printf("%n%-60s %9s %9s %9s %9s %9s %7s %7s%n",
+                "Endpoint", "Reqs", "Req/s", "p50 ms", "p99 ms", "max ms", "4xx %", "5xx %");
+        long total = 0;
+        long erros4xx = 0;
+        long erros5xx = 0;
+        for (Map<String, Object> linha : relatorio(segundos)) {
+            System.out.printf("%-60s %9d %9.1f %9.2f %9.2f %9.2f %7.2f %7.2f%n",
+                    linha.get("endpoint"), linha.get("requisicoes"), linha.get("vazao"),
+                    linha.get("p50Ms"), linha.get("p99Ms"), linha.get("maxMs"),
+                    linha.get("taxaErroCliente"), linha.get("taxaErroServidor"));
+            total += (long) linha.get("requisicoes");
+            erros4xx += (long) linha.get("errosCliente");
+            erros5xx += (long) linha.get("errosServidor");
+        }
+        System.out.printf("%nTotal: %d requisições em %.0fs (%.1f req/s), %d respostas 4xx, %d respostas 5xx/falhas%n",
+                total, segundos, total / segundos, erros4xx, erros5xx);
+    }
+
+    private static Map<String, Object> linha(String nome, Endpoint endpoint, double segundos) {
+        long requisicoes = endpoint.latencias.total();
+        long errosCliente = endpoint.errosCliente.sum();
+        long errosServidor = endpoint.errosServidor.sum();
+
+        Map<String, Object> linha = new LinkedHashMap<>();
+        linha.put("endpoint", nome);
+        linha.put("requisicoes", requisicoes);
+        linha.put("vazao", requisicoes / segundos);
+        linha.put("p50Ms", endpoint.latencias.percentil(50) / 1000.0);
+        linha.put("p99Ms", endpoint.latencias.percentil(99) / 1000.0);
+        linha.put("maxMs", endpoint.latencias.maximo() / 1000.0);
+        linha.put("errosCliente", errosCliente);
+        linha.put("errosServidor", errosServidor);
+        linha.put("taxaErroCliente", requisicoes == 0 ? 0.0 : 100.0 * errosCliente / requisicoes);
+        linha.put("taxaErroServidor", requisicoes == 0 ? 0.0 : 100.0 * errosServidor / requisicoes);
+        return linha;
+    }
+
+    private static class Endpoint {
+        final HistogramaLatencia latencias = new HistogramaLatencia();
+        final LongAdder errosCliente = new LongAdder();
+        final LongAdder errosServidor = new LongAdder();
+    }
+}
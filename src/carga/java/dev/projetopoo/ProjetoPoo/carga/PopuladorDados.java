@@ -0,0 +1,157 @@
+package dev.projetopoo.ProjetoPoo.carga;
+
+import java.math.BigDecimal;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+// Semeia a aplicação pela própria API (e portanto pelos serviços reais):
+// catálogo pela importação em massa, usuários pelo cadastro, bibliotecas por carrinho + checkout
+// e carrinhos em aberto. Tamanhos de biblioteca e carrinho seguem uma distribuição geométrica,
+// e os jogos escolhidos seguem a popularidade Zipf do catálogo.
+class PopuladorDados {
+
+    static final String[] GENEROS = {"RPG", "Acao", "Aventura", "Estrategia", "Esporte", "Corrida", "Puzzle", "Terror"};
+
+    private final ClienteApi api;
+    private final ConfiguracaoCarga config;
+    private final String execucao = Long.toString(System.currentTimeMillis(), 36);
+
+    PopuladorDados(ClienteApi api, ConfiguracaoCarga config) {
+        this.api = api;
+        this.config = config;
+    }
+
+    CatalogoCarga popularCatalogo() {
+        Random aleatorio = new Random(config.semente);
+        StringBuilder csv = new StringBuilder("nome,gender,preco,descricao,dataLancamento,imagemUrl\n");
+        LocalDate base = LocalDate.of(2005, 1, 1);
+        for (int i = 0; i < config.jogos; i++) {
+            String genero = GENEROS[aleatorio.nextInt(GENEROS.length)];
+            csv.append("Jogo ").append(genero).append(' ').append(execucao).append('-').append(i).append(',')
+                    .append(genero).append(',')
+                    .append(BigDecimal.valueOf(aleatorio.nextInt(30000), 2)).append(',')
+                    .append("Um jogo de ").append(genero.toLowerCase()).append(',')
+                    .append(base.plusDays(aleatorio.nextInt(7000))).append(',')
+                    .append("https://img.exemplo.com/").append(i).append(".png\n");
+        }
+        JsonNode relatorio = api.postTexto("/jogo/importacao", "/jogo/importacao", "text/csv", csv.toString(), autenticarAdministrador())
+                .exigirSucesso().json();
+        System.out.printf("Catálogo: %d jogos importados, %d rejeitados%n",
+                relatorio.get("importados").asLong(), relatorio.get("rejeitados").asLong());
+
+        // Inclui o que já existia na aplicação; a popularidade é embaralhada para não seguir a ordem dos ids
+        List<Long> ids = new ArrayList<>();
+        Map<Long, Long> precos = new HashMap<>();
+        String cursor = null;
+        do {
+            String caminho = "/jogo/pagina?tamanho=100" + (cursor == null ? "" : "&cursor=" + URLEncoder.encode(cursor, StandardCharsets.UTF_8));
+            JsonNode pagina = api.get("/jogo/pagina", caminho).exigirSucesso().json();
+            for (JsonNode jogo : pagina.get("itens")) {
+                long id = jogo.get("id").asLong();
+                ids.add(id);
+                precos.put(id, jogo.get("preco").decimalValue().movePointRight(2).longValue());
+            }
+            cursor = pagina.get("proximoCursor").isNull() ? null : pagina.get("proximoCursor").asText();
+        } while (cursor != null);
+
+        Collections.shuffle(ids, new Random(config.semente));
+        return new CatalogoCarga(ids, precos, config.expoenteZipf);
+    }
+
+    // A importação exige o papel ADMIN; a conta é criada na primeira execução e reaproveitada nas seguintes
+    private String autenticarAdministrador() {
+        api.post("/user", "/user", Map.of("nome", "Administrador da carga", "email", config.adminEmail, "senha", config.adminSenha));
+        return api.post("/user/login", "/user/login", Map.of("email", config.adminEmail, "senha", config.adminSenha))
+                .exigirSucesso().json().get("token").asText();
+    }
+
+    List<UsuarioVirtual> popularUsuarios(CatalogoCarga catalogo) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(config.concorrencia);
+        try {
+            List<Future<UsuarioVirtual>> futuros = new ArrayList<>(config.usuarios);
+            for (int i = 0; i < config.usuarios; i++) {
+                int indice = i;
+                futuros.add(executor.submit(() -> popularUsuario(indice, catalogo)));
+            }
+            List<UsuarioVirtual> usuarios = new ArrayList<>(config.usuarios);
+            for (Future<UsuarioVirtual> futuro : futuros) {
+                usuarios.add(futuro.get());
+            }
+            return usuarios;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private UsuarioVirtual popularUsuario(int indice, CatalogoCarga catalogo) {
+        Random aleatorio = new Random(config.semente * 31 + indice);
+
+        Map<String, Object> cadastro = Map.of(
+                "nome", "Usuario " + indice,
+                "email", "carga-" + execucao + "-" + indice + "@carga.dev",
+                "senha", "carga-" + indice);
+        UsuarioVirtual usuario = new UsuarioVirtual(api.post("/user", "/user", cadastro).exigirSucesso().json().get("id").asLong());
+
+        int limite = Math.max(1, catalogo.tamanho() / 2);
+        Set<Long> biblioteca = sortearJogos(catalogo, aleatorio, Math.min(limite, geometrica(aleatorio, config.bibliotecaMedia)), Set.of());
+        long custo = biblioteca.stream().mapToLong(catalogo::preco).sum();
+
+        // Saldo para a biblioteca inicial mais uma folga para as compras da carga
+        recarregar(usuario, custo + 50_000);
+        if (!biblioteca.isEmpty()) {
+            api.post("/cart/usuario/{usuarioId}/jogos/lote", "/cart/usuario/" + usuario.id + "/jogos/lote",
+                    Map.of("adicionar", biblioteca, "remover", List.of())).exigirSucesso();
+            api.post("/compras/{usuarioId}", "/compras/" + usuario.id, Map.of()).exigirSucesso();
+            usuario.biblioteca.addAll(biblioteca);
+            usuario.saldoCentavos -= custo;
+        }
+
+        Set<Long> carrinho = sortearJogos(catalogo, aleatorio, Math.min(limite, geometrica(aleatorio, config.carrinhoMedio)), biblioteca);
+        if (!carrinho.isEmpty()) {
+            api.post("/cart/usuario/{usuarioId}/jogos/lote", "/cart/usuario/" + usuario.id + "/jogos/lote",
+                    Map.of("adicionar", carrinho, "remover", List.of())).exigirSucesso();
+            usuario.carrinho.addAll(carrinho);
+        }
+        return usuario;
+    }
+
+    void recarregar(UsuarioVirtual usuario, long centavos) {
+        api.post("/wallet/{userId}", "/wallet/" + usuario.id, Map.of("valor", BigDecimal.valueOf(centavos, 2))).exigirSucesso();
+        usuario.saldoCentavos += centavos;
+    }
+
+    private static Set<Long> sortearJogos(CatalogoCarga catalogo, Random aleatorio, int quantidade, Set<Long> excluir) {
+        Set<Long> escolhidos = new LinkedHashSet<>();
+        int tentativas = 0;
+        while (escolhidos.size() < quantidade && tentativas++ < quantidade * 20) {
+            long jogoId = catalogo.sortear(aleatorio);
+            if (!excluir.contains(jogoId)) {
+                escolhidos.add(jogoId);
+            }
+        }
+        return escolhidos;
+    }
+
+    // Distribuição geométrica com a média pedida: a maioria tem pouco, alguns têm muito
+    private static int geometrica(Random aleatorio, int media) {
+        if (media <= 0) {
+            return 0;
+        }
+        double p = 1.0 / (media + 1);
+        return (int) Math.floor(Math.log(1 - aleatorio.nextDouble()) / Math.log(1 - p));
+    }
+}
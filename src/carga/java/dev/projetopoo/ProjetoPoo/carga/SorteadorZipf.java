@@ -0,0 +1,28 @@
+package dev.projetopoo.ProjetoPoo.carga;
+
+import java.util.Arrays;
+import java.util.Random;
+
+// Sorteia posições 0..n-1 com probabilidade proporcional a 1/(posição+1)^s:
+// poucos jogos concentram a maior parte do interesse, como num catálogo real
+class SorteadorZipf {
+
+    private final double[] acumulado;
+
+    SorteadorZipf(int n, double expoente) {
+        acumulado = new double[n];
+        double soma = 0;
+        for (int i = 0; i < n; i++) {
+            soma += 1.0 / Math.pow(i + 1, expoente);
+            acumulado[i] = soma;
+        }
+        for (int i = 0; i < n; i++) {
+            acumulado[i] /= soma;
+        }
+    }
+
+    int sortear(Random aleatorio) {
+        int posicao = Arrays.binarySearch(acumulado, aleatorio.nextDouble());
+        return Math.min(acumulado.length - 1, posicao >= 0 ? posicao : -posicao - 1);
+    }
+}
@@ -0,0 +1,24 @@
+package dev.projetopoo.ProjetoPoo.carga;
+
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+// O que o gerador sabe sobre um usuário semeado. Cada usuário pertence a uma única thread
+// durante a carga, então o estado não precisa de sincronização e as jornadas não colidem entre si.
+class UsuarioVirtual {
+    final long id;
+    final Set<Long> biblioteca = new HashSet<>();
+    final Set<Long> carrinho = new LinkedHashSet<>();
+    final Set<Long> avaliados = new HashSet<>();
+    long saldoCentavos;
+    String cursorCatalogo;
+
+    UsuarioVirtual(long id) {
+        this.id = id;
+    }
+
+    boolean podeColocarNoCarrinho(long jogoId) {
+        return !biblioteca.contains(jogoId) && !carrinho.contains(jogoId);
+    }
+}
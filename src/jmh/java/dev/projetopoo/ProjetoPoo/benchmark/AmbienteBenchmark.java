@@ -0,0 +1,168 @@
+package dev.projetopoo.ProjetoPoo.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import dev.projetopoo.ProjetoPoo.ProjetoPooApplication;
+import dev.projetopoo.ProjetoPoo.model.Dinheiro;
+import dev.projetopoo.ProjetoPoo.model.Jogo;
+import dev.projetopoo.ProjetoPoo.model.User;
+import dev.projetopoo.ProjetoPoo.repository.BibliotecaRepository;
+import dev.projetopoo.ProjetoPoo.repository.JogoRepository;
+import dev.projetopoo.ProjetoPoo.services.BibliotecaServices;
+import dev.projetopoo.ProjetoPoo.services.CarrinhoServices;
+import dev.projetopoo.ProjetoPoo.services.CarteiraServices;
+import dev.projetopoo.ProjetoPoo.services.UserServices;
+import dev.projetopoo.ProjetoPoo.services.catalogo.FormatoCatalogo;
+import dev.projetopoo.ProjetoPoo.services.catalogo.ImportadorCatalogo;
+
+// Sobe a aplicação inteira (sem servidor web) sobre H2 em memória e popula um cenário realista:
+// catálogo de milhares de jogos, usuários com bibliotecas de algumas centenas de títulos e carrinhos com alguns itens.
+// Cada benchmark recebe este estado e usa os serviços de verdade, com transações, cache e índices.
+@State(Scope.Benchmark)
+public class AmbienteBenchmark {
+
+    private static final String[] GENEROS = {"RPG", "Acao", "Aventura", "Estrategia", "Esporte", "Corrida", "Puzzle", "Terror"};
+
+    @Param("5000")
+    public int jogosNoCatalogo;
+
+    @Param("200")
+    public int jogosPorBiblioteca;
+
+    @Param("10")
+    public int itensNoCarrinho;
+
+    @Param("50")
+    public int usuarios;
+
+    private ConfigurableApplicationContext contexto;
+    private List<Long> jogoIds;
+    private List<Long> usuarioIds;
+    private final Map<Long, List<Long>> possuidos = new HashMap<>();
+    private final Map<Long, List<Long>> disponiveis = new HashMap<>();
+
+    @Setup(Level.Trial)
+    public void subir() throws Exception {
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        contexto = new SpringApplicationBuilder(ProjetoPooApplication.class)
+                .web(WebApplicationType.NONE)
+                // Como argumentos de linha de comando, para terem precedência sobre application.properties
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:benchmark;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "--spring.datasource.driverClassName=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN",
+                        // O custo do bcrypt não é o que está sendo medido aqui; só deixa a preparação rápida
+                        "--senha.bcrypt.custo=4");
+
+        popularCatalogo();
+        popularUsuarios();
+    }
+
+    @TearDown(Level.Trial)
+    public void derrubar() {
+        if (contexto != null) {
+            contexto.close();
+        }
+    }
+
+    public <T> T bean(Class<T> tipo) {
+        return contexto.getBean(tipo);
+    }
+
+    public Long usuario(long sequencia) {
+        return usuarioIds.get((int) (sequencia % usuarioIds.size()));
+    }
+
+    public List<Long> getJogoIds() {
+        return jogoIds;
+    }
+
+    // Jogos que o usuário já tem na biblioteca
+    public List<Long> possuidos(Long usuarioId) {
+        return possuidos.get(usuarioId);
+    }
+
+    // Jogos que o usuário não tem nem estão no carrinho; podem ser adicionados ou comprados
+    public List<Long> disponiveis(Long usuarioId) {
+        return disponiveis.get(usuarioId);
+    }
+
+    private void popularCatalogo() throws Exception {
+        Random aleatorio = new Random(42);
+        StringBuilder csv = new StringBuilder("nome,gender,preco,descricao,dataLancamento,imagemUrl\n");
+        LocalDate base = LocalDate.of(2005, 1, 1);
+        for (int i = 0; i < jogosNoCatalogo; i++) {
+            String genero = GENEROS[aleatorio.nextInt(GENEROS.length)];
+            csv.append("Jogo ").append(genero).append(' ').append(i).append(',')
+                    .append(genero).append(',')
+                    .append(BigDecimal.valueOf(aleatorio.nextInt(30000), 2)).append(',')
+                    .append("Um jogo de ").append(genero.toLowerCase()).append(" numero ").append(i).append(',')
+                    .append(base.plusDays(aleatorio.nextInt(7000))).append(',')
+                    .append("https://img.exemplo.com/").append(i).append(".png\n");
+        }
+        bean(ImportadorCatalogo.class).importar(
+                new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8)), FormatoCatalogo.CSV);
+        jogoIds = bean(JogoRepository.class).findAll().stream().map(Jogo::getId).toList();
+    }
+
+    private void popularUsuarios() {
+        UserServices userServices = bean(UserServices.class);
+        CarteiraServices carteiraServices = bean(CarteiraServices.class);
+        CarrinhoServices carrinhoServices = bean(CarrinhoServices.class);
+        BibliotecaServices bibliotecaServices = bean(BibliotecaServices.class);
+        BibliotecaRepository bibliotecaRepository = bean(BibliotecaRepository.class);
+
+        usuarioIds = new ArrayList<>(usuarios);
+        for (int i = 0; i < usuarios; i++) {
+            User usuario = userServices.addUser(new User("Usuario " + i, "usuario" + i + "@benchmark.dev", "senha"));
+            Long usuarioId = usuario.getId();
+            usuarioIds.add(usuarioId);
+
+            Random aleatorio = new Random(i);
+            Set<Long> sorteados = new LinkedHashSet<>();
+            while (sorteados.size() < jogosPorBiblioteca + itensNoCarrinho) {
+                sorteados.add(jogoIds.get(aleatorio.nextInt(jogoIds.size())));
+            }
+            List<Long> lista = new ArrayList<>(sorteados);
+            List<Long> biblioteca = lista.subList(0, jogosPorBiblioteca);
+            List<Long> carrinho = lista.subList(jogosPorBiblioteca, lista.size());
+
+            Long bibliotecaId = bibliotecaRepository.findIdByUsuarioId(usuarioId).orElseThrow();
+            bibliotecaServices.adicionarJogos(bibliotecaId, biblioteca, LocalDateTime.now());
+            carrinhoServices.atualizarEmLote(usuarioId, carrinho, List.of());
+            carteiraServices.adicionarValor(usuarioId, Dinheiro.deReais(BigDecimal.valueOf(10_000_000)));
+
+            List<Long> livres = new ArrayList<>(jogoIds);
+            livres.removeAll(sorteados);
+            possuidos.put(usuarioId, List.copyOf(biblioteca));
+            disponiveis.put(usuarioId, livres);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package dev.projetopoo.ProjetoPoo.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.projetopoo.ProjetoPoo.model.Avaliacao;
+import dev.projetopoo.ProjetoPoo.services.AvaliacaoServices;
+
+// Avalia um jogo da biblioteca. Cada iteração é um lote de chamadas sobre pares (usuário, jogo possuído) distintos,
+// escolhidos antes dela; as avaliações criadas são apagadas no fim da iteração, liberando os pares para a próxima.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, batchSize = AvaliacaoBenchmark.LOTE)
+@Measurement(iterations = 20, batchSize = AvaliacaoBenchmark.LOTE)
+@OperationsPerInvocation(AvaliacaoBenchmark.LOTE)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+public class AvaliacaoBenchmark {
+
+    static final int LOTE = 1000;
+
+    private AmbienteBenchmark ambiente;
+    private AvaliacaoServices avaliacaoServices;
+    private int iteracao;
+    private long[] usuarios;
+    private long[] jogos;
+    private int proximo;
+    private final List<Long> criadas = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void preparar(AmbienteBenchmark ambiente) {
+        this.ambiente = ambiente;
+        avaliacaoServices = ambiente.bean(AvaliacaoServices.class);
+    }
+
+    @Setup(Level.Iteration)
+    public void escolher() {
+        int porUsuario = (LOTE + ambiente.usuarios - 1) / ambiente.usuarios;
+        if (porUsuario > ambiente.jogosPorBiblioteca) {
+            throw new IllegalStateException("Pares insuficientes para o lote; aumente jogosPorBiblioteca ou usuarios");
+        }
+        usuarios = new long[LOTE];
+        jogos = new long[LOTE];
+        for (int i = 0; i < LOTE; i++) {
+            Long usuarioId = ambiente.usuario(i);
+            List<Long> possuidos = ambiente.possuidos(usuarioId);
+            usuarios[i] = usuarioId;
+            jogos[i] = possuidos.get((iteracao * porUsuario + i / ambiente.usuarios) % possuidos.size());
+        }
+        proximo = 0;
+        iteracao++;
+    }
+
+    @TearDown(Level.Iteration)
+    public void desfazer() {
+        criadas.forEach(avaliacaoServices::deletarAvaliacao);
+        criadas.clear();
+    }
+
+    @Benchmark
+    public Avaliacao avaliar() {
+        int i = proximo++;
+        Avaliacao avaliacao = avaliacaoServices.avaliar(usuarios[i], jogos[i], i % 6, "Comentário de benchmark");
+        criadas.add(avaliacao.getId());
+        return avaliacao;
+    }
+}
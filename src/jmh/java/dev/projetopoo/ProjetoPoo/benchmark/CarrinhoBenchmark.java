@@ -0,0 +1,86 @@
+package dev.projetopoo.ProjetoPoo.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.projetopoo.ProjetoPoo.services.CarrinhoServices;
+
+// Adiciona um jogo ao carrinho. Cada iteração é um lote de chamadas sobre pares (usuário, jogo) sorteados antes
+// dela, e os jogos adicionados saem dos carrinhos só no fim da iteração, fora do tempo medido.
+// Os pares são distribuídos entre os usuários, então cada carrinho cresce no máximo LOTE/usuarios itens.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, batchSize = CarrinhoBenchmark.LOTE)
+@Measurement(iterations = 20, batchSize = CarrinhoBenchmark.LOTE)
+@OperationsPerInvocation(CarrinhoBenchmark.LOTE)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+public class CarrinhoBenchmark {
+
+    static final int LOTE = 500;
+
+    private AmbienteBenchmark ambiente;
+    private CarrinhoServices carrinhoServices;
+    private int iteracao;
+    private long[] usuarios;
+    private long[] jogos;
+    private int proximo;
+
+    @Setup(Level.Trial)
+    public void preparar(AmbienteBenchmark ambiente) {
+        this.ambiente = ambiente;
+        carrinhoServices = ambiente.bean(CarrinhoServices.class);
+    }
+
+    @Setup(Level.Iteration)
+    public void sortear() {
+        int porUsuario = (LOTE + ambiente.usuarios - 1) / ambiente.usuarios;
+        usuarios = new long[LOTE];
+        jogos = new long[LOTE];
+        for (int i = 0; i < LOTE; i++) {
+            Long usuarioId = ambiente.usuario(i);
+            List<Long> disponiveis = ambiente.disponiveis(usuarioId);
+            if (porUsuario > disponiveis.size()) {
+                throw new IllegalStateException("Jogos disponíveis insuficientes para o lote; aumente jogosNoCatalogo");
+            }
+            // Janela deslocada a cada iteração, para não repetir sempre os mesmos jogos
+            int posicao = (iteracao * porUsuario + i / ambiente.usuarios) % disponiveis.size();
+            usuarios[i] = usuarioId;
+            jogos[i] = disponiveis.get(posicao);
+        }
+        proximo = 0;
+        iteracao++;
+    }
+
+    @TearDown(Level.Iteration)
+    public void desfazer() {
+        Map<Long, List<Long>> adicionados = new HashMap<>();
+        for (int i = 0; i < proximo; i++) {
+            adicionados.computeIfAbsent(usuarios[i], usuario -> new ArrayList<>()).add(jogos[i]);
+        }
+        adicionados.forEach((usuarioId, jogoIds) -> carrinhoServices.atualizarEmLote(usuarioId, List.of(), jogoIds));
+    }
+
+    @Benchmark
+    public void adicionarJogo() {
+        int i = proximo++;
+        carrinhoServices.adicionarJogo(usuarios[i], jogos[i]);
+    }
+}
@@ -0,0 +1,62 @@
+package dev.projetopoo.ProjetoPoo.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.projetopoo.ProjetoPoo.dto.PaginaCursor;
+import dev.projetopoo.ProjetoPoo.dto.ResultadoBusca;
+import dev.projetopoo.ProjetoPoo.model.Jogo;
+import dev.projetopoo.ProjetoPoo.services.JogoService;
+import dev.projetopoo.ProjetoPoo.services.busca.FiltroBusca;
+
+// Listagem do catálogo: páginas por id e por lançamento (a segunda página usa o cursor da primeira) e busca textual
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+public class CatalogoBenchmark {
+
+    private static final int TAMANHO_PAGINA = 20;
+
+    private JogoService jogoService;
+    private String cursorLancamento;
+    private FiltroBusca filtro;
+
+    @Setup(Level.Trial)
+    public void preparar(AmbienteBenchmark ambiente) {
+        jogoService = ambiente.bean(JogoService.class);
+        cursorLancamento = jogoService.listarJogosPaginados("lancamento", null, TAMANHO_PAGINA).getProximoCursor();
+
+        filtro = new FiltroBusca();
+        filtro.setTexto("jogo rpg");
+        filtro.setGenero("RPG");
+    }
+
+    @Benchmark
+    public PaginaCursor<Jogo> primeiraPaginaPorId() {
+        return jogoService.listarJogosPaginados(null, null, TAMANHO_PAGINA);
+    }
+
+    @Benchmark
+    public PaginaCursor<Jogo> segundaPaginaPorLancamento() {
+        return jogoService.listarJogosPaginados("lancamento", cursorLancamento, TAMANHO_PAGINA);
+    }
+
+    @Benchmark
+    public ResultadoBusca buscarPorTextoEGenero() {
+        return jogoService.buscarJogos(filtro, 0, TAMANHO_PAGINA);
+    }
+}
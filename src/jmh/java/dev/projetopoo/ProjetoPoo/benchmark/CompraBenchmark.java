@@ -0,0 +1,86 @@
+package dev.projetopoo.ProjetoPoo.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.projetopoo.ProjetoPoo.model.Compra;
+import dev.projetopoo.ProjetoPoo.services.CarrinhoServices;
+import dev.projetopoo.ProjetoPoo.services.CompraServices;
+
+// Checkout do carrinho. Cada iteração é um lote com uma compra por usuário: os carrinhos são enchidos antes
+// da iteração com itens não possuídos, e no fim dela as compras são reembolsadas, devolvendo biblioteca e saldo.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, batchSize = CompraBenchmark.LOTE)
+@Measurement(iterations = 20, batchSize = CompraBenchmark.LOTE)
+@OperationsPerInvocation(CompraBenchmark.LOTE)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+public class CompraBenchmark {
+
+    static final int LOTE = 50;
+
+    private AmbienteBenchmark ambiente;
+    private CarrinhoServices carrinhoServices;
+    private CompraServices compraServices;
+    private int iteracao;
+    private int proximo;
+    private final List<Long> compras = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void preparar(AmbienteBenchmark ambiente) {
+        this.ambiente = ambiente;
+        carrinhoServices = ambiente.bean(CarrinhoServices.class);
+        compraServices = ambiente.bean(CompraServices.class);
+        iteracao = 0;
+    }
+
+    @Setup(Level.Iteration)
+    public void encherCarrinhos() {
+        if (LOTE > ambiente.usuarios) {
+            throw new IllegalStateException("Cada usuário faz uma compra por iteração; use -p usuarios=" + LOTE + " ou mais");
+        }
+        // A primeira iteração compra os carrinhos já populados; daqui em diante cada uma repõe os seus
+        if (iteracao > 0) {
+            for (int u = 0; u < LOTE; u++) {
+                Long usuarioId = ambiente.usuario(u);
+                List<Long> disponiveis = ambiente.disponiveis(usuarioId);
+                List<Long> itens = new ArrayList<>(ambiente.itensNoCarrinho);
+                for (int i = 0; i < ambiente.itensNoCarrinho; i++) {
+                    itens.add(disponiveis.get((iteracao * ambiente.itensNoCarrinho + i) % disponiveis.size()));
+                }
+                carrinhoServices.atualizarEmLote(usuarioId, itens, List.of());
+            }
+        }
+        proximo = 0;
+        iteracao++;
+    }
+
+    @TearDown(Level.Iteration)
+    public void reembolsar() {
+        compras.forEach(compraServices::efetuarReembolso);
+        compras.clear();
+    }
+
+    @Benchmark
+    public Compra efetuarCompra() {
+        Compra compra = compraServices.efetuarCompra(ambiente.usuario(proximo++));
+        compras.add(compra.getId());
+        return compra;
+    }
+}
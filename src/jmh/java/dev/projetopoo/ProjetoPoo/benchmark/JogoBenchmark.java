@@ -0,0 +1,64 @@
+package dev.projetopoo.ProjetoPoo.benchmark;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import dev.projetopoo.ProjetoPoo.model.Dinheiro;
+import dev.projetopoo.ProjetoPoo.model.Jogo;
+import dev.projetopoo.ProjetoPoo.services.JogoService;
+import dev.projetopoo.ProjetoPoo.services.validation.MotorValidacao;
+import dev.projetopoo.ProjetoPoo.services.validation.Violacoes;
+
+// Inclusão de jogo pelo JogoService (validação, checagem de nome, insert, cache e índices)
+// e, separadamente, só a cadeia de validadores, que não toca no banco
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+public class JogoBenchmark {
+
+    private JogoService jogoService;
+    private MotorValidacao motorValidacao;
+    private long sequencia;
+
+    @Setup(Level.Trial)
+    public void preparar(AmbienteBenchmark ambiente) {
+        jogoService = ambiente.bean(JogoService.class);
+        motorValidacao = ambiente.bean(MotorValidacao.class);
+    }
+
+    @Benchmark
+    public Jogo addGame() {
+        return jogoService.addGame(novoJogo("Lancamento " + (++sequencia)));
+    }
+
+    @Benchmark
+    public Violacoes validarJogo() {
+        return motorValidacao.validar(novoJogo("Validacao"));
+    }
+
+    private static Jogo novoJogo(String nome) {
+        Jogo jogo = new Jogo();
+        jogo.setNome(nome);
+        jogo.setGender("Acao");
+        jogo.setPreco(Dinheiro.deCentavos(4990));
+        jogo.setDescricao("Jogo criado pelo benchmark");
+        jogo.setDataLancamento(LocalDate.of(2024, 5, 1));
+        jogo.setImagemUrl("https://img.exemplo.com/lancamento.png");
+        return jogo;
+    }
+}
@@ -2,8 +2,10 @@ package dev.projetopoo.ProjetoPoo;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.security.servlet.UserDetailsServiceAutoConfiguration;
 
-@SpringBootApplication
+// A autenticação é feita pelo token de sessão; sem isso o Boot criaria um usuário em memória com senha gerada
+@SpringBootApplication(exclude = UserDetailsServiceAutoConfiguration.class)
 public class ProjetoPooApplication {
 
 	public static void main(String[] args) {
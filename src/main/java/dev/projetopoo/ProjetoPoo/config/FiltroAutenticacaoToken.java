@@ -0,0 +1,86 @@
+package dev.projetopoo.ProjetoPoo.config;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dev.projetopoo.ProjetoPoo.dto.ErrorResponse;
+import dev.projetopoo.ProjetoPoo.services.sessao.ControleAcesso;
+import dev.projetopoo.ProjetoPoo.services.sessao.SessaoUsuario;
+import dev.projetopoo.ProjetoPoo.services.sessao.TokenSessao;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// Lê "Authorization: Bearer <token>" e autentica a requisição sem consultar o banco.
+// Requisições sem o cabeçalho seguem anônimas; quem decide se isso basta são as regras do SecurityConfig.
+// Os e-mails de sessao.administradores recebem também o papel ADMIN.
+public class FiltroAutenticacaoToken extends OncePerRequestFilter {
+
+    private static final String PREFIXO = "Bearer ";
+    private static final List<SimpleGrantedAuthority> PAPEIS = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+    private static final List<SimpleGrantedAuthority> PAPEIS_ADMIN = List.of(
+            new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority(ControleAcesso.PAPEL_ADMIN));
+
+    private final TokenSessao tokenSessao;
+    private final ObjectMapper objectMapper;
+    private final Set<String> administradores;
+
+    // E-mails já em minúsculas
+    public FiltroAutenticacaoToken(TokenSessao tokenSessao, ObjectMapper objectMapper, Set<String> administradores) {
+        this.tokenSessao = tokenSessao;
+        this.objectMapper = objectMapper;
+        this.administradores = administradores;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String cabecalho = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (cabecalho == null || !cabecalho.startsWith(PREFIXO)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Optional<SessaoUsuario> sessao = tokenSessao.verificar(cabecalho.substring(PREFIXO.length()).trim());
+        if (sessao.isEmpty()) {
+            recusar(request, response);
+            return;
+        }
+
+        UsernamePasswordAuthenticationToken autenticacao =
+                new UsernamePasswordAuthenticationToken(sessao.get(), null, papeis(sessao.get()));
+        SecurityContextHolder.getContext().setAuthentication(autenticacao);
+        filterChain.doFilter(request, response);
+    }
+
+    private List<SimpleGrantedAuthority> papeis(SessaoUsuario sessao) {
+        return administradores.contains(sessao.getEmail().toLowerCase(Locale.ROOT)) ? PAPEIS_ADMIN : PAPEIS;
+    }
+
+    private void recusar(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ErrorResponse erro = new ErrorResponse(
+                "Token de sessão inválido ou expirado",
+                HttpStatus.UNAUTHORIZED.value(),
+                "Não Autorizado",
+                request.getRequestURI()
+        );
+        response.setStatus(HttpStatus.UNAUTHORIZED.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), erro);
+    }
+}
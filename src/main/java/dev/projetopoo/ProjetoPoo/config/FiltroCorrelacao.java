@@ -0,0 +1,30 @@
+package dev.projetopoo.ProjetoPoo.config;
+
+import java.io.IOException;
+
+import org.slf4j.MDC;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import dev.projetopoo.ProjetoPoo.services.log.Correlacao;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// Abre o id de correlação da requisição (o do cabeçalho X-Correlation-Id ou um novo), devolve no
+// mesmo cabeçalho da resposta e o mantém no MDC enquanto a requisição é atendida
+public class FiltroCorrelacao extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String correlacaoId = Correlacao.resolver(request.getHeader(Correlacao.CABECALHO));
+        response.setHeader(Correlacao.CABECALHO, correlacaoId);
+        MDC.put(Correlacao.CHAVE_MDC, correlacaoId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(Correlacao.CHAVE_MDC);
+        }
+    }
+}
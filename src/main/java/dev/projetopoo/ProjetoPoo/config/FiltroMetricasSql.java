@@ -0,0 +1,129 @@
+package dev.projetopoo.ProjetoPoo.config;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dev.projetopoo.ProjetoPoo.dto.ErrorResponse;
+import dev.projetopoo.ProjetoPoo.services.metricas.ConsultasRequisicao;
+import dev.projetopoo.ProjetoPoo.services.metricas.ContadorSql;
+import dev.projetopoo.ProjetoPoo.services.metricas.OrcamentoSql;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// Registra quantos comandos SQL cada requisição executou, com as mesmas tags (method, uri, status)
+// de http.server.requests, para cruzar a latência de um endpoint com o volume de consultas dele,
+// e confere o total contra o orçamento SQL. A serialização da resposta fica dentro da medição.
+// No modo "falhar" a resposta fica retida até o fim, para poder ser trocada pelo erro do orçamento.
+// Respostas assíncronas (StreamingResponseBody) só terminam depois do primeiro despacho: como no
+// ShallowEtagHeaderFilter, o corpo retido é devolvido no despacho assíncrono, e o orçamento não as derruba.
+public class FiltroMetricasSql extends OncePerRequestFilter {
+
+    public static final String METRICA = "http.server.requests.sql";
+
+    private final ContadorSql contadorSql;
+    private final OrcamentoSql orcamentoSql;
+    private final MeterRegistry registry;
+    private final ObjectMapper objectMapper;
+    private final Map<String, DistributionSummary> resumos = new ConcurrentHashMap<>();
+
+    public FiltroMetricasSql(ContadorSql contadorSql, OrcamentoSql orcamentoSql, MeterRegistry registry, ObjectMapper objectMapper) {
+        this.contadorSql = contadorSql;
+        this.orcamentoSql = orcamentoSql;
+        this.registry = registry;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (isAsyncDispatch(request)) {
+            // A medição já foi registrada no primeiro despacho; aqui só falta devolver o corpo retido, se houver
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                ContentCachingResponseWrapper retida = WebUtils.getNativeResponse(response, ContentCachingResponseWrapper.class);
+                if (retida != null && !request.isAsyncStarted()) {
+                    retida.copyBodyToResponse();
+                }
+            }
+            return;
+        }
+
+        if (!orcamentoSql.isFalhar()) {
+            medir(request, response, filterChain);
+            return;
+        }
+
+        ContentCachingResponseWrapper retida = new ContentCachingResponseWrapper(response);
+        try {
+            ConsultasRequisicao consultas = medir(request, retida, filterChain);
+            if (consultas.getComandos() > orcamentoSql.getLimite() && !retida.isCommitted() && !request.isAsyncStarted()) {
+                recusar(request, retida, consultas);
+            }
+        } finally {
+            if (!request.isAsyncStarted()) {
+                retida.copyBodyToResponse();
+            }
+        }
+    }
+
+    private ConsultasRequisicao medir(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ConsultasRequisicao consultas;
+        contadorSql.iniciar();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            consultas = contadorSql.encerrar();
+            Object padrao = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String rota = padrao == null ? "UNKNOWN" : padrao.toString();
+            resumo(request.getMethod(), rota, response.getStatus()).record(consultas.getComandos());
+            orcamentoSql.avaliar(request.getMethod(), rota, consultas);
+        }
+        return consultas;
+    }
+
+    private void recusar(HttpServletRequest request, HttpServletResponse response, ConsultasRequisicao consultas) throws IOException {
+        ErrorResponse erro = new ErrorResponse(
+                orcamentoSql.descreverExcesso(consultas),
+                HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                "Orçamento SQL Excedido",
+                request.getRequestURI()
+        );
+        // Só o corpo retido é descartado; cabeçalhos já definidos (como o id de correlação) continuam
+        response.resetBuffer();
+        response.setStatus(HttpStatus.INTERNAL_SERVER_ERROR.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), erro);
+    }
+
+    // As rotas são os padrões do mapeamento, então o número de combinações é limitado
+    private DistributionSummary resumo(String metodo, String rota, int status) {
+        return resumos.computeIfAbsent(metodo + ' ' + rota + '|' + status, chave -> DistributionSummary.builder(METRICA)
+                .description("Comandos SQL do Hibernate por requisição")
+                .tag("method", metodo)
+                .tag("uri", rota)
+                .tag("status", String.valueOf(status))
+                .register(registry));
+    }
+}
@@ -0,0 +1,48 @@
+package dev.projetopoo.ProjetoPoo.config;
+
+import java.time.Duration;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.task.TaskDecorator;
+
+import dev.projetopoo.ProjetoPoo.services.log.AmostragemConsultasLentas;
+import dev.projetopoo.ProjetoPoo.services.log.Correlacao;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class LogConfig {
+
+    // Primeiro filtro da cadeia, para que todo log da requisição já saia com o correlacaoId
+    @Bean
+    public FilterRegistrationBean<FiltroCorrelacao> filtroCorrelacao() {
+        FilterRegistrationBean<FiltroCorrelacao> registro = new FilterRegistrationBean<>(new FiltroCorrelacao());
+        registro.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registro;
+    }
+
+    // Aplicado pelo Spring Boot ao executor de tarefas assíncronas (ex.: respostas em streaming)
+    @Bean
+    public TaskDecorator correlacaoNasTarefas() {
+        return Correlacao::envolver;
+    }
+
+    // O Hibernate cronometra cada comando e avisa os lentos no logger org.hibernate.SQL_SLOW
+    @Bean
+    public HibernatePropertiesCustomizer limiteConsultasLentas(@Value("${sql.lenta.limite:200ms}") Duration limite) {
+        return propriedades -> propriedades.put(AvailableSettings.LOG_SLOW_QUERY, limite.toMillis());
+    }
+
+    @Bean(destroyMethod = "desinstalar")
+    public AmostragemConsultasLentas amostragemConsultasLentas(@Value("${sql.lenta.amostragem:0.1}") double amostragem,
+                                                               MeterRegistry registry) {
+        AmostragemConsultasLentas filtro = new AmostragemConsultasLentas(amostragem, registry);
+        filtro.instalar();
+        return filtro;
+    }
+}
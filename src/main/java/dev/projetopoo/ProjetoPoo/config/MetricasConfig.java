@@ -0,0 +1,33 @@
+package dev.projetopoo.ProjetoPoo.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dev.projetopoo.ProjetoPoo.services.metricas.ContadorSql;
+import dev.projetopoo.ProjetoPoo.services.metricas.OrcamentoSql;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class MetricasConfig {
+
+    // O Hibernate usa a instância do contexto, não uma criada por reflexão
+    @Bean
+    public HibernatePropertiesCustomizer inspetorSql(ContadorSql contadorSql) {
+        return propriedades -> propriedades.put(AvailableSettings.STATEMENT_INSPECTOR, contadorSql);
+    }
+
+    @Bean
+    public FilterRegistrationBean<FiltroMetricasSql> filtroMetricasSql(ContadorSql contadorSql, OrcamentoSql orcamentoSql,
+                                                                       MeterRegistry registry, ObjectMapper objectMapper) {
+        FilterRegistrationBean<FiltroMetricasSql> registro = new FilterRegistrationBean<>(
+                new FiltroMetricasSql(contadorSql, orcamentoSql, registry, objectMapper));
+        registro.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        return registro;
+    }
+}
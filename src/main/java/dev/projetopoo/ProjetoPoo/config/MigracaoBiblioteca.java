@@ -0,0 +1,64 @@
+package dev.projetopoo.ProjetoPoo.config;
+
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+
+// Preenche a data de aquisição das linhas de biblioteca criadas antes da coluna existir,
+// usando a compra mais recente não reembolsada do jogo. Sem compra correspondente, fica a data da migração.
+// Depois disso a coluna passa a ser NOT NULL, com a data atual como padrão.
+// Também garante no máximo uma linha por jogo em cada biblioteca: tabelas criadas sem chave primária podiam receber
+// o mesmo jogo duas vezes; as duplicadas são reduzidas a uma, com a data de aquisição mais antiga.
+// Roda na inicialização do contexto, antes de o servidor aceitar requisições.
+@Component
+@DependsOn("entityManagerFactory")
+public class MigracaoBiblioteca {
+
+    private static final Logger log = LoggerFactory.getLogger(MigracaoBiblioteca.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public MigracaoBiblioteca(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    void migrar() {
+        int migradas = jdbcTemplate.update("UPDATE biblioteca_jogos SET data_aquisicao = COALESCE(" +
+                "(SELECT MAX(c.data_compra) FROM buy c " +
+                "JOIN compra_jogos cj ON cj.compra_id = c.id " +
+                "JOIN library l ON l.usuario_id = c.usuario_id " +
+                "WHERE l.id = biblioteca_jogos.biblioteca_id AND cj.jogo_id = biblioteca_jogos.jogo_id AND c.reembolsado = false), " +
+                "CURRENT_TIMESTAMP) " +
+                "WHERE data_aquisicao IS NULL");
+        jdbcTemplate.execute("ALTER TABLE biblioteca_jogos ALTER COLUMN data_aquisicao SET DEFAULT CURRENT_TIMESTAMP");
+        jdbcTemplate.execute("ALTER TABLE biblioteca_jogos ALTER COLUMN data_aquisicao SET NOT NULL");
+
+        if (migradas > 0) {
+            log.info("{} jogo(s) de biblioteca com data de aquisição preenchida", migradas);
+        }
+
+        List<Map<String, Object>> duplicadas = jdbcTemplate.queryForList("SELECT biblioteca_id, jogo_id, MIN(data_aquisicao) AS data_aquisicao " +
+                "FROM biblioteca_jogos GROUP BY biblioteca_id, jogo_id HAVING COUNT(*) > 1");
+        for (Map<String, Object> linha : duplicadas) {
+            Object bibliotecaId = linha.get("biblioteca_id");
+            Object jogoId = linha.get("jogo_id");
+            jdbcTemplate.update("DELETE FROM biblioteca_jogos WHERE biblioteca_id = ? AND jogo_id = ?", bibliotecaId, jogoId);
+            jdbcTemplate.update("INSERT INTO biblioteca_jogos (biblioteca_id, jogo_id, data_aquisicao) VALUES (?, ?, ?)",
+                    bibliotecaId, jogoId, linha.get("data_aquisicao"));
+        }
+
+        jdbcTemplate.execute("CREATE UNIQUE INDEX IF NOT EXISTS uk_biblioteca_jogos ON biblioteca_jogos (biblioteca_id, jogo_id)");
+
+        if (!duplicadas.isEmpty()) {
+            log.info("{} jogo(s) duplicados em bibliotecas foram removidos", duplicadas.size());
+        }
+    }
+}
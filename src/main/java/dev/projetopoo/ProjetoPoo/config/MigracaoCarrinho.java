@@ -0,0 +1,53 @@
+package dev.projetopoo.ProjetoPoo.config;
+
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import dev.projetopoo.ProjetoPoo.repository.CarrinhoRepository;
+import jakarta.annotation.PostConstruct;
+
+// Garante no máximo uma linha por jogo em cada carrinho. Bancos criados quando a coleção era uma List não têm
+// chave primária em carrinho_jogos, e adições concorrentes podiam duplicar a linha (cobrando o jogo duas vezes
+// no total); as duplicadas são reduzidas a uma e o total refeito.
+// Roda na inicialização do contexto, antes de o servidor aceitar requisições.
+@Component
+@DependsOn("entityManagerFactory")
+public class MigracaoCarrinho {
+
+    private static final Logger log = LoggerFactory.getLogger(MigracaoCarrinho.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public MigracaoCarrinho(JdbcTemplate jdbcTemplate, NamedParameterJdbcTemplate namedJdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+    }
+
+    @PostConstruct
+    void migrar() {
+        List<Map<String, Object>> duplicadas = jdbcTemplate.queryForList("SELECT carrinho_id, jogo_id FROM carrinho_jogos " +
+                "GROUP BY carrinho_id, jogo_id HAVING COUNT(*) > 1");
+        for (Map<String, Object> linha : duplicadas) {
+            Object carrinhoId = linha.get("carrinho_id");
+            Object jogoId = linha.get("jogo_id");
+            jdbcTemplate.update("DELETE FROM carrinho_jogos WHERE carrinho_id = ? AND jogo_id = ?", carrinhoId, jogoId);
+            jdbcTemplate.update("INSERT INTO carrinho_jogos (carrinho_id, jogo_id) VALUES (?, ?)", carrinhoId, jogoId);
+            namedJdbcTemplate.update("UPDATE cart SET valor_total_centavos = (" + CarrinhoRepository.SOMA_ITENS + ") WHERE id = :carrinhoId",
+                    Map.of("carrinhoId", carrinhoId));
+        }
+
+        jdbcTemplate.execute("CREATE UNIQUE INDEX IF NOT EXISTS uk_carrinho_jogos ON carrinho_jogos (carrinho_id, jogo_id)");
+
+        if (!duplicadas.isEmpty()) {
+            log.info("{} jogo(s) duplicados em carrinhos foram removidos", duplicadas.size());
+        }
+    }
+}
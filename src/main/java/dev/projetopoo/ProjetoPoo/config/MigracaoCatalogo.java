@@ -0,0 +1,45 @@
+package dev.projetopoo.ProjetoPoo.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+
+// Restrições do catálogo que o schema update do Hibernate não aplica em tabelas já existentes.
+// Roda na inicialização do contexto, antes de o servidor aceitar requisições.
+@Component
+@DependsOn("entityManagerFactory")
+public class MigracaoCatalogo {
+
+    private static final Logger log = LoggerFactory.getLogger(MigracaoCatalogo.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public MigracaoCatalogo(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    void migrar() {
+        // A paginação por lançamento usa (data_lancamento, id) como cursor, então a data não pode faltar
+        int preenchidas = jdbcTemplate.update("UPDATE jogo_table SET data_lancamento = CURRENT_DATE WHERE data_lancamento IS NULL");
+        jdbcTemplate.execute("ALTER TABLE jogo_table ALTER COLUMN data_lancamento SET NOT NULL");
+
+        if (preenchidas > 0) {
+            log.info("Datas de lançamento ausentes foram preenchidas em {} jogo(s)", preenchidas);
+        }
+
+        // A importação depende do índice único para pular nomes já cadastrados (ON CONFLICT DO NOTHING).
+        // Nomes repetidos antigos não são renomeados aqui: qual jogo fica com o nome é decisão de quem administra o catálogo.
+        Long repetidos = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM (SELECT nome FROM jogo_table " +
+                "WHERE nome IS NOT NULL GROUP BY nome HAVING COUNT(*) > 1) r", Long.class);
+        if (repetidos != null && repetidos > 0) {
+            log.warn("{} nome(s) de jogo repetidos impedem o índice único uk_jogo_nome; a importação não detectará nomes já cadastrados", repetidos);
+        } else {
+            jdbcTemplate.execute("CREATE UNIQUE INDEX IF NOT EXISTS uk_jogo_nome ON jogo_table (nome)");
+        }
+    }
+}
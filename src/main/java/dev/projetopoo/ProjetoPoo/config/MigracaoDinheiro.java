@@ -0,0 +1,79 @@
+package dev.projetopoo.ProjetoPoo.config;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+
+// Copia os valores monetários antigos (double em reais) para as colunas em centavos.
+// Roda na inicialização do contexto, logo depois do schema update do Hibernate e antes de o servidor
+// aceitar requisições; linhas já migradas são ignoradas, então pode rodar a cada subida.
+@Component
+@DependsOn("entityManagerFactory")
+public class MigracaoDinheiro {
+
+    private static final Logger log = LoggerFactory.getLogger(MigracaoDinheiro.class);
+
+    private static final String[][] COLUNAS = {
+            {"jogo_table", "preco", "preco_centavos"},
+            {"cart", "valor_total", "valor_total_centavos"},
+            {"wallet", "valor", "valor_centavos"},
+            {"buy", "valor", "valor_centavos"},
+            {"wallet_transaction", "valor", "valor_centavos"},
+            {"wallet_transaction", "saldo_apos", "saldo_apos_centavos"}
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
+
+    public MigracaoDinheiro(JdbcTemplate jdbcTemplate, DataSource dataSource) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSource = dataSource;
+    }
+
+    @PostConstruct
+    void migrar() throws SQLException {
+        for (String[] coluna : COLUNAS) {
+            String tabela = coluna[0];
+            String antiga = coluna[1];
+            String nova = coluna[2];
+
+            if (!colunaExiste(tabela, antiga)) {
+                continue;
+            }
+
+            int migradas = jdbcTemplate.update("UPDATE " + tabela + " SET " + nova + " = ROUND(" + antiga + " * 100) " +
+                    "WHERE " + nova + " IS NULL AND " + antiga + " IS NOT NULL");
+            // A coluna antiga era NOT NULL (double primitivo); novas linhas não a preenchem mais
+            jdbcTemplate.execute("ALTER TABLE " + tabela + " ALTER COLUMN " + antiga + " DROP NOT NULL");
+
+            if (migradas > 0) {
+                log.info("{} linha(s) de {}.{} convertidas para centavos", migradas, tabela, antiga);
+            }
+        }
+    }
+
+    private boolean colunaExiste(String tabela, String coluna) throws SQLException {
+        try (Connection conexao = dataSource.getConnection()) {
+            DatabaseMetaData metaData = conexao.getMetaData();
+            try (ResultSet minusculas = metaData.getColumns(null, null, tabela, coluna)) {
+                if (minusculas.next()) {
+                    return true;
+                }
+            }
+            try (ResultSet maiusculas = metaData.getColumns(null, null, tabela.toUpperCase(), coluna.toUpperCase())) {
+                return maiusculas.next();
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package dev.projetopoo.ProjetoPoo.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+
+// Carteiras anteriores ao extrato recebem um lançamento de saldo inicial para que a soma do extrato feche com o saldo.
+// Roda na inicialização do contexto, depois da migração para centavos e antes de o servidor aceitar requisições:
+// um débito concorrente não chega a ver a carteira ainda sem extrato.
+@Component
+@DependsOn({"entityManagerFactory", "migracaoDinheiro"})
+public class MigracaoExtrato {
+
+    private static final Logger log = LoggerFactory.getLogger(MigracaoExtrato.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public MigracaoExtrato(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    void migrar() {
+        int carteiras = jdbcTemplate.update("INSERT INTO wallet_transaction " +
+                "(usuario_id, tipo, valor_centavos, saldo_apos_centavos, data_movimentacao) " +
+                "SELECT c.usuario_id, 'SALDO_INICIAL', c.valor_centavos, c.valor_centavos, CURRENT_TIMESTAMP FROM wallet c " +
+                "WHERE c.valor_centavos <> 0 AND NOT EXISTS " +
+                "(SELECT 1 FROM wallet_transaction m WHERE m.usuario_id = c.usuario_id)");
+
+        if (carteiras > 0) {
+            log.info("Saldo inicial registrado no extrato de {} carteira(s)", carteiras);
+        }
+    }
+}
@@ -1,65 +1,105 @@
 package dev.projetopoo.ProjetoPoo.config;
 
 import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.NoOpPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dev.projetopoo.ProjetoPoo.services.sessao.TokenSessao;
+
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
+    // Novas senhas saem como "{bcrypt}..."; valores sem prefixo são as senhas antigas em texto puro,
+    // aceitas só para conferência e recodificadas no próximo login
     @Bean
-    public UserDetailsService userDetailsService() {
-        UserDetails user = User
-                .withUsername("user")
-                .password("password")
-                .roles("USER")
-                .build();
-
-        return new InMemoryUserDetailsManager(user);
-    }
-
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return NoOpPasswordEncoder.getInstance();
+    @SuppressWarnings("deprecation")
+    public PasswordEncoder passwordEncoder(@Value("${senha.bcrypt.custo:10}") int custo) {
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder("bcrypt",
+                Map.of("bcrypt", new BCryptPasswordEncoder(custo)));
+        encoder.setDefaultPasswordEncoderForMatches(NoOpPasswordEncoder.getInstance());
+        return encoder;
     }
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, TokenSessao tokenSessao, ObjectMapper objectMapper,
+                                                   @Value("${sessao.exigir-autenticacao:true}") boolean exigirAutenticacao,
+                                                   @Value("${sessao.administradores:}") String administradores) throws Exception {
         http
                 .csrf(csrf -> csrf.disable())
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
-                .authorizeHttpRequests(auth -> auth
-                        .requestMatchers(
-                                "/user", "/user/**",
-                                "/jogo", "/jogo/**",
-                                "/wallet", "/wallet/**",
-                                "/cart", "/cart/**",
-                                "/compras", "/compras/**",
-                                "/library", "/library/**",
-                                "/avaliacao", "/avaliacao/**"
-                        ).permitAll()
-                        .anyRequest().permitAll()
-                )
-                .formLogin(form -> form.permitAll())
-                .logout(logout -> logout.permitAll());
+                // A sessão vive no token; nada de HttpSession no servidor
+                .sessionManagement(sessao -> sessao.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .addFilterBefore(new FiltroAutenticacaoToken(tokenSessao, objectMapper, emails(administradores)),
+                        UsernamePasswordAuthenticationFilter.class)
+                .authorizeHttpRequests(auth -> {
+                    // Alterações do catálogo (uma a uma ou pela importação) e a reconstrução dos resumos: só administradores, nos dois modos
+                    auth
+                            .requestMatchers(HttpMethod.POST, "/jogo", "/jogo/importacao", "/avaliacao/resumos/reconstruir").hasRole("ADMIN")
+                            .requestMatchers(HttpMethod.PUT, "/jogo/**").hasRole("ADMIN")
+                            .requestMatchers(HttpMethod.DELETE, "/jogo/**").hasRole("ADMIN");
+                    if (exigirAutenticacao) {
+                        auth
+                                .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+                                // O actuator só escuta em 127.0.0.1 (management.server.address)
+                                .requestMatchers(EndpointRequest.toAnyEndpoint()).permitAll()
+                                .requestMatchers(HttpMethod.POST, "/user", "/user/login").permitAll()
+                                .requestMatchers(HttpMethod.GET, "/jogo", "/jogo/**", "/avaliacao", "/avaliacao/**").permitAll()
+                                .anyRequest().authenticated();
+                    } else {
+                        auth
+                                .requestMatchers(
+                                        "/user", "/user/**",
+                                        "/jogo", "/jogo/**",
+                                        "/wallet", "/wallet/**",
+                                        "/cart", "/cart/**",
+                                        "/compras", "/compras/**",
+                                        "/library", "/library/**",
+                                        "/avaliacao", "/avaliacao/**"
+                                ).permitAll()
+                                .anyRequest().permitAll();
+                    }
+                })
+                // Sem token em rota protegida é 401, não o 403 padrão
+                .exceptionHandling(erros -> erros.authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
+                .formLogin(form -> form.disable())
+                .httpBasic(basic -> basic.disable())
+                .logout(logout -> logout.disable());
 
         return http.build();
     }
 
+    private static Set<String> emails(String lista) {
+        return Arrays.stream(lista.split(","))
+                .map(email -> email.trim().toLowerCase(Locale.ROOT))
+                .filter(email -> !email.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
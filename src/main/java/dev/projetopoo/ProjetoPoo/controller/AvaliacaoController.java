@@ -2,10 +2,16 @@ package dev.projetopoo.ProjetoPoo.controller;
 
 
 import dev.projetopoo.ProjetoPoo.dto.AvaliacaoDTO;
+import dev.projetopoo.ProjetoPoo.dto.AvaliacaoItemDTO;
+import dev.projetopoo.ProjetoPoo.dto.PaginaCursor;
 import dev.projetopoo.ProjetoPoo.model.Avaliacao;
+import dev.projetopoo.ProjetoPoo.model.AvaliacaoResumo;
 import dev.projetopoo.ProjetoPoo.services.AvaliacaoServices;
+import dev.projetopoo.ProjetoPoo.services.sessao.ControleAcesso;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -21,6 +27,7 @@ public class AvaliacaoController {
 
     @PostMapping("/avaliacoes/usuario/{usuarioId}/jogo/{jogoId}")
     public ResponseEntity<Avaliacao> criarAvaliacao(@PathVariable Long usuarioId, @PathVariable Long jogoId, @RequestBody AvaliacaoDTO body) {
+        ControleAcesso.exigirDono(usuarioId);
         Avaliacao avaliacao = avaliacaoServices.avaliar(usuarioId, jogoId, body.nota, body.comentario);
 
         return ResponseEntity.ok(avaliacao);
@@ -31,8 +38,36 @@ public class AvaliacaoController {
         return avaliacaoServices.getAvaliacoesPorJogo(jogoId);
     }
 
+    @GetMapping("/jogo/{jogoId}/pagina")
+    public PaginaCursor<AvaliacaoItemDTO> getAvaliacoesPaginadas(@PathVariable Long jogoId,
+                                                                @RequestParam(required = false) String ordenacao,
+                                                                @RequestParam(required = false) String cursor,
+                                                                @RequestParam(required = false) Integer tamanho) {
+        return avaliacaoServices.listarAvaliacoesPaginadas(jogoId, ordenacao, cursor, tamanho);
+    }
+
+    @GetMapping("/jogo/{jogoId}/exportar")
+    public ResponseEntity<StreamingResponseBody> exportarAvaliacoes(@PathVariable Long jogoId) {
+        StreamingResponseBody corpo = saida -> avaliacaoServices.exportarAvaliacoes(jogoId, saida);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(corpo);
+    }
+
+    @GetMapping("/jogo/{jogoId}/resumo")
+    public AvaliacaoResumo getResumoPorJogo(@PathVariable Long jogoId) {
+        return avaliacaoServices.getResumoPorJogo(jogoId);
+    }
+
+    @PostMapping("/resumos/reconstruir")
+    public ResponseEntity<Void> reconstruirResumos() {
+        avaliacaoServices.reconstruirResumos();
+        return ResponseEntity.ok().build();
+    }
+
     @DeleteMapping("/{avaliacaoId}")
     public ResponseEntity<Void> deletarAvaliacao(@PathVariable Long avaliacaoId) {
+        avaliacaoServices.buscarAutor(avaliacaoId).ifPresent(ControleAcesso::exigirDono);
         avaliacaoServices.deletarAvaliacao(avaliacaoId);
         return ResponseEntity.ok().build();
     }
@@ -1,10 +1,14 @@
 package dev.projetopoo.ProjetoPoo.controller;
 
+import dev.projetopoo.ProjetoPoo.dto.BibliotecaItemDTO;
+import dev.projetopoo.ProjetoPoo.dto.PaginaCursor;
 import dev.projetopoo.ProjetoPoo.model.Jogo;
 import dev.projetopoo.ProjetoPoo.services.BibliotecaServices;
+import dev.projetopoo.ProjetoPoo.services.sessao.ControleAcesso;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -21,7 +25,18 @@ public class BibliotecaController {
 
     @GetMapping("/usuario/{usuarioId}/jogos")
     public List<Jogo> getBibliotecaById(@PathVariable Long usuarioId) {
+        ControleAcesso.exigirDono(usuarioId);
         return bibliotecaServices.listarJogosUsuario(usuarioId);
     }
 
+    @GetMapping("/usuario/{usuarioId}/jogos/pagina")
+    public PaginaCursor<BibliotecaItemDTO> getBibliotecaPaginada(@PathVariable Long usuarioId,
+                                                                 @RequestParam(required = false) String ordenacao,
+                                                                 @RequestParam(required = false) String genero,
+                                                                 @RequestParam(required = false) String cursor,
+                                                                 @RequestParam(required = false) Integer tamanho) {
+        ControleAcesso.exigirDono(usuarioId);
+        return bibliotecaServices.listarJogosPaginados(usuarioId, ordenacao, genero, cursor, tamanho);
+    }
+
 }
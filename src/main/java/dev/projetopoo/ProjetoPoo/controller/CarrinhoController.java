@@ -2,8 +2,10 @@ package dev.projetopoo.ProjetoPoo.controller;
 
 
 import dev.projetopoo.ProjetoPoo.dto.AddJogoRequest;
+import dev.projetopoo.ProjetoPoo.dto.CarrinhoLoteRequest;
 import dev.projetopoo.ProjetoPoo.model.Jogo;
 import dev.projetopoo.ProjetoPoo.services.CarrinhoServices;
+import dev.projetopoo.ProjetoPoo.services.sessao.ControleAcesso;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -22,6 +24,7 @@ public class CarrinhoController {
     @PostMapping("/usuario/{usuarioId}/jogos")
     public ResponseEntity<Void> adicionarJogo(@PathVariable Long usuarioId,
                                               @RequestBody AddJogoRequest body) {
+        ControleAcesso.exigirDono(usuarioId);
         services.adicionarJogo(usuarioId, body.jogoId);
         return ResponseEntity.ok().build();
     }
@@ -29,12 +32,22 @@ public class CarrinhoController {
     @DeleteMapping("/usuario/{usuarioId}/jogos/{jogoId}")
     public ResponseEntity<Void> removerJogo(@PathVariable Long usuarioId,
                                             @PathVariable Long jogoId) {
+        ControleAcesso.exigirDono(usuarioId);
         services.removerJogo(usuarioId, jogoId);
         return ResponseEntity.ok().build();
     }
 
+    @PostMapping("/usuario/{usuarioId}/jogos/lote")
+    public ResponseEntity<Void> atualizarEmLote(@PathVariable Long usuarioId,
+                                                @RequestBody CarrinhoLoteRequest body) {
+        ControleAcesso.exigirDono(usuarioId);
+        services.atualizarEmLote(usuarioId, body.adicionar, body.remover);
+        return ResponseEntity.ok().build();
+    }
+
     @GetMapping("/usuario/{usuarioId}/jogos")
     public List<Jogo> getJogos(@PathVariable Long usuarioId) {
+        ControleAcesso.exigirDono(usuarioId);
         return services.getJogos(usuarioId);
     }
 
@@ -1,8 +1,12 @@
 package dev.projetopoo.ProjetoPoo.controller;
 
 
+import dev.projetopoo.ProjetoPoo.dto.PaginaCursor;
 import dev.projetopoo.ProjetoPoo.dto.ValorRequest;
+import dev.projetopoo.ProjetoPoo.model.Dinheiro;
+import dev.projetopoo.ProjetoPoo.model.MovimentacaoCarteira;
 import dev.projetopoo.ProjetoPoo.services.CarteiraServices;
+import dev.projetopoo.ProjetoPoo.services.sessao.ControleAcesso;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -18,16 +22,32 @@ public class CarteiraController {
     }
 
     @PostMapping("/{userId}")
-    public ResponseEntity<Double> adicionarValor(@PathVariable Long userId, @RequestBody ValorRequest request) {
-        double novoSaldo = carteiraServices.adicionarValor(userId, request.valor);
+    public ResponseEntity<Dinheiro> adicionarValor(@PathVariable Long userId, @RequestBody ValorRequest request) {
+        ControleAcesso.exigirDono(userId);
+        Dinheiro novoSaldo = carteiraServices.adicionarValor(userId, Dinheiro.deReais(request.valor));
         return ResponseEntity.ok(novoSaldo);
     }
     
     @GetMapping("/{userId}")
-    public ResponseEntity<Double> verSaldo(@PathVariable Long userId) {
-        double saldo = carteiraServices.verSaldo(userId);
+    public ResponseEntity<Dinheiro> verSaldo(@PathVariable Long userId) {
+        ControleAcesso.exigirDono(userId);
+        Dinheiro saldo = carteiraServices.verSaldo(userId);
         return ResponseEntity.ok(saldo);
     }
 
+    @GetMapping("/{userId}/movimentacoes")
+    public PaginaCursor<MovimentacaoCarteira> listarMovimentacoes(@PathVariable Long userId,
+                                                                  @RequestParam(required = false) String cursor,
+                                                                  @RequestParam(required = false) Integer tamanho) {
+        ControleAcesso.exigirDono(userId);
+        return carteiraServices.listarMovimentacoes(userId, cursor, tamanho);
+    }
+
+    @GetMapping("/{userId}/extrato/saldo")
+    public ResponseEntity<Dinheiro> saldoPeloExtrato(@PathVariable Long userId) {
+        ControleAcesso.exigirDono(userId);
+        return ResponseEntity.ok(carteiraServices.saldoPeloExtrato(userId));
+    }
+
 
 }
@@ -1,42 +1,83 @@
 package dev.projetopoo.ProjetoPoo.controller;
 
 
+import dev.projetopoo.ProjetoPoo.dto.CompraItemDTO;
+import dev.projetopoo.ProjetoPoo.dto.PaginaCursor;
+import dev.projetopoo.ProjetoPoo.dto.ResumoCompras;
 import dev.projetopoo.ProjetoPoo.model.Compra;
 import dev.projetopoo.ProjetoPoo.services.CompraServices;
+import dev.projetopoo.ProjetoPoo.services.idempotencia.RegistroIdempotencia;
+import dev.projetopoo.ProjetoPoo.services.sessao.ControleAcesso;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
 @RequestMapping("/compras")
 public class CompraController {
 
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
     private final CompraServices compraServices;
+    private final RegistroIdempotencia registroIdempotencia;
 
-    public CompraController(CompraServices compraServices) {
+    public CompraController(CompraServices compraServices, RegistroIdempotencia registroIdempotencia) {
         this.compraServices = compraServices;
+        this.registroIdempotencia = registroIdempotencia;
     }
 
     @PostMapping("/{usuarioId}")
-    public Compra efetuarCompra(@PathVariable Long usuarioId) {
-        return compraServices.efetuarCompra(usuarioId);
+    public Compra efetuarCompra(@PathVariable Long usuarioId,
+                                @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String chave) {
+        ControleAcesso.exigirDono(usuarioId);
+        return registroIdempotencia.executar("compra", usuarioId, chave,
+                () -> compraServices.efetuarCompra(usuarioId));
     }
 
     @PostMapping("/{compraId}/reembolso")
-    public ResponseEntity<Void> efetuarReembolso(@PathVariable Long compraId) {
-        compraServices.efetuarReembolso(compraId);
+    public ResponseEntity<Void> efetuarReembolso(@PathVariable Long compraId,
+                                                 @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String chave) {
+        compraServices.buscarDono(compraId).ifPresent(ControleAcesso::exigirDono);
+        registroIdempotencia.executar("reembolso", compraId, chave, () -> {
+            compraServices.efetuarReembolso(compraId);
+            return Boolean.TRUE;
+        });
         return ResponseEntity.ok().build();
     }
 
     @GetMapping("/usuario/{usuarioId}")
     public List<Compra> getComprasPorUsuario(@PathVariable Long usuarioId) {
+        ControleAcesso.exigirDono(usuarioId);
         return compraServices.getComprasPorUsuario(usuarioId);
     }
 
+    @GetMapping("/usuario/{usuarioId}/pagina")
+    public PaginaCursor<CompraItemDTO> getHistoricoPaginado(@PathVariable Long usuarioId,
+                                                            @RequestParam(required = false) Boolean reembolsado,
+                                                            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate de,
+                                                            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate ate,
+                                                            @RequestParam(required = false) String cursor,
+                                                            @RequestParam(required = false) Integer tamanho) {
+        ControleAcesso.exigirDono(usuarioId);
+        return compraServices.listarHistorico(usuarioId, reembolsado, de, ate, cursor, tamanho);
+    }
+
+    @GetMapping("/usuario/{usuarioId}/resumo")
+    public ResumoCompras getResumoCompras(@PathVariable Long usuarioId,
+                                          @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate de,
+                                          @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate ate) {
+        ControleAcesso.exigirDono(usuarioId);
+        return compraServices.resumirCompras(usuarioId, de, ate);
+    }
+
     @GetMapping("/{compraId}")
     public Compra getCompraPorId(@PathVariable Long compraId) {
-        return compraServices.getCompraPorId(compraId);
+        Compra compra = compraServices.getCompraPorId(compraId);
+        ControleAcesso.exigirDono(compra.getUsuario().getId());
+        return compra;
     }
 
 }
@@ -1,9 +1,29 @@
 package dev.projetopoo.ProjetoPoo.controller;
 
+import dev.projetopoo.ProjetoPoo.dto.CacheEstatisticas;
+import dev.projetopoo.ProjetoPoo.dto.JogoMaisVendido;
+import dev.projetopoo.ProjetoPoo.dto.PaginaCursor;
+import dev.projetopoo.ProjetoPoo.dto.RecomendacaoJogo;
+import dev.projetopoo.ProjetoPoo.dto.RelatorioImportacao;
+import dev.projetopoo.ProjetoPoo.dto.ResultadoBusca;
+import dev.projetopoo.ProjetoPoo.dto.SugestaoJogo;
+import dev.projetopoo.ProjetoPoo.model.Dinheiro;
 import dev.projetopoo.ProjetoPoo.model.Jogo;
 import dev.projetopoo.ProjetoPoo.services.JogoService;
+import dev.projetopoo.ProjetoPoo.services.RecomendacaoServices;
+import dev.projetopoo.ProjetoPoo.services.busca.FiltroBusca;
+import dev.projetopoo.ProjetoPoo.services.catalogo.FormatoCatalogo;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -11,9 +31,11 @@ import java.util.List;
 public class JogoController {
 
     private final JogoService jogoService;
+    private final RecomendacaoServices recomendacaoServices;
 
-    public JogoController(JogoService jogoService) {
+    public JogoController(JogoService jogoService, RecomendacaoServices recomendacaoServices) {
         this.jogoService = jogoService;
+        this.recomendacaoServices = recomendacaoServices;
     }
 
     @GetMapping
@@ -21,16 +43,83 @@ public class JogoController {
         return jogoService.getJogos();
     }
 
+    @GetMapping("/pagina")
+    public PaginaCursor<Jogo> getJogosPaginados(@RequestParam(required = false) String ordenacao,
+                                                @RequestParam(required = false) String cursor,
+                                                @RequestParam(required = false) Integer tamanho) {
+        return jogoService.listarJogosPaginados(ordenacao, cursor, tamanho);
+    }
+
+    @GetMapping("/busca")
+    public ResultadoBusca buscarJogos(@RequestParam(required = false) String q,
+                                      @RequestParam(required = false) String genero,
+                                      @RequestParam(required = false) BigDecimal precoMin,
+                                      @RequestParam(required = false) BigDecimal precoMax,
+                                      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate lancamentoDe,
+                                      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate lancamentoAte,
+                                      @RequestParam(required = false) Integer pagina,
+                                      @RequestParam(required = false) Integer tamanho) {
+        FiltroBusca filtro = new FiltroBusca();
+        filtro.setTexto(q);
+        filtro.setGenero(genero);
+        filtro.setPrecoMinimo(precoMin == null ? null : Dinheiro.deReais(precoMin));
+        filtro.setPrecoMaximo(precoMax == null ? null : Dinheiro.deReais(precoMax));
+        filtro.setLancamentoDe(lancamentoDe);
+        filtro.setLancamentoAte(lancamentoAte);
+        return jogoService.buscarJogos(filtro, pagina, tamanho);
+    }
+
+    @GetMapping("/sugestoes")
+    public List<SugestaoJogo> sugerirJogos(@RequestParam(required = false) String q,
+                                           @RequestParam(required = false) String ordenacao,
+                                           @RequestParam(required = false) Integer k) {
+        return jogoService.sugerirJogos(q, ordenacao, k);
+    }
+
+    @GetMapping("/mais-vendidos")
+    public List<JogoMaisVendido> listarMaisVendidos(@RequestParam(required = false) String periodo,
+                                                    @RequestParam(required = false) Integer k) {
+        return jogoService.listarMaisVendidos(periodo, k);
+    }
+
+    @GetMapping("/cache/estatisticas")
+    public CacheEstatisticas getEstatisticasCache() {
+        return jogoService.getEstatisticasCache();
+    }
+
     @PostMapping
     public Jogo addGame(@RequestBody Jogo jogo) {
         return jogoService.addGame(jogo);
     }
 
+    @PostMapping("/importacao")
+    public RelatorioImportacao importarCatalogo(@RequestParam(required = false) String formato,
+                                                HttpServletRequest request) throws IOException {
+        return jogoService.importarCatalogo(request.getInputStream(), FormatoCatalogo.resolver(formato, request.getContentType()));
+    }
+
+    @GetMapping("/exportacao")
+    public ResponseEntity<StreamingResponseBody> exportarCatalogo(@RequestParam(required = false) String formato) {
+        FormatoCatalogo formatoCatalogo = FormatoCatalogo.de(formato);
+        StreamingResponseBody corpo = saida -> jogoService.exportarCatalogo(saida, formatoCatalogo);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(formatoCatalogo.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"catalogo." + formatoCatalogo.getChave() + "\"")
+                .body(corpo);
+    }
+
     @GetMapping("/{id}")
     public Jogo getJogoById(@PathVariable Long id) {
         return jogoService.getJogoById(id);
     }
 
+    @GetMapping("/{id}/recomendacoes")
+    public List<RecomendacaoJogo> getRecomendacoes(@PathVariable Long id,
+                                                   @RequestParam(required = false) Long usuarioId,
+                                                   @RequestParam(required = false) Integer k) {
+        return recomendacaoServices.recomendar(id, usuarioId, k);
+    }
+
     @PutMapping("/{id}")
     public Jogo updateJogo(@PathVariable Long id, @RequestBody Jogo jogoAtualizado) {
         return jogoService.updateJogo(id, jogoAtualizado);
@@ -4,6 +4,7 @@ import java.util.List;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -14,17 +15,24 @@ import org.springframework.web.bind.annotation.RestController;
 
 import dev.projetopoo.ProjetoPoo.dto.ChangePasswordRequest;
 import dev.projetopoo.ProjetoPoo.dto.EmailAndPassword;
+import dev.projetopoo.ProjetoPoo.dto.LoginResponse;
 import dev.projetopoo.ProjetoPoo.model.User;
 import dev.projetopoo.ProjetoPoo.services.UserServices;
+import dev.projetopoo.ProjetoPoo.services.sessao.SessaoUsuario;
+import dev.projetopoo.ProjetoPoo.services.sessao.TokenSessao;
+import dev.projetopoo.ProjetoPoo.services.sessao.ControleAcesso;
+import jakarta.servlet.http.HttpServletRequest;
 
 @RestController
 @RequestMapping("/user")
 public class UserController {
 
     private final UserServices userServices;
+    private final TokenSessao tokenSessao;
 
-    public UserController(UserServices userServices) {
+    public UserController(UserServices userServices, TokenSessao tokenSessao) {
         this.userServices = userServices;
+        this.tokenSessao = tokenSessao;
     }
 
     @GetMapping
@@ -39,22 +47,34 @@ public class UserController {
 
     @GetMapping("/{id}")
     public User getUserById(@PathVariable Long id) {
+        ControleAcesso.exigirDono(id);
         return userServices.getUserById(id);
     }
 
     @PutMapping("/{id}")
     public User updateUser(@PathVariable Long id, @RequestBody User user) {
+        ControleAcesso.exigirDono(id);
         return userServices.updateUser(id, user);
     }
 
     @PostMapping("/login")
-    public User login(@RequestBody EmailAndPassword body) {
-        return userServices.login(body.email, body.senha);
+    public LoginResponse login(@RequestBody EmailAndPassword body, HttpServletRequest request) {
+        return tokenSessao.emitir(userServices.login(body.email, body.senha, request.getRemoteAddr()));
+    }
+
+    @GetMapping("/me")
+    public ResponseEntity<User> usuarioAtual(@AuthenticationPrincipal SessaoUsuario sessao) {
+        if (sessao == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.ok(userServices.getUserById(sessao.getUsuarioId()));
     }
 
     @PutMapping("/{id}/password")
-    public ResponseEntity<Void> changePassword(@PathVariable Long id, @RequestBody ChangePasswordRequest request) {
-        userServices.changePassword(id, request.getCurrentPassword(), request.getNewPassword());
+    public ResponseEntity<Void> changePassword(@PathVariable Long id, @RequestBody ChangePasswordRequest body,
+                                               HttpServletRequest request) {
+        ControleAcesso.exigirDono(id);
+        userServices.changePassword(id, body.getCurrentPassword(), body.getNewPassword(), request.getRemoteAddr());
         return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
     }
 }
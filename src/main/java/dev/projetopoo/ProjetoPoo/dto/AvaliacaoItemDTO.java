@@ -0,0 +1,39 @@
+package dev.projetopoo.ProjetoPoo.dto;
+
+import java.time.LocalDateTime;
+
+public class AvaliacaoItemDTO {
+    private final Long id;
+    private final int nota;
+    private final String comentario;
+    private final String nomeUsuario;
+    private final LocalDateTime dataAvaliacao;
+
+    public AvaliacaoItemDTO(Long id, int nota, String comentario, String nomeUsuario, LocalDateTime dataAvaliacao) {
+        this.id = id;
+        this.nota = nota;
+        this.comentario = comentario;
+        this.nomeUsuario = nomeUsuario;
+        this.dataAvaliacao = dataAvaliacao;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public int getNota() {
+        return nota;
+    }
+
+    public String getComentario() {
+        return comentario;
+    }
+
+    public String getNomeUsuario() {
+        return nomeUsuario;
+    }
+
+    public LocalDateTime getDataAvaliacao() {
+        return dataAvaliacao;
+    }
+}
@@ -0,0 +1,33 @@
+package dev.projetopoo.ProjetoPoo.dto;
+
+import java.time.LocalDateTime;
+
+public class BibliotecaItemDTO {
+    private final Long id;
+    private final String nome;
+    private final String imagemUrl;
+    private final LocalDateTime dataAquisicao;
+
+    public BibliotecaItemDTO(Long id, String nome, String imagemUrl, LocalDateTime dataAquisicao) {
+        this.id = id;
+        this.nome = nome;
+        this.imagemUrl = imagemUrl;
+        this.dataAquisicao = dataAquisicao;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public String getImagemUrl() {
+        return imagemUrl;
+    }
+
+    public LocalDateTime getDataAquisicao() {
+        return dataAquisicao;
+    }
+}
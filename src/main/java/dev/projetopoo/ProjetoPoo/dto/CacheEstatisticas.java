@@ -0,0 +1,36 @@
+package dev.projetopoo.ProjetoPoo.dto;
+
+public class CacheEstatisticas {
+    private final long acertos;
+    private final long falhas;
+    private final long despejos;
+    private final long tamanho;
+
+    public CacheEstatisticas(long acertos, long falhas, long despejos, long tamanho) {
+        this.acertos = acertos;
+        this.falhas = falhas;
+        this.despejos = despejos;
+        this.tamanho = tamanho;
+    }
+
+    public long getAcertos() {
+        return acertos;
+    }
+
+    public long getFalhas() {
+        return falhas;
+    }
+
+    public long getDespejos() {
+        return despejos;
+    }
+
+    public long getTamanho() {
+        return tamanho;
+    }
+
+    public double getTaxaAcerto() {
+        long total = acertos + falhas;
+        return total == 0 ? 0.0 : (double) acertos / total;
+    }
+}
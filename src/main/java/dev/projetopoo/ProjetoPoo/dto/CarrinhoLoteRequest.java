@@ -0,0 +1,8 @@
+package dev.projetopoo.ProjetoPoo.dto;
+
+import java.util.List;
+
+public class CarrinhoLoteRequest {
+    public List<Long> adicionar;
+    public List<Long> remover;
+}
@@ -0,0 +1,41 @@
+package dev.projetopoo.ProjetoPoo.dto;
+
+import java.time.LocalDateTime;
+
+import dev.projetopoo.ProjetoPoo.model.Dinheiro;
+
+public class CompraItemDTO {
+    private final Long id;
+    private final LocalDateTime dataCompra;
+    private final Dinheiro valor;
+    private final boolean reembolsado;
+    private final int quantidadeJogos;
+
+    public CompraItemDTO(Long id, LocalDateTime dataCompra, Dinheiro valor, boolean reembolsado, int quantidadeJogos) {
+        this.id = id;
+        this.dataCompra = dataCompra;
+        this.valor = valor;
+        this.reembolsado = reembolsado;
+        this.quantidadeJogos = quantidadeJogos;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public LocalDateTime getDataCompra() {
+        return dataCompra;
+    }
+
+    public Dinheiro getValor() {
+        return valor;
+    }
+
+    public boolean isReembolsado() {
+        return reembolsado;
+    }
+
+    public int getQuantidadeJogos() {
+        return quantidadeJogos;
+    }
+}
@@ -0,0 +1,35 @@
+package dev.projetopoo.ProjetoPoo.dto;
+
+import dev.projetopoo.ProjetoPoo.model.Carrinho;
+import dev.projetopoo.ProjetoPoo.model.User;
+
+// Usuário, carrinho, biblioteca e carteira carregados juntos numa única consulta de checkout
+public class ContextoCompra {
+    private final User usuario;
+    private final Carrinho carrinho;
+    private final Long bibliotecaId;
+    private final Long carteiraId;
+
+    public ContextoCompra(User usuario, Carrinho carrinho, Long bibliotecaId, Long carteiraId) {
+        this.usuario = usuario;
+        this.carrinho = carrinho;
+        this.bibliotecaId = bibliotecaId;
+        this.carteiraId = carteiraId;
+    }
+
+    public User getUsuario() {
+        return usuario;
+    }
+
+    public Carrinho getCarrinho() {
+        return carrinho;
+    }
+
+    public Long getBibliotecaId() {
+        return bibliotecaId;
+    }
+
+    public Long getCarteiraId() {
+        return carteiraId;
+    }
+}
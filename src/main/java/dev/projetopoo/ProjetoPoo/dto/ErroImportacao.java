@@ -0,0 +1,25 @@
+package dev.projetopoo.ProjetoPoo.dto;
+
+public class ErroImportacao {
+    private final long linha;
+    private final String nome;
+    private final String mensagem;
+
+    public ErroImportacao(long linha, String nome, String mensagem) {
+        this.linha = linha;
+        this.nome = nome;
+        this.mensagem = mensagem;
+    }
+
+    public long getLinha() {
+        return linha;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public String getMensagem() {
+        return mensagem;
+    }
+}
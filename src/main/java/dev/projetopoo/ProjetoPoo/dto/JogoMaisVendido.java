@@ -0,0 +1,35 @@
+package dev.projetopoo.ProjetoPoo.dto;
+
+public class JogoMaisVendido {
+    private final Long jogoId;
+    private final String nome;
+    private final long vendas;
+    private final long reembolsos;
+
+    public JogoMaisVendido(Long jogoId, String nome, long vendas, long reembolsos) {
+        this.jogoId = jogoId;
+        this.nome = nome;
+        this.vendas = vendas;
+        this.reembolsos = reembolsos;
+    }
+
+    public Long getJogoId() {
+        return jogoId;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public long getVendas() {
+        return vendas;
+    }
+
+    public long getReembolsos() {
+        return reembolsos;
+    }
+
+    public long getVendasLiquidas() {
+        return vendas - reembolsos;
+    }
+}
@@ -0,0 +1,40 @@
+package dev.projetopoo.ProjetoPoo.dto;
+
+import java.time.Instant;
+
+// Resposta do login: o token de sessão mais os dados públicos do usuário (nunca a senha)
+public class LoginResponse {
+    private final String token;
+    private final Instant expiraEm;
+    private final Long id;
+    private final String nome;
+    private final String email;
+
+    public LoginResponse(String token, Instant expiraEm, Long id, String nome, String email) {
+        this.token = token;
+        this.expiraEm = expiraEm;
+        this.id = id;
+        this.nome = nome;
+        this.email = email;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public Instant getExpiraEm() {
+        return expiraEm;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+}
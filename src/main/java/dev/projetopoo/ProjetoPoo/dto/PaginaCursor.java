@@ -0,0 +1,27 @@
+package dev.projetopoo.ProjetoPoo.dto;
+
+import java.util.List;
+
+public class PaginaCursor<T> {
+    private final List<T> itens;
+    private final String proximoCursor;
+    private final boolean temMais;
+
+    public PaginaCursor(List<T> itens, String proximoCursor) {
+        this.itens = itens;
+        this.proximoCursor = proximoCursor;
+        this.temMais = proximoCursor != null;
+    }
+
+    public List<T> getItens() {
+        return itens;
+    }
+
+    public String getProximoCursor() {
+        return proximoCursor;
+    }
+
+    public boolean isTemMais() {
+        return temMais;
+    }
+}
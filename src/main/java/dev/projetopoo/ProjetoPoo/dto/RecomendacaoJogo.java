@@ -0,0 +1,25 @@
+package dev.projetopoo.ProjetoPoo.dto;
+
+public class RecomendacaoJogo {
+    private final Long jogoId;
+    private final String nome;
+    private final long bibliotecasEmComum;
+
+    public RecomendacaoJogo(Long jogoId, String nome, long bibliotecasEmComum) {
+        this.jogoId = jogoId;
+        this.nome = nome;
+        this.bibliotecasEmComum = bibliotecasEmComum;
+    }
+
+    public Long getJogoId() {
+        return jogoId;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public long getBibliotecasEmComum() {
+        return bibliotecasEmComum;
+    }
+}
@@ -0,0 +1,34 @@
+package dev.projetopoo.ProjetoPoo.dto;
+
+import java.util.List;
+
+public class RelatorioImportacao {
+    private final long linhasLidas;
+    private final long importados;
+    private final long rejeitados;
+    private final List<ErroImportacao> erros;
+
+    // rejeitados conta todas as linhas recusadas; erros pode trazer só as primeiras
+    public RelatorioImportacao(long linhasLidas, long importados, long rejeitados, List<ErroImportacao> erros) {
+        this.linhasLidas = linhasLidas;
+        this.importados = importados;
+        this.rejeitados = rejeitados;
+        this.erros = erros;
+    }
+
+    public long getLinhasLidas() {
+        return linhasLidas;
+    }
+
+    public long getImportados() {
+        return importados;
+    }
+
+    public long getRejeitados() {
+        return rejeitados;
+    }
+
+    public List<ErroImportacao> getErros() {
+        return erros;
+    }
+}
@@ -0,0 +1,36 @@
+package dev.projetopoo.ProjetoPoo.dto;
+
+import java.util.List;
+import java.util.Map;
+
+import dev.projetopoo.ProjetoPoo.model.Jogo;
+
+public class ResultadoBusca {
+    private final List<Jogo> itens;
+    private final long total;
+    private final Map<String, Long> facetasGenero;
+    private final Map<String, Long> facetasFaixaPreco;
+
+    public ResultadoBusca(List<Jogo> itens, long total, Map<String, Long> facetasGenero, Map<String, Long> facetasFaixaPreco) {
+        this.itens = itens;
+        this.total = total;
+        this.facetasGenero = facetasGenero;
+        this.facetasFaixaPreco = facetasFaixaPreco;
+    }
+
+    public List<Jogo> getItens() {
+        return itens;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public Map<String, Long> getFacetasGenero() {
+        return facetasGenero;
+    }
+
+    public Map<String, Long> getFacetasFaixaPreco() {
+        return facetasFaixaPreco;
+    }
+}
@@ -0,0 +1,42 @@
+package dev.projetopoo.ProjetoPoo.dto;
+
+import java.util.List;
+
+import dev.projetopoo.ProjetoPoo.model.Dinheiro;
+
+public class ResumoCompras {
+    private final long quantidadeCompras;
+    private final long quantidadeReembolsos;
+    private final Dinheiro totalGasto;
+    private final Dinheiro valorReembolsado;
+    private final List<ResumoMensalCompras> meses;
+
+    public ResumoCompras(long quantidadeCompras, long quantidadeReembolsos, Dinheiro totalGasto,
+                         Dinheiro valorReembolsado, List<ResumoMensalCompras> meses) {
+        this.quantidadeCompras = quantidadeCompras;
+        this.quantidadeReembolsos = quantidadeReembolsos;
+        this.totalGasto = totalGasto;
+        this.valorReembolsado = valorReembolsado;
+        this.meses = meses;
+    }
+
+    public long getQuantidadeCompras() {
+        return quantidadeCompras;
+    }
+
+    public long getQuantidadeReembolsos() {
+        return quantidadeReembolsos;
+    }
+
+    public Dinheiro getTotalGasto() {
+        return totalGasto;
+    }
+
+    public Dinheiro getValorReembolsado() {
+        return valorReembolsado;
+    }
+
+    public List<ResumoMensalCompras> getMeses() {
+        return meses;
+    }
+}
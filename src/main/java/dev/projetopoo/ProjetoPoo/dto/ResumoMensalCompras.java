@@ -0,0 +1,46 @@
+package dev.projetopoo.ProjetoPoo.dto;
+
+import dev.projetopoo.ProjetoPoo.model.Dinheiro;
+
+public class ResumoMensalCompras {
+    private final int ano;
+    private final int mes;
+    private final long quantidadeCompras;
+    private final long quantidadeReembolsos;
+    private final Dinheiro totalGasto;
+    private final Dinheiro valorReembolsado;
+
+    public ResumoMensalCompras(int ano, int mes, long quantidadeCompras, long quantidadeReembolsos,
+                               Dinheiro totalGasto, Dinheiro valorReembolsado) {
+        this.ano = ano;
+        this.mes = mes;
+        this.quantidadeCompras = quantidadeCompras;
+        this.quantidadeReembolsos = quantidadeReembolsos;
+        this.totalGasto = totalGasto;
+        this.valorReembolsado = valorReembolsado;
+    }
+
+    public int getAno() {
+        return ano;
+    }
+
+    public int getMes() {
+        return mes;
+    }
+
+    public long getQuantidadeCompras() {
+        return quantidadeCompras;
+    }
+
+    public long getQuantidadeReembolsos() {
+        return quantidadeReembolsos;
+    }
+
+    public Dinheiro getTotalGasto() {
+        return totalGasto;
+    }
+
+    public Dinheiro getValorReembolsado() {
+        return valorReembolsado;
+    }
+}
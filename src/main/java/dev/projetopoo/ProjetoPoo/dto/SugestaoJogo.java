@@ -0,0 +1,31 @@
+package dev.projetopoo.ProjetoPoo.dto;
+
+public class SugestaoJogo {
+    private final Long id;
+    private final String nome;
+    private final long vendas;
+    private final double mediaAvaliacao;
+
+    public SugestaoJogo(Long id, String nome, long vendas, double mediaAvaliacao) {
+        this.id = id;
+        this.nome = nome;
+        this.vendas = vendas;
+        this.mediaAvaliacao = mediaAvaliacao;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public long getVendas() {
+        return vendas;
+    }
+
+    public double getMediaAvaliacao() {
+        return mediaAvaliacao;
+    }
+}
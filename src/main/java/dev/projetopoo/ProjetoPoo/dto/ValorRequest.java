@@ -1,5 +1,7 @@
 package dev.projetopoo.ProjetoPoo.dto;
 
+import java.math.BigDecimal;
+
 public class ValorRequest {
-    public double valor;
+    public BigDecimal valor;
 }
@@ -0,0 +1,11 @@
+package dev.projetopoo.ProjetoPoo.exception;
+
+public class AcessoNegadoException extends RuntimeException {
+    public AcessoNegadoException(String message) {
+        super(message);
+    }
+
+    public AcessoNegadoException() {
+        super("Você não tem permissão para acessar os dados de outro usuário.");
+    }
+}
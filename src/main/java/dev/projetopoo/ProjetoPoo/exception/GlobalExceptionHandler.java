@@ -1,5 +1,8 @@
 package dev.projetopoo.ProjetoPoo.exception;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -11,6 +14,8 @@ import dev.projetopoo.ProjetoPoo.dto.ErrorResponse;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+
     @ExceptionHandler(SaldoInsuficienteException.class)
     public ResponseEntity<ErrorResponse> handleSaldoInsuficiente(
             SaldoInsuficienteException ex, WebRequest request) {
@@ -81,6 +86,20 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.UNAUTHORIZED);
     }
 
+    @ExceptionHandler(AcessoNegadoException.class)
+    public ResponseEntity<ErrorResponse> handleAcessoNegado(
+            AcessoNegadoException ex, WebRequest request) {
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+            ex.getMessage(),
+            HttpStatus.FORBIDDEN.value(),
+            "Acesso Negado",
+            request.getDescription(false).replace("uri=", "")
+        );
+        
+        return new ResponseEntity<>(errorResponse, HttpStatus.FORBIDDEN);
+    }
+
     @ExceptionHandler(JogoJaExisteException.class)
     public ResponseEntity<ErrorResponse> handleJogoJaExiste(
             JogoJaExisteException ex, WebRequest request) {
@@ -95,6 +114,38 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
     }
 
+    @ExceptionHandler(MuitasTentativasException.class)
+    public ResponseEntity<ErrorResponse> handleMuitasTentativas(
+            MuitasTentativasException ex, WebRequest request) {
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+            ex.getMessage(),
+            HttpStatus.TOO_MANY_REQUESTS.value(),
+            "Muitas Tentativas",
+            request.getDescription(false).replace("uri=", "")
+        );
+        
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getTentarNovamenteEm().toSeconds()))
+                .body(errorResponse);
+    }
+
+    @ExceptionHandler(ServicoSobrecarregadoException.class)
+    public ResponseEntity<ErrorResponse> handleServicoSobrecarregado(
+            ServicoSobrecarregadoException ex, WebRequest request) {
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+            ex.getMessage(),
+            HttpStatus.SERVICE_UNAVAILABLE.value(),
+            "Serviço Sobrecarregado",
+            request.getDescription(false).replace("uri=", "")
+        );
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponse);
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ErrorResponse> handleIllegalArgument(
             IllegalArgumentException ex, WebRequest request) {
@@ -113,14 +164,15 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handleGenericException(
             Exception ex, WebRequest request) {
         
-        ex.printStackTrace();
+        String path = request.getDescription(false).replace("uri=", "");
+        log.error("Erro não tratado em {}", path, ex);
         String errorMessage = ex.getMessage() != null ? ex.getMessage() : ex.getClass().getSimpleName();
         
         ErrorResponse errorResponse = new ErrorResponse(
             errorMessage,
             HttpStatus.INTERNAL_SERVER_ERROR.value(),
             "Erro Interno",
-            request.getDescription(false).replace("uri=", "")
+            path
         );
         
         return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
@@ -0,0 +1,16 @@
+package dev.projetopoo.ProjetoPoo.exception;
+
+import java.time.Duration;
+
+public class MuitasTentativasException extends RuntimeException {
+    private final Duration tentarNovamenteEm;
+
+    public MuitasTentativasException(Duration tentarNovamenteEm) {
+        super("Muitas tentativas de login. Aguarde alguns minutos e tente novamente.");
+        this.tentarNovamenteEm = tentarNovamenteEm;
+    }
+
+    public Duration getTentarNovamenteEm() {
+        return tentarNovamenteEm;
+    }
+}
@@ -1,12 +1,14 @@
 package dev.projetopoo.ProjetoPoo.exception;
 
+import dev.projetopoo.ProjetoPoo.model.Dinheiro;
+
 public class SaldoInsuficienteException extends RuntimeException {
     public SaldoInsuficienteException(String message) {
         super(message);
     }
     
-    public SaldoInsuficienteException(double saldoAtual, double valorNecessario) {
+    public SaldoInsuficienteException(Dinheiro saldoAtual, Dinheiro valorNecessario) {
         super(String.format("Saldo insuficiente para realizar a compra. Saldo atual: R$ %.2f, Valor necessário: R$ %.2f", 
-              saldoAtual, valorNecessario));
+              saldoAtual.toBigDecimal(), valorNecessario.toBigDecimal()));
     }
 }
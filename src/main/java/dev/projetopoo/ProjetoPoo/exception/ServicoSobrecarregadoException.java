@@ -0,0 +1,11 @@
+package dev.projetopoo.ProjetoPoo.exception;
+
+public class ServicoSobrecarregadoException extends RuntimeException {
+    public ServicoSobrecarregadoException(String message) {
+        super(message);
+    }
+
+    public ServicoSobrecarregadoException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
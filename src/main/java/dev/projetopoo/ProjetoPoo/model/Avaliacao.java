@@ -5,11 +5,17 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.time.LocalDateTime;
+
 @Entity
 @Getter
 @Setter
 @Table(name = "rating",
-        uniqueConstraints = @UniqueConstraint(columnNames = {"usuario_id", "jogo_id"})
+        uniqueConstraints = @UniqueConstraint(columnNames = {"usuario_id", "jogo_id"}),
+        indexes = {
+                @Index(name = "idx_rating_jogo", columnList = "jogo_id, id"),
+                @Index(name = "idx_rating_jogo_nota", columnList = "jogo_id, nota, id")
+        }
 )
 public class Avaliacao {
 
@@ -29,5 +35,7 @@ public class Avaliacao {
 
     private String comentario;
 
+    private LocalDateTime dataAvaliacao;
+
     public Avaliacao() {}
 }
@@ -0,0 +1,61 @@
+package dev.projetopoo.ProjetoPoo.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+@Entity
+@Getter
+@Setter
+@Table(name = "rating_summary")
+public class AvaliacaoResumo {
+
+    public static final int NOTA_MAXIMA = 5;
+
+    @Id
+    @Column(name = "jogo_id")
+    private Long jogoId;
+
+    private long quantidade;
+
+    private long soma;
+
+    private long nota0;
+    private long nota1;
+    private long nota2;
+    private long nota3;
+    private long nota4;
+    private long nota5;
+
+    public AvaliacaoResumo() {
+    }
+
+    public AvaliacaoResumo(Long jogoId) {
+        this.jogoId = jogoId;
+    }
+
+    public void registrar(int nota, long quantidadeNota) {
+        quantidade += quantidadeNota;
+        soma += nota * quantidadeNota;
+        switch (nota) {
+            case 0 -> nota0 += quantidadeNota;
+            case 1 -> nota1 += quantidadeNota;
+            case 2 -> nota2 += quantidadeNota;
+            case 3 -> nota3 += quantidadeNota;
+            case 4 -> nota4 += quantidadeNota;
+            case 5 -> nota5 += quantidadeNota;
+            default -> throw new IllegalArgumentException("A nota deve ser entre 0 e 5");
+        }
+    }
+
+    public double getMedia() {
+        return quantidade == 0 ? 0.0 : (double) soma / quantidade;
+    }
+
+    public long[] getHistograma() {
+        return new long[]{nota0, nota1, nota2, nota3, nota4, nota5};
+    }
+}
@@ -4,9 +4,10 @@ package dev.projetopoo.ProjetoPoo.model;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Immutable;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 @Getter
 @Setter
@@ -22,13 +23,11 @@ public class Biblioteca {
     @JoinColumn(name = "usuario_id", unique = true)
     private User usuario;
 
-    @ManyToMany
-    @JoinTable(
-            name = "biblioteca_jogos",
-            joinColumns = @JoinColumn(name = "biblioteca_id"),
-            inverseJoinColumns = @JoinColumn(name = "jogo_id")
-    )
-    private List<Jogo> jogos = new ArrayList<>();
+    // Somente leitura: biblioteca_jogos é mapeada por ItemBiblioteca e gravada pelo BibliotecaServices
+    @Immutable
+    @OneToMany
+    @JoinColumn(name = "biblioteca_id", insertable = false, updatable = false)
+    private Set<ItemBiblioteca> itens = new LinkedHashSet<>();
 
     public Biblioteca() {}
 
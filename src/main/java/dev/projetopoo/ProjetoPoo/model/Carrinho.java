@@ -5,8 +5,8 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 @Entity
 @Getter
@@ -22,15 +22,17 @@ public class Carrinho {
     @JoinColumn(name = "usuario_id", unique = true)
     private User usuario;
 
+    // Índice único (carrinho_id, jogo_id) criado por MigracaoCarrinho
     @ManyToMany
     @JoinTable(
             name = "carrinho_jogos",
             joinColumns = @JoinColumn(name = "carrinho_id"),
             inverseJoinColumns = @JoinColumn(name = "jogo_id")
     )
-    private List<Jogo> jogos = new ArrayList<>();
+    private Set<Jogo> jogos = new LinkedHashSet<>();
 
-    private double valorTotal;
+    @Column(name = "valor_total_centavos")
+    private Dinheiro valorTotal = Dinheiro.ZERO;
 
     public Carrinho() {}
 
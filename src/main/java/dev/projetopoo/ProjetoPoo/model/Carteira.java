@@ -18,7 +18,8 @@ public class Carteira {
     @JoinColumn(name = "usuario_id", unique = true)
     private User usuario;
 
-    private double valor;
+    @Column(name = "valor_centavos")
+    private Dinheiro valor = Dinheiro.ZERO;
 
     public Carteira() {
     }
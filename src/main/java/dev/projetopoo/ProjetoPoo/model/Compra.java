@@ -10,7 +10,7 @@ import java.util.List;
 @Entity
 @Getter
 @Setter
-@Table(name = "buy")
+@Table(name = "buy", indexes = @Index(name = "idx_compra_usuario_data", columnList = "usuario_id, data_compra, id"))
 public class Compra {
 
     @Id
@@ -31,7 +31,8 @@ public class Compra {
 
 
 
-    private double valor;
+    @Column(name = "valor_centavos")
+    private Dinheiro valor;
 
     private LocalDateTime dataCompra;
 
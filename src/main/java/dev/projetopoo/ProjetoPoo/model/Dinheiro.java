@@ -0,0 +1,80 @@
+package dev.projetopoo.ProjetoPoo.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+// Valor monetário em centavos. Toda a aritmética é feita em long; BigDecimal só aparece na borda (JSON e formatação).
+public final class Dinheiro implements Comparable<Dinheiro> {
+
+    public static final Dinheiro ZERO = new Dinheiro(0L);
+
+    private final long centavos;
+
+    private Dinheiro(long centavos) {
+        this.centavos = centavos;
+    }
+
+    public static Dinheiro deCentavos(long centavos) {
+        return centavos == 0L ? ZERO : new Dinheiro(centavos);
+    }
+
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public static Dinheiro deReais(BigDecimal reais) {
+        if (reais == null) {
+            return null;
+        }
+        return deCentavos(reais.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact());
+    }
+
+    public long getCentavos() {
+        return centavos;
+    }
+
+    public Dinheiro somar(Dinheiro outro) {
+        return deCentavos(Math.addExact(centavos, outro.centavos));
+    }
+
+    public Dinheiro subtrair(Dinheiro outro) {
+        return deCentavos(Math.subtractExact(centavos, outro.centavos));
+    }
+
+    public Dinheiro negar() {
+        return deCentavos(-centavos);
+    }
+
+    public boolean isNegativo() {
+        return centavos < 0;
+    }
+
+    public boolean isPositivo() {
+        return centavos > 0;
+    }
+
+    @JsonValue
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(centavos, 2);
+    }
+
+    @Override
+    public int compareTo(Dinheiro outro) {
+        return Long.compare(centavos, outro.centavos);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Dinheiro outro && outro.centavos == centavos;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(centavos);
+    }
+
+    @Override
+    public String toString() {
+        return "R$ " + toBigDecimal().toPlainString();
+    }
+}
@@ -0,0 +1,18 @@
+package dev.projetopoo.ProjetoPoo.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter(autoApply = true)
+public class DinheiroConverter implements AttributeConverter<Dinheiro, Long> {
+
+    @Override
+    public Long convertToDatabaseColumn(Dinheiro dinheiro) {
+        return dinheiro == null ? null : dinheiro.getCentavos();
+    }
+
+    @Override
+    public Dinheiro convertToEntityAttribute(Long centavos) {
+        return centavos == null ? null : Dinheiro.deCentavos(centavos);
+    }
+}
@@ -0,0 +1,76 @@
+package dev.projetopoo.ProjetoPoo.model;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.Getter;
+
+// Visão somente leitura de uma linha de biblioteca_jogos, com a data em que o jogo entrou na biblioteca.
+// As linhas são gravadas pelo BibliotecaServices; esta entidade existe para consultas paginadas.
+@Getter
+@Entity
+@Immutable
+@IdClass(ItemBiblioteca.Chave.class)
+@Table(name = "biblioteca_jogos", indexes = @Index(name = "idx_biblioteca_jogos_aquisicao", columnList = "biblioteca_id, data_aquisicao, jogo_id"))
+public class ItemBiblioteca {
+
+    @Id
+    @Column(name = "biblioteca_id")
+    private Long bibliotecaId;
+
+    @Id
+    @Column(name = "jogo_id")
+    private Long jogoId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "jogo_id", insertable = false, updatable = false)
+    private Jogo jogo;
+
+    // NOT NULL com DEFAULT CURRENT_TIMESTAMP aplicados por MigracaoBiblioteca, depois de preencher as linhas antigas
+    @Column(name = "data_aquisicao")
+    private LocalDateTime dataAquisicao;
+
+    public ItemBiblioteca() {
+    }
+
+    public static class Chave implements Serializable {
+        private Long bibliotecaId;
+        private Long jogoId;
+
+        public Chave() {
+        }
+
+        public Chave(Long bibliotecaId, Long jogoId) {
+            this.bibliotecaId = bibliotecaId;
+            this.jogoId = jogoId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Chave outra)) {
+                return false;
+            }
+            return Objects.equals(bibliotecaId, outra.bibliotecaId) && Objects.equals(jogoId, outra.jogoId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(bibliotecaId, jogoId);
+        }
+    }
+}
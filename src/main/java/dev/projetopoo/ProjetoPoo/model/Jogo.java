@@ -10,6 +10,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.Setter;
@@ -17,7 +18,11 @@ import lombok.Setter;
 @Getter
 @Setter
 @Entity
-@Table(name = "jogo_table")
+@Table(name = "jogo_table", indexes = {
+        @Index(name = "idx_jogo_lancamento_id", columnList = "data_lancamento, id"),
+        // Vale também para jogos removidos (ativo = false): o nome continua reservado
+        @Index(name = "uk_jogo_nome", columnList = "nome", unique = true)
+})
 @SQLDelete(sql = "UPDATE jogo_table SET ativo = false WHERE id = ?")
 @SQLRestriction("ativo = true")
 public class Jogo {
@@ -27,8 +32,10 @@ public class Jogo {
     private Long id;
     private String nome;
     private String gender;
-    private double preco;
+    @Column(name = "preco_centavos")
+    private Dinheiro preco;
     private String descricao;
+    @Column(nullable = false)
     private LocalDate dataLancamento;
     private double avaliacao;
     
@@ -41,7 +48,7 @@ public class Jogo {
     public Jogo() {
     }
 
-    public Jogo(Long id, String nome, String gender, double preco) {
+    public Jogo(Long id, String nome, String gender, Dinheiro preco) {
         this.id = id;
         this.nome = nome;
         this.gender = gender;
@@ -0,0 +1,51 @@
+package dev.projetopoo.ProjetoPoo.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@Setter
+@Table(name = "wallet_transaction",
+        indexes = @Index(name = "idx_wallet_transaction_usuario", columnList = "usuario_id, id")
+)
+public class MovimentacaoCarteira {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "usuario_id", nullable = false)
+    private Long usuarioId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TipoMovimentacao tipo;
+
+    // Positivo para créditos e reembolsos, negativo para débitos: a soma reconstrói o saldo
+    @Column(name = "valor_centavos")
+    private Dinheiro valor;
+
+    @Column(name = "saldo_apos_centavos")
+    private Dinheiro saldoApos;
+
+    @Column(name = "compra_id")
+    private Long compraId;
+
+    private LocalDateTime dataMovimentacao;
+
+    public MovimentacaoCarteira() {
+    }
+
+    public MovimentacaoCarteira(Long usuarioId, TipoMovimentacao tipo, Dinheiro valor, Dinheiro saldoApos, Long compraId) {
+        this.usuarioId = usuarioId;
+        this.tipo = tipo;
+        this.valor = valor;
+        this.saldoApos = saldoApos;
+        this.compraId = compraId;
+        this.dataMovimentacao = LocalDateTime.now();
+    }
+}
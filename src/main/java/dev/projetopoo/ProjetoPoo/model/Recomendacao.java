@@ -0,0 +1,63 @@
+package dev.projetopoo.ProjetoPoo.model;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+// Top-k pré-calculado de "quem tem este jogo também tem": pontuação = bibliotecas com os dois jogos
+@Entity
+@Getter
+@Setter
+@IdClass(Recomendacao.Chave.class)
+@Table(name = "game_recommendation")
+public class Recomendacao {
+
+    @Id
+    @Column(name = "jogo_id")
+    private Long jogoId;
+
+    @Id
+    @Column(name = "recomendado_id")
+    private Long recomendadoId;
+
+    private long pontuacao;
+
+    public Recomendacao() {
+    }
+
+    public static class Chave implements Serializable {
+        private Long jogoId;
+        private Long recomendadoId;
+
+        public Chave() {
+        }
+
+        public Chave(Long jogoId, Long recomendadoId) {
+            this.jogoId = jogoId;
+            this.recomendadoId = recomendadoId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Chave outra)) {
+                return false;
+            }
+            return Objects.equals(jogoId, outra.jogoId) && Objects.equals(recomendadoId, outra.recomendadoId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(jogoId, recomendadoId);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package dev.projetopoo.ProjetoPoo.model;
+
+public enum TipoMovimentacao {
+    SALDO_INICIAL,
+    CREDITO,
+    DEBITO,
+    REEMBOLSO
+}
@@ -1,6 +1,8 @@
 package dev.projetopoo.ProjetoPoo.model;
 
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -17,6 +19,8 @@ public class User {
     private String nome;
     @Column(unique = true)
     private String email;
+    // Aceita no corpo das requisições, mas nunca sai nas respostas
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
     private String senha;
 
     public User() {
@@ -0,0 +1,66 @@
+package dev.projetopoo.ProjetoPoo.model;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+// Vendas e reembolsos de um jogo em um dia. As linhas são acumuladas em lote pelo ContadorVendas.
+@Entity
+@Getter
+@Setter
+@IdClass(VendaJogoDiaria.Chave.class)
+@Table(name = "game_sales_daily", indexes = @Index(name = "idx_game_sales_dia", columnList = "dia, jogo_id"))
+public class VendaJogoDiaria {
+
+    @Id
+    @Column(name = "jogo_id")
+    private Long jogoId;
+
+    @Id
+    private LocalDate dia;
+
+    private long vendas;
+
+    private long reembolsos;
+
+    public VendaJogoDiaria() {
+    }
+
+    public static class Chave implements Serializable {
+        private Long jogoId;
+        private LocalDate dia;
+
+        public Chave() {
+        }
+
+        public Chave(Long jogoId, LocalDate dia) {
+            this.jogoId = jogoId;
+            this.dia = dia;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Chave outra)) {
+                return false;
+            }
+            return Objects.equals(jogoId, outra.jogoId) && Objects.equals(dia, outra.dia);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(jogoId, dia);
+        }
+    }
+}
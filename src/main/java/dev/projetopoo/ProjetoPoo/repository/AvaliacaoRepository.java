@@ -1,12 +1,42 @@
 package dev.projetopoo.ProjetoPoo.repository;
 
+import dev.projetopoo.ProjetoPoo.dto.AvaliacaoItemDTO;
 import dev.projetopoo.ProjetoPoo.model.Avaliacao;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface AvaliacaoRepository extends JpaRepository<Avaliacao, Long> {
+
+    @Query("SELECT a.usuario.id FROM Avaliacao a WHERE a.id = :avaliacaoId")
+    Optional<Long> findUsuarioIdById(@Param("avaliacaoId") Long avaliacaoId);
     Optional<Avaliacao> findByUsuarioIdAndJogoId(Long usuarioId, Long jogoId);
     List<Avaliacao> findByJogoId(Long jogoId);
+
+    String PROJECAO_ITEM = "SELECT new dev.projetopoo.ProjetoPoo.dto.AvaliacaoItemDTO(a.id, a.nota, a.comentario, u.nome, a.dataAvaliacao) " +
+            "FROM Avaliacao a JOIN a.usuario u WHERE a.jogo.id = :jogoId ";
+
+    @Query(PROJECAO_ITEM + "ORDER BY a.id DESC")
+    List<AvaliacaoItemDTO> listarRecentes(@Param("jogoId") Long jogoId, Limit limit);
+
+    @Query(PROJECAO_ITEM + "AND a.id < :id ORDER BY a.id DESC")
+    List<AvaliacaoItemDTO> listarRecentesApos(@Param("jogoId") Long jogoId, @Param("id") Long id, Limit limit);
+
+    @Query(PROJECAO_ITEM + "ORDER BY a.nota DESC, a.id DESC")
+    List<AvaliacaoItemDTO> listarMelhores(@Param("jogoId") Long jogoId, Limit limit);
+
+    @Query(PROJECAO_ITEM + "AND (a.nota < :nota OR (a.nota = :nota AND a.id < :id)) ORDER BY a.nota DESC, a.id DESC")
+    List<AvaliacaoItemDTO> listarMelhoresApos(@Param("jogoId") Long jogoId, @Param("nota") int nota, @Param("id") Long id, Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(PROJECAO_ITEM + "ORDER BY a.id DESC")
+    Stream<AvaliacaoItemDTO> streamPorJogo(@Param("jogoId") Long jogoId);
 }
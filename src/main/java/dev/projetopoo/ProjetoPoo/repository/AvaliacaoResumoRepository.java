@@ -0,0 +1,48 @@
+package dev.projetopoo.ProjetoPoo.repository;
+
+import dev.projetopoo.ProjetoPoo.model.AvaliacaoResumo;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface AvaliacaoResumoRepository extends JpaRepository<AvaliacaoResumo, Long> {
+
+    String AGREGADO_NOTAS = "SELECT jogo_id, COUNT(*), COALESCE(SUM(nota), 0), " +
+            "SUM(CASE WHEN nota = 0 THEN 1 ELSE 0 END), SUM(CASE WHEN nota = 1 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN nota = 2 THEN 1 ELSE 0 END), SUM(CASE WHEN nota = 3 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN nota = 4 THEN 1 ELSE 0 END), SUM(CASE WHEN nota = 5 THEN 1 ELSE 0 END) FROM rating ";
+
+    String INSERIR_RESUMO = "INSERT INTO rating_summary (jogo_id, quantidade, soma, nota0, nota1, nota2, nota3, nota4, nota5) ";
+
+    // Atualização atômica no banco: não há leitura prévia da linha, então avaliações concorrentes não se perdem
+    @Modifying
+    @Query("UPDATE AvaliacaoResumo r SET " +
+            "r.quantidade = r.quantidade + :delta, " +
+            "r.soma = r.soma + :deltaSoma, " +
+            "r.nota0 = r.nota0 + CASE WHEN :nota = 0 THEN :delta ELSE 0 END, " +
+            "r.nota1 = r.nota1 + CASE WHEN :nota = 1 THEN :delta ELSE 0 END, " +
+            "r.nota2 = r.nota2 + CASE WHEN :nota = 2 THEN :delta ELSE 0 END, " +
+            "r.nota3 = r.nota3 + CASE WHEN :nota = 3 THEN :delta ELSE 0 END, " +
+            "r.nota4 = r.nota4 + CASE WHEN :nota = 4 THEN :delta ELSE 0 END, " +
+            "r.nota5 = r.nota5 + CASE WHEN :nota = 5 THEN :delta ELSE 0 END " +
+            "WHERE r.jogoId = :jogoId")
+    int aplicarDelta(@Param("jogoId") Long jogoId,
+                     @Param("nota") int nota,
+                     @Param("delta") long delta,
+                     @Param("deltaSoma") long deltaSoma);
+
+    // Cria a linha a partir das avaliações do jogo; se outra transação criou antes (ou não há avaliações), devolve 0.
+    // ON CONFLICT sem alvo é a forma que o Postgres e o H2 (modo PostgreSQL) aceitam em comum
+    @Modifying
+    @Query(value = INSERIR_RESUMO + AGREGADO_NOTAS + "WHERE jogo_id = :jogoId GROUP BY jogo_id ON CONFLICT DO NOTHING", nativeQuery = true)
+    int criarAPartirDasAvaliacoes(@Param("jogoId") Long jogoId);
+
+    @Modifying
+    @Query(value = "DELETE FROM rating_summary", nativeQuery = true)
+    void apagarTodos();
+
+    @Modifying
+    @Query(value = INSERIR_RESUMO + AGREGADO_NOTAS + "GROUP BY jogo_id", nativeQuery = true)
+    int criarTodosAPartirDasAvaliacoes();
+}
@@ -2,9 +2,30 @@ package dev.projetopoo.ProjetoPoo.repository;
 
 import dev.projetopoo.ProjetoPoo.model.Biblioteca;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface BibliotecaRepository extends JpaRepository<Biblioteca, Long> {
     Optional<Biblioteca> findByUsuarioId(Long usuarioId);
+
+    @Query("SELECT b.id FROM Biblioteca b WHERE b.usuario.id = :usuarioId")
+    Optional<Long> findIdByUsuarioId(@Param("usuarioId") Long usuarioId);
+
+    @Query("SELECT j.id FROM Biblioteca b JOIN b.itens i JOIN i.jogo j WHERE b.usuario.id = :usuarioId")
+    List<Long> findJogoIdsByUsuarioId(@Param("usuarioId") Long usuarioId);
+
+    @Query("SELECT COUNT(i) > 0 FROM Biblioteca b JOIN b.itens i JOIN i.jogo j WHERE b.usuario.id = :usuarioId AND j.id = :jogoId")
+    boolean possuiJogo(@Param("usuarioId") Long usuarioId, @Param("jogoId") Long jogoId);
+
+    @Query("SELECT j.id FROM Biblioteca b JOIN b.itens i JOIN i.jogo j WHERE b.usuario.id = :usuarioId AND j.id IN :jogoIds")
+    List<Long> findJogosPossuidos(@Param("usuarioId") Long usuarioId, @Param("jogoIds") Collection<Long> jogoIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM biblioteca_jogos WHERE biblioteca_id = :bibliotecaId AND jogo_id IN (:jogoIds)", nativeQuery = true)
+    int removerJogos(@Param("bibliotecaId") Long bibliotecaId, @Param("jogoIds") Collection<Long> jogoIds);
 }
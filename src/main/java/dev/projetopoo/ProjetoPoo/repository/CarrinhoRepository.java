@@ -1,10 +1,60 @@
 package dev.projetopoo.ProjetoPoo.repository;
 
+import dev.projetopoo.ProjetoPoo.dto.ContextoCompra;
 import dev.projetopoo.ProjetoPoo.model.Carrinho;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface CarrinhoRepository extends JpaRepository<Carrinho, Long> {
+
+    // Soma dos preços atuais dos jogos (ativos) do carrinho: é o mesmo valor que o checkout cobra
+    String SOMA_ITENS = "SELECT COALESCE(SUM(j.preco_centavos), 0) FROM carrinho_jogos cj " +
+            "JOIN jogo_table j ON j.id = cj.jogo_id WHERE cj.carrinho_id = :carrinhoId AND j.ativo = true";
+
     Optional<Carrinho> findByUsuarioId(Long usuarioId);
+
+    @Query("SELECT c.id FROM Carrinho c WHERE c.usuario.id = :usuarioId")
+    Optional<Long> findIdByUsuarioId(@Param("usuarioId") Long usuarioId);
+
+    // Os jogos do carrinho vêm no mesmo comando (fetch join), sem a consulta extra ao percorrer a coleção.
+    // O join devolve uma linha por jogo, todas com o mesmo carrinho já inicializado; basta a primeira
+    @Query("SELECT new dev.projetopoo.ProjetoPoo.dto.ContextoCompra(u, c, b.id, w.id) " +
+            "FROM Carrinho c JOIN c.usuario u LEFT JOIN FETCH c.jogos, Biblioteca b, Carteira w " +
+            "WHERE u.id = :usuarioId AND b.usuario.id = u.id AND w.usuario.id = u.id")
+    List<ContextoCompra> listarContextoCompra(@Param("usuarioId") Long usuarioId);
+
+    default Optional<ContextoCompra> findContextoCompra(Long usuarioId) {
+        return listarContextoCompra(usuarioId).stream().findFirst();
+    }
+
+    // As operações abaixo mexem só na linha afetada da tabela de junção, sem carregar a coleção do carrinho
+    @Query(value = "SELECT jogo_id FROM carrinho_jogos WHERE carrinho_id = :carrinhoId AND jogo_id IN (:jogoIds)", nativeQuery = true)
+    List<Long> findJogosNoCarrinho(@Param("carrinhoId") Long carrinhoId, @Param("jogoIds") Collection<Long> jogoIds);
+
+    // O índice único (carrinho_id, jogo_id) decide adições concorrentes do mesmo jogo: a segunda devolve 0
+    @Modifying
+    @Query(value = "INSERT INTO carrinho_jogos (carrinho_id, jogo_id) VALUES (:carrinhoId, :jogoId) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int inserirJogo(@Param("carrinhoId") Long carrinhoId, @Param("jogoId") Long jogoId);
+
+    @Modifying
+    @Query(value = "DELETE FROM carrinho_jogos WHERE carrinho_id = :carrinhoId AND jogo_id = :jogoId", nativeQuery = true)
+    int removerJogo(@Param("carrinhoId") Long carrinhoId, @Param("jogoId") Long jogoId);
+
+    // Retira só os jogos lidos pelo checkout: as linhas ficam travadas até o commit, e um checkout concorrente
+    // do mesmo carrinho espera e depois apaga menos linhas do que leu
+    @Modifying
+    @Query(value = "DELETE FROM carrinho_jogos WHERE carrinho_id = :carrinhoId AND jogo_id IN (:jogoIds)", nativeQuery = true)
+    int retirarJogos(@Param("carrinhoId") Long carrinhoId, @Param("jogoIds") Collection<Long> jogoIds);
+
+    // Refaz o total a partir dos itens em vez de somar ou subtrair deltas: preços que mudam entre a adição
+    // e a remoção não fazem o total divergir do que o checkout cobra
+    @Modifying
+    @Query(value = "UPDATE cart SET valor_total_centavos = (" + SOMA_ITENS + ") WHERE id = :carrinhoId", nativeQuery = true)
+    int recalcularTotal(@Param("carrinhoId") Long carrinhoId);
 }
@@ -2,9 +2,25 @@ package dev.projetopoo.ProjetoPoo.repository;
 
 import dev.projetopoo.ProjetoPoo.model.Carteira;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
 public interface CarteiraRepository extends JpaRepository<Carteira, Long> {
     Optional<Carteira> findByUsuarioId(Long usuarioId);
+
+    @Query(value = "SELECT valor_centavos FROM wallet WHERE usuario_id = :usuarioId", nativeQuery = true)
+    Optional<Long> findSaldoCentavosByUsuarioId(@Param("usuarioId") Long usuarioId);
+
+    @Modifying
+    @Query(value = "UPDATE wallet SET valor_centavos = valor_centavos + :centavos WHERE usuario_id = :usuarioId", nativeQuery = true)
+    int creditar(@Param("usuarioId") Long usuarioId, @Param("centavos") long centavos);
+
+    // Débito condicional: só altera a linha se houver saldo, evitando leitura prévia e atualizações perdidas
+    @Modifying
+    @Query(value = "UPDATE wallet SET valor_centavos = valor_centavos - :centavos " +
+            "WHERE usuario_id = :usuarioId AND valor_centavos >= :centavos", nativeQuery = true)
+    int debitar(@Param("usuarioId") Long usuarioId, @Param("centavos") long centavos);
 }
@@ -1,10 +1,62 @@
 package dev.projetopoo.ProjetoPoo.repository;
 
+import dev.projetopoo.ProjetoPoo.dto.CompraItemDTO;
 import dev.projetopoo.ProjetoPoo.model.Compra;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface CompraRepository extends JpaRepository<Compra, Long> {
+
+    @Query("SELECT c.usuario.id FROM Compra c WHERE c.id = :compraId")
+    Optional<Long> findUsuarioIdById(@Param("compraId") Long compraId);
     List<Compra> findByUsuarioId(Long usuarioId);
+
+    // Só um reembolso vence: o segundo espera a trava da linha e depois não acha mais reembolsado = false
+    @Modifying
+    @Query(value = "UPDATE buy SET reembolsado = true WHERE id = :compraId AND reembolsado = false", nativeQuery = true)
+    int marcarReembolsada(@Param("compraId") Long compraId);
+
+    // O intervalo é [inicio, fim); filtrarReembolso = false ignora o parâmetro reembolsado
+    String PROJECAO_ITEM = "SELECT new dev.projetopoo.ProjetoPoo.dto.CompraItemDTO(c.id, c.dataCompra, c.valor, c.reembolsado, SIZE(c.jogos)) " +
+            "FROM Compra c " +
+            "WHERE c.usuario.id = :usuarioId AND c.dataCompra >= :inicio AND c.dataCompra < :fim " +
+            "AND (:filtrarReembolso = false OR c.reembolsado = :reembolsado) ";
+
+    @Query(PROJECAO_ITEM + "ORDER BY c.dataCompra DESC, c.id DESC")
+    List<CompraItemDTO> listarHistorico(@Param("usuarioId") Long usuarioId,
+                                        @Param("inicio") LocalDateTime inicio,
+                                        @Param("fim") LocalDateTime fim,
+                                        @Param("filtrarReembolso") boolean filtrarReembolso,
+                                        @Param("reembolsado") boolean reembolsado,
+                                        Limit limit);
+
+    @Query(PROJECAO_ITEM + "AND (c.dataCompra < :data OR (c.dataCompra = :data AND c.id < :id)) " +
+            "ORDER BY c.dataCompra DESC, c.id DESC")
+    List<CompraItemDTO> listarHistoricoApos(@Param("usuarioId") Long usuarioId,
+                                            @Param("inicio") LocalDateTime inicio,
+                                            @Param("fim") LocalDateTime fim,
+                                            @Param("filtrarReembolso") boolean filtrarReembolso,
+                                            @Param("reembolsado") boolean reembolsado,
+                                            @Param("data") LocalDateTime data,
+                                            @Param("id") Long id,
+                                            Limit limit);
+
+    // Cada linha: [ano, mês, compras, reembolsos, centavos gastos, centavos reembolsados]
+    @Query(value = "SELECT EXTRACT(YEAR FROM data_compra), EXTRACT(MONTH FROM data_compra), COUNT(*), " +
+            "SUM(CASE WHEN reembolsado THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN reembolsado THEN 0 ELSE valor_centavos END), " +
+            "SUM(CASE WHEN reembolsado THEN valor_centavos ELSE 0 END) " +
+            "FROM buy WHERE usuario_id = :usuarioId AND data_compra >= :inicio AND data_compra < :fim " +
+            "GROUP BY EXTRACT(YEAR FROM data_compra), EXTRACT(MONTH FROM data_compra) " +
+            "ORDER BY EXTRACT(YEAR FROM data_compra), EXTRACT(MONTH FROM data_compra)", nativeQuery = true)
+    List<Object[]> resumirPorMes(@Param("usuarioId") Long usuarioId,
+                                 @Param("inicio") LocalDateTime inicio,
+                                 @Param("fim") LocalDateTime fim);
 }
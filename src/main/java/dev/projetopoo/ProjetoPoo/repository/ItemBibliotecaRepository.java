@@ -0,0 +1,49 @@
+package dev.projetopoo.ProjetoPoo.repository;
+
+import dev.projetopoo.ProjetoPoo.dto.BibliotecaItemDTO;
+import dev.projetopoo.ProjetoPoo.model.ItemBiblioteca;
+import dev.projetopoo.ProjetoPoo.model.Jogo;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Gênero vazio significa "sem filtro"; o valor chega em minúsculas do serviço
+public interface ItemBibliotecaRepository extends JpaRepository<ItemBiblioteca, ItemBiblioteca.Chave> {
+
+    String PROJECAO_ITEM = "SELECT new dev.projetopoo.ProjetoPoo.dto.BibliotecaItemDTO(j.id, j.nome, j.imagemUrl, i.dataAquisicao) " +
+            "FROM ItemBiblioteca i JOIN i.jogo j " +
+            "WHERE i.bibliotecaId = :bibliotecaId AND (:genero = '' OR LOWER(j.gender) = :genero) ";
+
+    @Query("SELECT j FROM ItemBiblioteca i JOIN i.jogo j WHERE i.bibliotecaId = :bibliotecaId ORDER BY i.dataAquisicao, j.id")
+    List<Jogo> listarJogos(@Param("bibliotecaId") Long bibliotecaId);
+
+    @Query(PROJECAO_ITEM + "ORDER BY i.dataAquisicao DESC, j.id DESC")
+    List<BibliotecaItemDTO> listarPorAquisicao(@Param("bibliotecaId") Long bibliotecaId,
+                                               @Param("genero") String genero,
+                                               Limit limit);
+
+    @Query(PROJECAO_ITEM + "AND (i.dataAquisicao < :data OR (i.dataAquisicao = :data AND j.id < :id)) " +
+            "ORDER BY i.dataAquisicao DESC, j.id DESC")
+    List<BibliotecaItemDTO> listarPorAquisicaoApos(@Param("bibliotecaId") Long bibliotecaId,
+                                                   @Param("genero") String genero,
+                                                   @Param("data") LocalDateTime data,
+                                                   @Param("id") Long id,
+                                                   Limit limit);
+
+    @Query(PROJECAO_ITEM + "ORDER BY j.nome ASC, j.id ASC")
+    List<BibliotecaItemDTO> listarPorNome(@Param("bibliotecaId") Long bibliotecaId,
+                                          @Param("genero") String genero,
+                                          Limit limit);
+
+    @Query(PROJECAO_ITEM + "AND (j.nome > :nome OR (j.nome = :nome AND j.id > :id)) " +
+            "ORDER BY j.nome ASC, j.id ASC")
+    List<BibliotecaItemDTO> listarPorNomeApos(@Param("bibliotecaId") Long bibliotecaId,
+                                              @Param("genero") String genero,
+                                              @Param("nome") String nome,
+                                              @Param("id") Long id,
+                                              Limit limit);
+}
@@ -2,10 +2,29 @@ package dev.projetopoo.ProjetoPoo.repository;
 
 
 import dev.projetopoo.ProjetoPoo.model.Jogo;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface JogoRepository extends JpaRepository<Jogo, Long> {
     Optional<Jogo> findByNome(String nome);
+
+    List<Jogo> findByNomeIn(Collection<String> nomes);
+
+    List<Jogo> findAllByOrderByIdAsc(Limit limit);
+
+    List<Jogo> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    @Query("SELECT j FROM Jogo j ORDER BY j.dataLancamento DESC, j.id DESC")
+    List<Jogo> listarPorLancamento(Limit limit);
+
+    @Query("SELECT j FROM Jogo j WHERE j.dataLancamento < :data OR (j.dataLancamento = :data AND j.id < :id) " +
+            "ORDER BY j.dataLancamento DESC, j.id DESC")
+    List<Jogo> listarPorLancamentoApos(@Param("data") LocalDate data, @Param("id") Long id, Limit limit);
 }
@@ -0,0 +1,31 @@
+package dev.projetopoo.ProjetoPoo.repository;
+
+import dev.projetopoo.ProjetoPoo.model.MovimentacaoCarteira;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface MovimentacaoCarteiraRepository extends JpaRepository<MovimentacaoCarteira, Long> {
+    List<MovimentacaoCarteira> findByUsuarioIdOrderByIdDesc(Long usuarioId, Limit limit);
+
+    List<MovimentacaoCarteira> findByUsuarioIdAndIdLessThanOrderByIdDesc(Long usuarioId, Long id, Limit limit);
+
+    boolean existsByUsuarioId(Long usuarioId);
+
+    @Query(value = "SELECT COALESCE(SUM(m.valor_centavos), 0) FROM wallet_transaction m WHERE m.usuario_id = :usuarioId", nativeQuery = true)
+    long somarCentavosPorUsuario(@Param("usuarioId") Long usuarioId);
+
+    // Lança a movimentação com o saldo lido da própria carteira no mesmo comando, logo depois do UPDATE que
+    // bloqueou a linha nesta transação: sem SELECT separado para descobrir o saldo resultante
+    @Modifying
+    @Query(value = "INSERT INTO wallet_transaction (usuario_id, tipo, valor_centavos, saldo_apos_centavos, compra_id, data_movimentacao) " +
+            "SELECT :usuarioId, :tipo, :valor, w.valor_centavos, :compraId, :data FROM wallet w WHERE w.usuario_id = :usuarioId",
+            nativeQuery = true)
+    int registrar(@Param("usuarioId") Long usuarioId, @Param("tipo") String tipo, @Param("valor") long valorCentavos,
+                  @Param("compraId") Long compraId, @Param("data") LocalDateTime data);
+}
@@ -0,0 +1,19 @@
+package dev.projetopoo.ProjetoPoo.repository;
+
+import dev.projetopoo.ProjetoPoo.model.Recomendacao;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface RecomendacaoRepository extends JpaRepository<Recomendacao, Recomendacao.Chave> {
+
+    List<Recomendacao> findAllByOrderByJogoIdAscPontuacaoDesc();
+
+    @Modifying
+    @Query("DELETE FROM Recomendacao r WHERE r.jogoId IN :jogoIds")
+    int removerDosJogos(@Param("jogoIds") Collection<Long> jogoIds);
+}
@@ -0,0 +1,26 @@
+package dev.projetopoo.ProjetoPoo.repository;
+
+import dev.projetopoo.ProjetoPoo.model.VendaJogoDiaria;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface VendaJogoDiariaRepository extends JpaRepository<VendaJogoDiaria, VendaJogoDiaria.Chave> {
+
+    List<VendaJogoDiaria> findByDiaGreaterThanEqual(LocalDate inicio);
+
+    // Cada linha: [jogoId, vendas, reembolsos]
+    @Query("SELECT v.jogoId, SUM(v.vendas), SUM(v.reembolsos) FROM VendaJogoDiaria v GROUP BY v.jogoId")
+    List<Object[]> somarPorJogo();
+
+    // Carga inicial a partir do histórico de compras; reembolsos antigos ficam no dia da compra
+    @Modifying
+    @Query(value = "INSERT INTO game_sales_daily (jogo_id, dia, vendas, reembolsos) " +
+            "SELECT cj.jogo_id, CAST(c.data_compra AS DATE), COUNT(*), SUM(CASE WHEN c.reembolsado THEN 1 ELSE 0 END) " +
+            "FROM buy c JOIN compra_jogos cj ON cj.compra_id = c.id " +
+            "GROUP BY cj.jogo_id, CAST(c.data_compra AS DATE)", nativeQuery = true)
+    int importarHistorico();
+}
@@ -1,46 +1,63 @@
 package dev.projetopoo.ProjetoPoo.services;
 
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.projetopoo.ProjetoPoo.dto.AvaliacaoItemDTO;
+import dev.projetopoo.ProjetoPoo.dto.PaginaCursor;
 import dev.projetopoo.ProjetoPoo.exception.*;
 import dev.projetopoo.ProjetoPoo.model.Avaliacao;
-import dev.projetopoo.ProjetoPoo.model.Biblioteca;
+import dev.projetopoo.ProjetoPoo.model.AvaliacaoResumo;
 import dev.projetopoo.ProjetoPoo.model.Jogo;
 import dev.projetopoo.ProjetoPoo.model.User;
 import dev.projetopoo.ProjetoPoo.repository.AvaliacaoRepository;
-import dev.projetopoo.ProjetoPoo.repository.BibliotecaRepository;
-import dev.projetopoo.ProjetoPoo.repository.JogoRepository;
+import dev.projetopoo.ProjetoPoo.repository.AvaliacaoResumoRepository;
 import dev.projetopoo.ProjetoPoo.repository.UserRepository;
+import dev.projetopoo.ProjetoPoo.services.busca.IndiceSugestoes;
+import dev.projetopoo.ProjetoPoo.services.cache.JogoCache;
+import dev.projetopoo.ProjetoPoo.services.pagination.OrdenacaoAvaliacao;
+import dev.projetopoo.ProjetoPoo.services.pagination.Paginacao;
+import dev.projetopoo.ProjetoPoo.services.transacao.AposCommit;
+import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Service
 public class AvaliacaoServices {
 
     private final AvaliacaoRepository avaliacaoRepository;
-    private final BibliotecaRepository bibliotecaRepository;
+    private final BibliotecaServices bibliotecaServices;
     private final UserRepository userRepository;
-    private final JogoRepository jogoRepository;
+    private final JogoCache jogoCache;
+    private final AvaliacaoResumoRepository avaliacaoResumoRepository;
+    private final ObjectMapper objectMapper;
+    private final IndiceSugestoes indiceSugestoes;
 
-    public AvaliacaoServices(AvaliacaoRepository avaliacaoRepository,  BibliotecaRepository bibliotecaRepository,  UserRepository userRepository, JogoRepository jogoRepository) {
+    public AvaliacaoServices(AvaliacaoRepository avaliacaoRepository,  BibliotecaServices bibliotecaServices,  UserRepository userRepository, JogoCache jogoCache, AvaliacaoResumoRepository avaliacaoResumoRepository, ObjectMapper objectMapper, IndiceSugestoes indiceSugestoes) {
         this.avaliacaoRepository = avaliacaoRepository;
-        this.bibliotecaRepository = bibliotecaRepository;
+        this.bibliotecaServices = bibliotecaServices;
         this.userRepository = userRepository;
-        this.jogoRepository = jogoRepository;
+        this.jogoCache = jogoCache;
+        this.avaliacaoResumoRepository = avaliacaoResumoRepository;
+        this.objectMapper = objectMapper;
+        this.indiceSugestoes = indiceSugestoes;
     }
 
+    @Transactional
     public Avaliacao avaliar(Long usuarioId, Long jogoId, int nota, String descricao) {
         if (nota < 0 || nota > 5) {
             throw new IllegalArgumentException("A nota deve ser entre 0 e 5");
         }
 
-        Biblioteca biblioteca = bibliotecaRepository.findByUsuarioId(usuarioId)
-                .orElseThrow(() -> new UsuarioNaoEncontradoException("Biblioteca do usuário não encontrada"));
-
-        boolean possuiJogo = biblioteca.getJogos().stream().anyMatch(j -> j.getId().equals(jogoId));
-
-        if (!possuiJogo) {
+        if (!bibliotecaServices.possuiJogo(usuarioId, jogoId)) {
             throw new IllegalArgumentException("Você deve possuir o jogo na sua biblioteca para poder avaliá-lo");
         }
 
@@ -52,7 +69,7 @@ public class AvaliacaoServices {
 
         User usuario = userRepository.findById(usuarioId)
                 .orElseThrow(() -> new UsuarioNaoEncontradoException(usuarioId));
-        Jogo jogo = jogoRepository.findById(jogoId)
+        Jogo jogo = jogoCache.buscarPorId(jogoId)
                 .orElseThrow(() -> new JogoNaoEncontradoException(jogoId));
 
         Avaliacao avaliacao = new Avaliacao();
@@ -60,21 +77,111 @@ public class AvaliacaoServices {
         avaliacao.setJogo(jogo);
         avaliacao.setNota(nota);
         avaliacao.setComentario(descricao);
+        avaliacao.setDataAvaliacao(LocalDateTime.now());
 
-        return avaliacaoRepository.save(avaliacao);
+        Avaliacao salva = avaliacaoRepository.save(avaliacao);
+        atualizarResumo(jogoId, nota, 1);
+        return salva;
     }
 
     public List<Avaliacao> getAvaliacoesPorJogo(Long jogoId) {
-        jogoRepository.findById(jogoId)
+        jogoCache.buscarPorId(jogoId)
                 .orElseThrow(() -> new JogoNaoEncontradoException(jogoId));
         
         return avaliacaoRepository.findByJogoId(jogoId);
     }
 
+    public PaginaCursor<AvaliacaoItemDTO> listarAvaliacoesPaginadas(Long jogoId, String ordenacao, String cursor, Integer tamanho) {
+        jogoCache.buscarPorId(jogoId)
+                .orElseThrow(() -> new JogoNaoEncontradoException(jogoId));
+
+        OrdenacaoAvaliacao criterio = OrdenacaoAvaliacao.de(ordenacao);
+        int tamanhoPagina = Paginacao.resolverTamanho(tamanho);
+        Limit limite = Paginacao.limiteComSentinela(tamanhoPagina);
+
+        List<AvaliacaoItemDTO> avaliacoes;
+        if (criterio == OrdenacaoAvaliacao.MELHORES) {
+            if (cursor == null || cursor.isEmpty()) {
+                avaliacoes = avaliacaoRepository.listarMelhores(jogoId, limite);
+            } else {
+                String[] partes = Paginacao.decodificarCursor(cursor, criterio.getChave(), 3);
+                avaliacoes = avaliacaoRepository.listarMelhoresApos(jogoId, (int) Paginacao.parseLong(partes[1]), Paginacao.parseLong(partes[2]), limite);
+            }
+        } else {
+            if (cursor == null || cursor.isEmpty()) {
+                avaliacoes = avaliacaoRepository.listarRecentes(jogoId, limite);
+            } else {
+                String[] partes = Paginacao.decodificarCursor(cursor, criterio.getChave(), 2);
+                avaliacoes = avaliacaoRepository.listarRecentesApos(jogoId, Paginacao.parseLong(partes[1]), limite);
+            }
+        }
+
+        return Paginacao.montarPagina(avaliacoes, tamanhoPagina, ultima -> criterio == OrdenacaoAvaliacao.MELHORES
+                ? Paginacao.codificarCursor(criterio.getChave(), String.valueOf(ultima.getNota()), String.valueOf(ultima.getId()))
+                : Paginacao.codificarCursor(criterio.getChave(), String.valueOf(ultima.getId())));
+    }
+
+    // Escreve o array JSON conforme as linhas chegam do banco, sem materializar a lista inteira
+    @Transactional
+    public void exportarAvaliacoes(Long jogoId, OutputStream saida) throws IOException {
+        try (Stream<AvaliacaoItemDTO> avaliacoes = avaliacaoRepository.streamPorJogo(jogoId);
+             JsonGenerator gerador = objectMapper.createGenerator(saida)) {
+            gerador.writeStartArray();
+            for (AvaliacaoItemDTO avaliacao : (Iterable<AvaliacaoItemDTO>) avaliacoes::iterator) {
+                gerador.writeObject(avaliacao);
+            }
+            gerador.writeEndArray();
+        }
+    }
+
+    public Optional<Long> buscarAutor(Long avaliacaoId) {
+        return avaliacaoRepository.findUsuarioIdById(avaliacaoId);
+    }
+
+    @Transactional
     public void deletarAvaliacao(Long avaliacaoId) {
         Avaliacao avaliacao = avaliacaoRepository.findById(avaliacaoId)
                 .orElseThrow(() -> new IllegalArgumentException("Avaliação com ID " + avaliacaoId + " não foi encontrada"));
         
         avaliacaoRepository.delete(avaliacao);
+        atualizarResumo(avaliacao.getJogo().getId(), avaliacao.getNota(), -1);
+    }
+
+    public AvaliacaoResumo getResumoPorJogo(Long jogoId) {
+        jogoCache.buscarPorId(jogoId)
+                .orElseThrow(() -> new JogoNaoEncontradoException(jogoId));
+
+        return avaliacaoResumoRepository.findById(jogoId)
+                .orElseGet(() -> new AvaliacaoResumo(jogoId));
+    }
+
+    // Reconstrói todos os resumos em dois comandos no banco (DELETE + INSERT…SELECT) na mesma transação
+    @Transactional
+    @Scheduled(cron = "${avaliacao.resumo.reconstrucao.cron:0 0 4 * * *}")
+    public void reconstruirResumos() {
+        avaliacaoResumoRepository.apagarTodos();
+        avaliacaoResumoRepository.criarTodosAPartirDasAvaliacoes();
+        List<AvaliacaoResumo> resumos = avaliacaoResumoRepository.findAll();
+        AposCommit.executar(() -> indiceSugestoes.recarregarNotas(resumos));
+    }
+
+    private void atualizarResumo(Long jogoId, int nota, long delta) {
+        // Caminho comum: a linha já existe e o delta é aplicado no próprio UPDATE
+        if (avaliacaoResumoRepository.aplicarDelta(jogoId, nota, delta, nota * delta) > 0) {
+            AposCommit.executar(() -> indiceSugestoes.registrarAvaliacao(jogoId, nota, delta));
+            return;
+        }
+
+        // Sem linha ainda: cria a partir das avaliações existentes (que já incluem esta mudança)
+        if (avaliacaoResumoRepository.criarAPartirDasAvaliacoes(jogoId) > 0) {
+            AvaliacaoResumo resumo = avaliacaoResumoRepository.findById(jogoId).orElseThrow();
+            AposCommit.executar(() -> indiceSugestoes.registrarResumo(resumo));
+            return;
+        }
+
+        // Outra transação criou a linha no meio do caminho sem ver esta avaliação: aplica o delta sobre ela
+        if (avaliacaoResumoRepository.aplicarDelta(jogoId, nota, delta, nota * delta) > 0) {
+            AposCommit.executar(() -> indiceSugestoes.registrarAvaliacao(jogoId, nota, delta));
+        }
     }
 }
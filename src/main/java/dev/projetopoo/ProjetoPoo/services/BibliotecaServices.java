@@ -1,26 +1,103 @@
 package dev.projetopoo.ProjetoPoo.services;
 
 
+import dev.projetopoo.ProjetoPoo.dto.BibliotecaItemDTO;
+import dev.projetopoo.ProjetoPoo.dto.PaginaCursor;
 import dev.projetopoo.ProjetoPoo.exception.*;
-import dev.projetopoo.ProjetoPoo.model.Biblioteca;
 import dev.projetopoo.ProjetoPoo.model.Jogo;
 import dev.projetopoo.ProjetoPoo.repository.BibliotecaRepository;
+import dev.projetopoo.ProjetoPoo.repository.ItemBibliotecaRepository;
+import dev.projetopoo.ProjetoPoo.services.pagination.OrdenacaoBiblioteca;
+import dev.projetopoo.ProjetoPoo.services.pagination.Paginacao;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 
 @Service
 public class BibliotecaServices {
 
+    private static final String INSERIR_JOGO = "INSERT INTO biblioteca_jogos (biblioteca_id, jogo_id, data_aquisicao) VALUES (?, ?, ?)";
+
     private final BibliotecaRepository bibliotecaRepository;
+    private final ItemBibliotecaRepository itemBibliotecaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
-    public BibliotecaServices(BibliotecaRepository bibliotecaRepository) {
+    public BibliotecaServices(BibliotecaRepository bibliotecaRepository, ItemBibliotecaRepository itemBibliotecaRepository, JdbcTemplate jdbcTemplate) {
         this.bibliotecaRepository = bibliotecaRepository;
+        this.itemBibliotecaRepository = itemBibliotecaRepository;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     public List<Jogo> listarJogosUsuario(Long userId) {
-        Biblioteca biblioteca = bibliotecaRepository.findByUsuarioId(userId)
+        Long bibliotecaId = bibliotecaRepository.findIdByUsuarioId(userId)
+                .orElseThrow(() -> new UsuarioNaoEncontradoException("Biblioteca do usuário não encontrada"));
+        return itemBibliotecaRepository.listarJogos(bibliotecaId);
+    }
+
+    public PaginaCursor<BibliotecaItemDTO> listarJogosPaginados(Long usuarioId, String ordenacao, String genero, String cursor, Integer tamanho) {
+        Long bibliotecaId = bibliotecaRepository.findIdByUsuarioId(usuarioId)
                 .orElseThrow(() -> new UsuarioNaoEncontradoException("Biblioteca do usuário não encontrada"));
-        return biblioteca.getJogos();
+
+        OrdenacaoBiblioteca criterio = OrdenacaoBiblioteca.de(ordenacao);
+        int tamanhoPagina = Paginacao.resolverTamanho(tamanho);
+        Limit limite = Paginacao.limiteComSentinela(tamanhoPagina);
+        String filtroGenero = genero == null ? "" : genero.trim().toLowerCase(Locale.ROOT);
+
+        List<BibliotecaItemDTO> itens;
+        if (criterio == OrdenacaoBiblioteca.NOME) {
+            if (cursor == null || cursor.isEmpty()) {
+                itens = itemBibliotecaRepository.listarPorNome(bibliotecaId, filtroGenero, limite);
+            } else {
+                String[] partes = Paginacao.decodificarCursor(cursor, criterio.getChave(), 3);
+                itens = itemBibliotecaRepository.listarPorNomeApos(bibliotecaId, filtroGenero, partes[2], Paginacao.parseId(partes[1]), limite);
+            }
+        } else {
+            if (cursor == null || cursor.isEmpty()) {
+                itens = itemBibliotecaRepository.listarPorAquisicao(bibliotecaId, filtroGenero, limite);
+            } else {
+                String[] partes = Paginacao.decodificarCursor(cursor, criterio.getChave(), 3);
+                itens = itemBibliotecaRepository.listarPorAquisicaoApos(bibliotecaId, filtroGenero, Paginacao.parseDataHora(partes[2]), Paginacao.parseId(partes[1]), limite);
+            }
+        }
+
+        return Paginacao.montarPagina(itens, tamanhoPagina, ultimo -> Paginacao.codificarCursor(criterio.getChave(),
+                String.valueOf(ultimo.getId()),
+                criterio == OrdenacaoBiblioteca.NOME ? ultimo.getNome() : String.valueOf(ultimo.getDataAquisicao())));
+    }
+
+    public boolean possuiJogo(Long usuarioId, Long jogoId) {
+        return bibliotecaRepository.possuiJogo(usuarioId, jogoId);
+    }
+
+    public Set<Long> jogosPossuidos(Long usuarioId, Collection<Long> jogoIds) {
+        if (jogoIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(bibliotecaRepository.findJogosPossuidos(usuarioId, jogoIds));
+    }
+
+    // Acrescenta só as linhas novas na tabela de junção, num único lote JDBC, sem carregar a biblioteca
+    public void adicionarJogos(Long bibliotecaId, Collection<Long> jogoIds, LocalDateTime dataAquisicao) {
+        Timestamp data = Timestamp.valueOf(dataAquisicao);
+        List<Object[]> linhas = new ArrayList<>(jogoIds.size());
+        for (Long jogoId : jogoIds) {
+            linhas.add(new Object[]{bibliotecaId, jogoId, data});
+        }
+        jdbcTemplate.batchUpdate(INSERIR_JOGO, linhas);
+    }
+
+    public void removerJogos(Long bibliotecaId, Collection<Long> jogoIds) {
+        if (!jogoIds.isEmpty()) {
+            bibliotecaRepository.removerJogos(bibliotecaId, jogoIds);
+        }
     }
 }
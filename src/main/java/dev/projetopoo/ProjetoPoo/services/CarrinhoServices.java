@@ -2,91 +2,104 @@ package dev.projetopoo.ProjetoPoo.services;
 
 
 import dev.projetopoo.ProjetoPoo.exception.*;
-import dev.projetopoo.ProjetoPoo.model.Biblioteca;
 import dev.projetopoo.ProjetoPoo.model.Carrinho;
 import dev.projetopoo.ProjetoPoo.model.Jogo;
-import dev.projetopoo.ProjetoPoo.repository.BibliotecaRepository;
 import dev.projetopoo.ProjetoPoo.repository.CarrinhoRepository;
-import dev.projetopoo.ProjetoPoo.repository.JogoRepository;
+import dev.projetopoo.ProjetoPoo.services.cache.JogoCache;
+import jakarta.transaction.Transactional;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 @Service
 public class CarrinhoServices {
 
     private final CarrinhoRepository carrinhoRepository;
-    private final JogoRepository jogoRepository;
-    private final BibliotecaRepository bibliotecaRepository;
+    private final JogoCache jogoCache;
+    private final BibliotecaServices bibliotecaServices;
 
-    public CarrinhoServices(CarrinhoRepository carrinhoRepository, JogoRepository jogoRepository, BibliotecaRepository bibliotecaRepository) {
+    public CarrinhoServices(CarrinhoRepository carrinhoRepository, JogoCache jogoCache, BibliotecaServices bibliotecaServices) {
         this.carrinhoRepository = carrinhoRepository;
-        this.jogoRepository = jogoRepository;
-        this.bibliotecaRepository = bibliotecaRepository;
+        this.jogoCache = jogoCache;
+        this.bibliotecaServices = bibliotecaServices;
     }
 
+    @Transactional
     public void adicionarJogo(Long usuarioId, Long jogoId) {
-        Carrinho carrinho = carrinhoRepository.findByUsuarioId(usuarioId)
-                .orElseThrow(() -> new UsuarioNaoEncontradoException("Carrinho do usuário não encontrado"));
+        adicionarJogos(buscarCarrinhoId(usuarioId), usuarioId, List.of(jogoId));
+    }
 
-        Jogo jogo = jogoRepository.findById(jogoId)
-                .orElseThrow(() -> new JogoNaoEncontradoException(jogoId));
-
-        Biblioteca biblioteca = bibliotecaRepository.findByUsuarioId(usuarioId)
-                .orElseThrow(() -> new UsuarioNaoEncontradoException("Biblioteca do usuário não encontrada"));
-        
-        boolean jaTemNaBiblioteca = biblioteca.getJogos()
-                .stream()
-                .anyMatch(j -> j.getId().equals(jogo.getId()));
-        
-        if (jaTemNaBiblioteca) {
-            throw new IllegalArgumentException("Você já possui o jogo '" + jogo.getNome() + "' na sua biblioteca");
-        }
+    @Transactional
+    public void removerJogo(Long usuarioId, Long jogoId) {
+        removerJogos(buscarCarrinhoId(usuarioId), List.of(jogoId));
+    }
 
-        boolean jaTemNoCarrinho = carrinho.getJogos()
-                .stream()
-                .anyMatch(j -> j.getId().equals(jogo.getId()));
+    // Remoções são aplicadas antes das adições, tudo na mesma transação
+    @Transactional
+    public void atualizarEmLote(Long usuarioId, Collection<Long> adicionar, Collection<Long> remover) {
+        Long carrinhoId = buscarCarrinhoId(usuarioId);
 
-        if (jaTemNoCarrinho) {
-            throw new IllegalArgumentException("O jogo '" + jogo.getNome() + "' já está no carrinho");
+        if (remover != null && !remover.isEmpty()) {
+            removerJogos(carrinhoId, remover);
+        }
+        if (adicionar != null && !adicionar.isEmpty()) {
+            adicionarJogos(carrinhoId, usuarioId, adicionar);
         }
-
-        carrinho.getJogos().add(jogo);
-
-        double novoTotal = carrinho.getJogos().stream()
-                .mapToDouble(Jogo::getPreco)
-                .sum();
-
-        carrinho.setValorTotal(novoTotal);
-
-        carrinhoRepository.save(carrinho);
     }
 
-    public void removerJogo(Long usuarioId, Long jogoId) {
+    public List<Jogo> getJogos(Long usuarioId) {
         Carrinho carrinho = carrinhoRepository.findByUsuarioId(usuarioId)
                 .orElseThrow(() -> new UsuarioNaoEncontradoException("Carrinho do usuário não encontrado"));
 
-        boolean removido = carrinho.getJogos().removeIf(j -> j.getId().equals(jogoId));
-        
-        if (!removido) {
-            throw new JogoNaoEncontradoException("Jogo não encontrado no carrinho");
+        return new ArrayList<>(carrinho.getJogos());
+    }
+
+    private void adicionarJogos(Long carrinhoId, Long usuarioId, Collection<Long> jogoIds) {
+        Set<Long> ids = new LinkedHashSet<>(jogoIds);
+        List<Jogo> jogos = new ArrayList<>(ids.size());
+        for (Long jogoId : ids) {
+            jogos.add(jogoCache.buscarPorId(jogoId)
+                    .orElseThrow(() -> new JogoNaoEncontradoException(jogoId)));
         }
 
-        double novoTotal = carrinho.getJogos().stream()
-                .mapToDouble(Jogo::getPreco)
-                .sum();
+        Set<Long> naBiblioteca = bibliotecaServices.jogosPossuidos(usuarioId, ids);
+        Set<Long> noCarrinho = new HashSet<>(carrinhoRepository.findJogosNoCarrinho(carrinhoId, ids));
 
-        carrinho.setValorTotal(novoTotal);
+        for (Jogo jogo : jogos) {
+            if (naBiblioteca.contains(jogo.getId())) {
+                throw new IllegalArgumentException("Você já possui o jogo '" + jogo.getNome() + "' na sua biblioteca");
+            }
+            if (noCarrinho.contains(jogo.getId())) {
+                throw new IllegalArgumentException("O jogo '" + jogo.getNome() + "' já está no carrinho");
+            }
+        }
 
-        carrinhoRepository.save(carrinho);
+        for (Jogo jogo : jogos) {
+            // Outra requisição pode ter incluído o mesmo jogo depois da verificação acima
+            if (carrinhoRepository.inserirJogo(carrinhoId, jogo.getId()) == 0) {
+                throw new IllegalArgumentException("O jogo '" + jogo.getNome() + "' já está no carrinho");
+            }
+        }
+        carrinhoRepository.recalcularTotal(carrinhoId);
     }
 
-    public List<Jogo> getJogos(Long usuarioId) {
-        Carrinho carrinho = carrinhoRepository.findByUsuarioId(usuarioId)
-                .orElseThrow(() -> new UsuarioNaoEncontradoException("Carrinho do usuário não encontrado"));
+    private void removerJogos(Long carrinhoId, Collection<Long> jogoIds) {
+        Set<Long> ids = new LinkedHashSet<>(jogoIds);
+        for (Long jogoId : ids) {
+            if (carrinhoRepository.removerJogo(carrinhoId, jogoId) == 0) {
+                throw new JogoNaoEncontradoException("Jogo não encontrado no carrinho");
+            }
+        }
+        carrinhoRepository.recalcularTotal(carrinhoId);
+    }
 
-        return carrinho.getJogos();
+    private Long buscarCarrinhoId(Long usuarioId) {
+        return carrinhoRepository.findIdByUsuarioId(usuarioId)
+                .orElseThrow(() -> new UsuarioNaoEncontradoException("Carrinho do usuário não encontrado"));
     }
 }
-
-
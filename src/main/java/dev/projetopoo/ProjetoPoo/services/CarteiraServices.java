@@ -1,37 +1,91 @@
 package dev.projetopoo.ProjetoPoo.services;
 
 
+import dev.projetopoo.ProjetoPoo.dto.PaginaCursor;
 import dev.projetopoo.ProjetoPoo.exception.*;
-import dev.projetopoo.ProjetoPoo.model.Carteira;
+import dev.projetopoo.ProjetoPoo.model.Dinheiro;
+import dev.projetopoo.ProjetoPoo.model.MovimentacaoCarteira;
+import dev.projetopoo.ProjetoPoo.model.TipoMovimentacao;
 import dev.projetopoo.ProjetoPoo.repository.CarteiraRepository;
+import dev.projetopoo.ProjetoPoo.repository.MovimentacaoCarteiraRepository;
+import dev.projetopoo.ProjetoPoo.services.pagination.Paginacao;
+import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Service
 public class CarteiraServices {
 
+    private static final String TIPO_CURSOR = "movimentacao";
+
     private final CarteiraRepository carteiraRepository;
+    private final MovimentacaoCarteiraRepository movimentacaoRepository;
 
-    public CarteiraServices(CarteiraRepository carteiraRepository) {
+    public CarteiraServices(CarteiraRepository carteiraRepository, MovimentacaoCarteiraRepository movimentacaoRepository) {
         this.carteiraRepository = carteiraRepository;
+        this.movimentacaoRepository = movimentacaoRepository;
     }
 
-    public double adicionarValor(Long usuarioId, double valor){
-        if (valor <= 0) {
+    @Transactional
+    public Dinheiro adicionarValor(Long usuarioId, Dinheiro valor){
+        if (valor == null || !valor.isPositivo()) {
             throw new IllegalArgumentException("O valor a ser adicionado deve ser maior que zero");
         }
-        
-        Carteira carteira = carteiraRepository.findByUsuarioId(usuarioId)
-                .orElseThrow(() -> new UsuarioNaoEncontradoException("Carteira do usuário não encontrada"));
 
-        carteira.setValor(carteira.getValor() + valor);
-        carteiraRepository.save(carteira);
-        return  carteira.getValor();
+        creditar(usuarioId, valor, TipoMovimentacao.CREDITO, null);
+        return verSaldo(usuarioId);
+    }
+
+    // Crédito e débito são um único UPDATE condicional cada; a linha afetada (ou não) decide o resultado,
+    // sem ler o saldo antes. O extrato é lançado em seguida com o saldo resultante lido no próprio INSERT
+    @Transactional
+    public void creditar(Long usuarioId, Dinheiro valor, TipoMovimentacao tipo, Long compraId) {
+        if (carteiraRepository.creditar(usuarioId, valor.getCentavos()) == 0) {
+            throw new UsuarioNaoEncontradoException("Carteira do usuário não encontrada");
+        }
+        registrar(usuarioId, tipo, valor, compraId);
+    }
+
+    @Transactional
+    public void debitar(Long usuarioId, Dinheiro valor, Long compraId) {
+        if (carteiraRepository.debitar(usuarioId, valor.getCentavos()) == 0) {
+            Dinheiro saldoAtual = verSaldo(usuarioId);
+            throw new SaldoInsuficienteException(saldoAtual, valor);
+        }
+        registrar(usuarioId, TipoMovimentacao.DEBITO, valor.negar(), compraId);
     }
 
-    public double verSaldo(Long usuarioId){
-        Carteira carteira = carteiraRepository.findByUsuarioId(usuarioId)
+    public Dinheiro verSaldo(Long usuarioId){
+        return carteiraRepository.findSaldoCentavosByUsuarioId(usuarioId)
+                .map(Dinheiro::deCentavos)
                 .orElseThrow(() -> new UsuarioNaoEncontradoException("Carteira do usuário não encontrada"));
+    }
+
+    public Dinheiro saldoPeloExtrato(Long usuarioId) {
+        verSaldo(usuarioId);
+        return Dinheiro.deCentavos(movimentacaoRepository.somarCentavosPorUsuario(usuarioId));
+    }
+
+    public PaginaCursor<MovimentacaoCarteira> listarMovimentacoes(Long usuarioId, String cursor, Integer tamanho) {
+        int tamanhoPagina = Paginacao.resolverTamanho(tamanho);
+        Limit limite = Paginacao.limiteComSentinela(tamanhoPagina);
+
+        List<MovimentacaoCarteira> movimentacoes;
+        if (cursor == null || cursor.isEmpty()) {
+            movimentacoes = movimentacaoRepository.findByUsuarioIdOrderByIdDesc(usuarioId, limite);
+        } else {
+            String[] partes = Paginacao.decodificarCursor(cursor, TIPO_CURSOR, 2);
+            movimentacoes = movimentacaoRepository.findByUsuarioIdAndIdLessThanOrderByIdDesc(usuarioId, Paginacao.parseId(partes[1]), limite);
+        }
+
+        return Paginacao.montarPagina(movimentacoes, tamanhoPagina, ultima ->
+                Paginacao.codificarCursor(TIPO_CURSOR, String.valueOf(ultima.getId())));
+    }
 
-        return carteira.getValor();
+    private void registrar(Long usuarioId, TipoMovimentacao tipo, Dinheiro valor, Long compraId) {
+        movimentacaoRepository.registrar(usuarioId, tipo.name(), valor.getCentavos(), compraId, LocalDateTime.now());
     }
 }
@@ -1,98 +1,130 @@
 package dev.projetopoo.ProjetoPoo.services;
 
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
+import dev.projetopoo.ProjetoPoo.dto.CompraItemDTO;
+import dev.projetopoo.ProjetoPoo.dto.ContextoCompra;
+import dev.projetopoo.ProjetoPoo.dto.PaginaCursor;
+import dev.projetopoo.ProjetoPoo.dto.ResumoCompras;
+import dev.projetopoo.ProjetoPoo.dto.ResumoMensalCompras;
 import dev.projetopoo.ProjetoPoo.exception.CarrinhoVazioException;
-import dev.projetopoo.ProjetoPoo.exception.SaldoInsuficienteException;
 import dev.projetopoo.ProjetoPoo.exception.UsuarioNaoEncontradoException;
-import dev.projetopoo.ProjetoPoo.model.Biblioteca;
 import dev.projetopoo.ProjetoPoo.model.Carrinho;
-import dev.projetopoo.ProjetoPoo.model.Carteira;
 import dev.projetopoo.ProjetoPoo.model.Compra;
+import dev.projetopoo.ProjetoPoo.model.Dinheiro;
 import dev.projetopoo.ProjetoPoo.model.Jogo;
+import dev.projetopoo.ProjetoPoo.model.TipoMovimentacao;
 import dev.projetopoo.ProjetoPoo.model.User;
 import dev.projetopoo.ProjetoPoo.repository.BibliotecaRepository;
 import dev.projetopoo.ProjetoPoo.repository.CarrinhoRepository;
-import dev.projetopoo.ProjetoPoo.repository.CarteiraRepository;
 import dev.projetopoo.ProjetoPoo.repository.CompraRepository;
-import dev.projetopoo.ProjetoPoo.repository.UserRepository;
+import dev.projetopoo.ProjetoPoo.services.metricas.MetricasNegocio;
+import dev.projetopoo.ProjetoPoo.services.pagination.Paginacao;
+import dev.projetopoo.ProjetoPoo.services.recomendacao.ModeloCoocorrencia;
+import dev.projetopoo.ProjetoPoo.services.vendas.ContadorVendas;
 import jakarta.transaction.Transactional;
 
 @Service
 public class CompraServices {
 
+    private static final String TIPO_CURSOR = "compra";
+    // Limites usados quando o período não é informado
+    private static final LocalDateTime INICIO_PADRAO = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime FIM_PADRAO = LocalDateTime.of(9999, 1, 1, 0, 0);
+
     private final CompraRepository compraRepository;
-    private final UserRepository userRepository;
-    private final CarteiraRepository carteiraRepository;
+    private final CarteiraServices carteiraServices;
     private final CarrinhoRepository carrinhoRepository;
     private final BibliotecaRepository bibliotecaRepository;
+    private final BibliotecaServices bibliotecaServices;
+    private final ContadorVendas contadorVendas;
+    private final ModeloCoocorrencia modeloCoocorrencia;
+    private final MetricasNegocio metricasNegocio;
 
     public CompraServices(CompraRepository compraRepository,
-                          UserRepository userRepository,
-                          CarteiraRepository carteiraRepository,
+                          CarteiraServices carteiraServices,
                           CarrinhoRepository carrinhoRepository,
-                          BibliotecaRepository bibliotecaRepository) {
+                          BibliotecaRepository bibliotecaRepository,
+                          BibliotecaServices bibliotecaServices,
+                          ContadorVendas contadorVendas,
+                          ModeloCoocorrencia modeloCoocorrencia,
+                          MetricasNegocio metricasNegocio) {
         this.compraRepository = compraRepository;
-        this.userRepository = userRepository;
-        this.carteiraRepository = carteiraRepository;
+        this.carteiraServices = carteiraServices;
         this.carrinhoRepository = carrinhoRepository;
         this.bibliotecaRepository = bibliotecaRepository;
+        this.bibliotecaServices = bibliotecaServices;
+        this.contadorVendas = contadorVendas;
+        this.modeloCoocorrencia = modeloCoocorrencia;
+        this.metricasNegocio = metricasNegocio;
     }
 
     @Transactional
     public Compra efetuarCompra(Long usuarioId) {
-        User usuario = userRepository.findById(usuarioId)
+        try {
+            return registrarCompra(usuarioId);
+        } catch (RuntimeException e) {
+            metricasNegocio.registrarFalhaCompra(e);
+            throw e;
+        }
+    }
+
+    private Compra registrarCompra(Long usuarioId) {
+        ContextoCompra contexto = carrinhoRepository.findContextoCompra(usuarioId)
                 .orElseThrow(() -> new UsuarioNaoEncontradoException(usuarioId));
-        Carteira carteira = carteiraRepository.findByUsuarioId(usuarioId)
-                .orElseThrow(() -> new UsuarioNaoEncontradoException("Carteira do usuário não encontrada"));
-        Carrinho carrinho = carrinhoRepository.findByUsuarioId(usuarioId)
-                .orElseThrow(() -> new UsuarioNaoEncontradoException("Carrinho do usuário não encontrado"));
-        Biblioteca biblioteca = bibliotecaRepository.findByUsuarioId(usuarioId)
-                .orElseThrow(() -> new UsuarioNaoEncontradoException("Biblioteca do usuário não encontrada"));
+        Carrinho carrinho = contexto.getCarrinho();
 
         List<Jogo> jogosComprados = new ArrayList<>(carrinho.getJogos());
-        double valorTotal = carrinho.getValorTotal();
 
         if (jogosComprados.isEmpty()) {
             throw new CarrinhoVazioException();
         }
 
+        List<Long> jogoIds = jogosComprados.stream().map(Jogo::getId).toList();
+        Set<Long> jaPossuidos = bibliotecaServices.jogosPossuidos(usuarioId, jogoIds);
+
+        // O valor cobrado é recalculado a partir dos jogos do carrinho, não do total mantido incrementalmente
+        long centavos = 0L;
         for (Jogo jogo : jogosComprados) {
-            boolean jaTemNaBiblioteca = biblioteca.getJogos()
-                    .stream()
-                    .anyMatch(j -> j.getId().equals(jogo.getId()));
-            
-            if (jaTemNaBiblioteca) {
+            if (jaPossuidos.contains(jogo.getId())) {
                 throw new IllegalArgumentException("Você já possui o jogo '" + jogo.getNome() + "' na sua biblioteca. Remova-o do carrinho antes de finalizar a compra.");
             }
+            centavos += jogo.getPreco().getCentavos();
         }
+        Dinheiro valorTotal = Dinheiro.deCentavos(centavos);
 
-        if(carteira.getValor() < valorTotal) {
-            throw new SaldoInsuficienteException(carteira.getValor(), valorTotal);
+        // Os itens saem do carrinho antes da cobrança: se outra compra já os levou, nada é debitado
+        if (carrinhoRepository.retirarJogos(carrinho.getId(), jogoIds) != jogoIds.size()) {
+            throw new IllegalArgumentException("O carrinho foi alterado durante a compra. Confira os itens e tente novamente.");
         }
 
         Compra compra =  new Compra();
-        compra.setUsuario(usuario);
+        compra.setUsuario(contexto.getUsuario());
         compra.setDataCompra(LocalDateTime.now());
         compra.setValor(valorTotal);
         compra.setJogos(jogosComprados);
 
         compraRepository.save(compra);
 
-        carteira.setValor(carteira.getValor() - valorTotal);
-        carteiraRepository.save(carteira);
+        carteiraServices.debitar(usuarioId, valorTotal, compra.getId());
+
+        bibliotecaServices.adicionarJogos(contexto.getBibliotecaId(), jogoIds, compra.getDataCompra());
 
-        biblioteca.getJogos().addAll(jogosComprados);
-        bibliotecaRepository.save(biblioteca);
+        // Jogos incluídos depois da leitura continuam no carrinho e entram no total refeito
+        carrinhoRepository.recalcularTotal(carrinho.getId());
 
-        carrinho.getJogos().clear();
-        carrinho.setValorTotal(0.0);
-        carrinhoRepository.save(carrinho);
+        contadorVendas.registrarVendas(jogoIds, compra.getDataCompra().toLocalDate());
+        modeloCoocorrencia.registrarCompra(usuarioId, jogoIds);
+        metricasNegocio.registrarCompra(valorTotal, jogoIds.size());
 
         return compra;
 
@@ -103,32 +135,99 @@ public class CompraServices {
         Compra compra = compraRepository.findById(compraId)
                 .orElseThrow(() -> new IllegalArgumentException("Compra com ID " + compraId + " não foi encontrada"));
 
-        if (compra.isReembolsado()) {
+        // A marcação vem antes do crédito: reembolsos concorrentes da mesma compra, com ou sem Idempotency-Key,
+        // creditam uma vez só
+        if (compraRepository.marcarReembolsada(compraId) == 0) {
             throw new IllegalArgumentException("Esta compra já foi reembolsada.");
         }
 
         User usuario = compra.getUsuario();
-        Carteira carteira = carteiraRepository.findByUsuarioId(usuario.getId())
-                .orElseThrow(() -> new UsuarioNaoEncontradoException("Carteira do usuário não encontrada"));
-        Biblioteca biblioteca = bibliotecaRepository.findByUsuarioId(usuario.getId())
+        Long bibliotecaId = bibliotecaRepository.findIdByUsuarioId(usuario.getId())
                 .orElseThrow(() -> new UsuarioNaoEncontradoException("Biblioteca do usuário não encontrada"));
 
-        carteira.setValor(carteira.getValor() + compra.getValor());
-        carteiraRepository.save(carteira);
+        carteiraServices.creditar(usuario.getId(), compra.getValor(), TipoMovimentacao.REEMBOLSO, compra.getId());
 
-        biblioteca.getJogos().removeAll(compra.getJogos());
-        bibliotecaRepository.save(biblioteca);
-
-        compra.setReembolsado(true);
-        compraRepository.save(compra);
+        List<Long> jogoIds = compra.getJogos().stream().map(Jogo::getId).toList();
+        bibliotecaServices.removerJogos(bibliotecaId, jogoIds);
+        contadorVendas.registrarReembolsos(jogoIds, compra.getDataCompra().toLocalDate());
+        modeloCoocorrencia.registrarReembolso(usuario.getId(), jogoIds);
+        metricasNegocio.registrarReembolso(compra.getValor());
     }
 
     public List<Compra> getComprasPorUsuario(Long usuarioId) {
         return compraRepository.findByUsuarioId(usuarioId);
     }
 
+    public PaginaCursor<CompraItemDTO> listarHistorico(Long usuarioId, Boolean reembolsado, LocalDate de, LocalDate ate,
+                                                       String cursor, Integer tamanho) {
+        int tamanhoPagina = Paginacao.resolverTamanho(tamanho);
+        Limit limite = Paginacao.limiteComSentinela(tamanhoPagina);
+        LocalDateTime inicio = inicioPeriodo(de);
+        LocalDateTime fim = fimPeriodo(de, ate);
+        boolean filtrarReembolso = reembolsado != null;
+        boolean valorReembolsado = Boolean.TRUE.equals(reembolsado);
+
+        List<CompraItemDTO> compras;
+        if (cursor == null || cursor.isEmpty()) {
+            compras = compraRepository.listarHistorico(usuarioId, inicio, fim, filtrarReembolso, valorReembolsado, limite);
+        } else {
+            String[] partes = Paginacao.decodificarCursor(cursor, TIPO_CURSOR, 3);
+            compras = compraRepository.listarHistoricoApos(usuarioId, inicio, fim, filtrarReembolso, valorReembolsado,
+                    Paginacao.parseDataHora(partes[2]), Paginacao.parseId(partes[1]), limite);
+        }
+
+        return Paginacao.montarPagina(compras, tamanhoPagina, ultima ->
+                Paginacao.codificarCursor(TIPO_CURSOR, String.valueOf(ultima.getId()), String.valueOf(ultima.getDataCompra())));
+    }
+
+    // Agregado no banco: só as linhas por mês chegam à aplicação
+    public ResumoCompras resumirCompras(Long usuarioId, LocalDate de, LocalDate ate) {
+        List<ResumoMensalCompras> meses = new ArrayList<>();
+        long quantidadeCompras = 0L;
+        long quantidadeReembolsos = 0L;
+        long centavosGastos = 0L;
+        long centavosReembolsados = 0L;
+
+        for (Object[] linha : compraRepository.resumirPorMes(usuarioId, inicioPeriodo(de), fimPeriodo(de, ate))) {
+            ResumoMensalCompras mes = new ResumoMensalCompras(
+                    ((Number) linha[0]).intValue(),
+                    ((Number) linha[1]).intValue(),
+                    ((Number) linha[2]).longValue(),
+                    ((Number) linha[3]).longValue(),
+                    Dinheiro.deCentavos(((Number) linha[4]).longValue()),
+                    Dinheiro.deCentavos(((Number) linha[5]).longValue()));
+            meses.add(mes);
+            quantidadeCompras += mes.getQuantidadeCompras();
+            quantidadeReembolsos += mes.getQuantidadeReembolsos();
+            centavosGastos += mes.getTotalGasto().getCentavos();
+            centavosReembolsados += mes.getValorReembolsado().getCentavos();
+        }
+
+        return new ResumoCompras(quantidadeCompras, quantidadeReembolsos, Dinheiro.deCentavos(centavosGastos),
+                Dinheiro.deCentavos(centavosReembolsados), meses);
+    }
+
+    public Optional<Long> buscarDono(Long compraId) {
+        return compraRepository.findUsuarioIdById(compraId);
+    }
+
     public Compra getCompraPorId(Long idCompra) {
         return compraRepository.findById(idCompra)
                 .orElseThrow(() -> new IllegalArgumentException("Compra com ID " + idCompra + " não foi encontrada"));
     }
+
+    private LocalDateTime inicioPeriodo(LocalDate de) {
+        return de == null ? INICIO_PADRAO : de.atStartOfDay();
+    }
+
+    // A data final é inclusiva: o período vai até o início do dia seguinte
+    private LocalDateTime fimPeriodo(LocalDate de, LocalDate ate) {
+        if (ate == null) {
+            return FIM_PADRAO;
+        }
+        if (de != null && ate.isBefore(de)) {
+            throw new IllegalArgumentException("A data final deve ser igual ou posterior à data inicial");
+        }
+        return ate.plusDays(1).atStartOfDay();
+    }
 }
@@ -1,54 +1,156 @@
 package dev.projetopoo.ProjetoPoo.services;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Locale;
 
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
+import dev.projetopoo.ProjetoPoo.dto.CacheEstatisticas;
+import dev.projetopoo.ProjetoPoo.dto.JogoMaisVendido;
+import dev.projetopoo.ProjetoPoo.dto.PaginaCursor;
+import dev.projetopoo.ProjetoPoo.dto.RelatorioImportacao;
+import dev.projetopoo.ProjetoPoo.dto.ResultadoBusca;
+import dev.projetopoo.ProjetoPoo.dto.SugestaoJogo;
 import dev.projetopoo.ProjetoPoo.exception.JogoJaExisteException;
 import dev.projetopoo.ProjetoPoo.exception.JogoNaoEncontradoException;
 import dev.projetopoo.ProjetoPoo.model.Jogo;
 import dev.projetopoo.ProjetoPoo.repository.JogoRepository;
+import dev.projetopoo.ProjetoPoo.services.busca.FiltroBusca;
+import dev.projetopoo.ProjetoPoo.services.busca.IndiceCatalogo;
+import dev.projetopoo.ProjetoPoo.services.busca.IndiceSugestoes;
+import dev.projetopoo.ProjetoPoo.services.busca.OrdenacaoSugestao;
+import dev.projetopoo.ProjetoPoo.services.cache.JogoCache;
+import dev.projetopoo.ProjetoPoo.services.catalogo.FormatoCatalogo;
+import dev.projetopoo.ProjetoPoo.services.catalogo.ImportadorCatalogo;
+import dev.projetopoo.ProjetoPoo.services.pagination.OrdenacaoCatalogo;
+import dev.projetopoo.ProjetoPoo.services.pagination.Paginacao;
+import dev.projetopoo.ProjetoPoo.services.validation.MotorValidacao;
+import dev.projetopoo.ProjetoPoo.services.vendas.ContadorVendas;
+import dev.projetopoo.ProjetoPoo.services.vendas.PeriodoVendas;
 
 @Service
 public class JogoService {
 
+    private static final String INDICE_NOME_UNICO = "uk_jogo_nome";
+
     private final JogoRepository jogoRepository;
-    private final java.util.List<dev.projetopoo.ProjetoPoo.services.validation.ValidadorJogo> validadores;
+    private final MotorValidacao motorValidacao;
+    private final JogoCache jogoCache;
+    private final IndiceCatalogo indiceCatalogo;
+    private final IndiceSugestoes indiceSugestoes;
+    private final ContadorVendas contadorVendas;
+    private final ImportadorCatalogo importadorCatalogo;
 
-    public JogoService(JogoRepository jogoRepository, java.util.List<dev.projetopoo.ProjetoPoo.services.validation.ValidadorJogo> validadores) {
+    public JogoService(JogoRepository jogoRepository, MotorValidacao motorValidacao, JogoCache jogoCache, IndiceCatalogo indiceCatalogo, IndiceSugestoes indiceSugestoes, ContadorVendas contadorVendas, ImportadorCatalogo importadorCatalogo) {
         this.jogoRepository = jogoRepository;
-        this.validadores = validadores;
+        this.motorValidacao = motorValidacao;
+        this.jogoCache = jogoCache;
+        this.indiceCatalogo = indiceCatalogo;
+        this.indiceSugestoes = indiceSugestoes;
+        this.contadorVendas = contadorVendas;
+        this.importadorCatalogo = importadorCatalogo;
     }
 
     public List<Jogo> getJogos() {
         return jogoRepository.findAll();
     }
 
+    public PaginaCursor<Jogo> listarJogosPaginados(String ordenacao, String cursor, Integer tamanho) {
+        OrdenacaoCatalogo criterio = OrdenacaoCatalogo.de(ordenacao);
+        int tamanhoPagina = Paginacao.resolverTamanho(tamanho);
+        Limit limite = Paginacao.limiteComSentinela(tamanhoPagina);
+
+        List<Jogo> jogos;
+        if (criterio == OrdenacaoCatalogo.LANCAMENTO) {
+            if (cursor == null || cursor.isEmpty()) {
+                jogos = jogoRepository.listarPorLancamento(limite);
+            } else {
+                String[] partes = Paginacao.decodificarCursor(cursor, criterio.getChave(), 3);
+                jogos = jogoRepository.listarPorLancamentoApos(Paginacao.parseData(partes[1]), Paginacao.parseId(partes[2]), limite);
+            }
+        } else {
+            if (cursor == null || cursor.isEmpty()) {
+                jogos = jogoRepository.findAllByOrderByIdAsc(limite);
+            } else {
+                String[] partes = Paginacao.decodificarCursor(cursor, criterio.getChave(), 2);
+                jogos = jogoRepository.findByIdGreaterThanOrderByIdAsc(Paginacao.parseId(partes[1]), limite);
+            }
+        }
+
+        return Paginacao.montarPagina(jogos, tamanhoPagina, ultimo -> criterio == OrdenacaoCatalogo.LANCAMENTO
+                ? Paginacao.codificarCursor(criterio.getChave(), String.valueOf(ultimo.getDataLancamento()), String.valueOf(ultimo.getId()))
+                : Paginacao.codificarCursor(criterio.getChave(), String.valueOf(ultimo.getId())));
+    }
+
+    public ResultadoBusca buscarJogos(FiltroBusca filtro, Integer pagina, Integer tamanho) {
+        int numeroPagina = pagina == null ? 0 : pagina;
+        if (numeroPagina < 0) {
+            throw new IllegalArgumentException("A página deve ser maior ou igual a zero");
+        }
+        return indiceCatalogo.buscar(filtro, numeroPagina, Paginacao.resolverTamanho(tamanho));
+    }
+
+    public List<SugestaoJogo> sugerirJogos(String prefixo, String ordenacao, Integer quantidade) {
+        int k = quantidade == null ? IndiceSugestoes.QUANTIDADE_PADRAO : quantidade;
+        if (k < 1 || k > IndiceSugestoes.QUANTIDADE_MAXIMA) {
+            throw new IllegalArgumentException("A quantidade de sugestões deve estar entre 1 e " + IndiceSugestoes.QUANTIDADE_MAXIMA);
+        }
+        return indiceSugestoes.sugerir(prefixo, OrdenacaoSugestao.de(ordenacao), k);
+    }
+
+    public List<JogoMaisVendido> listarMaisVendidos(String periodo, Integer quantidade) {
+        int k = quantidade == null ? 10 : quantidade;
+        if (k < 1 || k > ContadorVendas.TAMANHO_RANKING) {
+            throw new IllegalArgumentException("A quantidade deve estar entre 1 e " + ContadorVendas.TAMANHO_RANKING);
+        }
+        return contadorVendas.maisVendidos(PeriodoVendas.de(periodo), k);
+    }
+
     public Jogo addGame(Jogo jogo) {
         // OCP: Validations are now decoupled and open for extension
-        validadores.forEach(v -> v.validar(jogo));
+        motorValidacao.validarOuFalhar(jogo);
+        // A nota vem do resumo de avaliações (AvaliacaoResumo), não do corpo da requisição
+        jogo.setAvaliacao(0);
         
-        if (jogoRepository.findByNome(jogo.getNome()).isPresent()) {
+        if (jogoCache.buscarPorNome(jogo.getNome()).isPresent()) {
             throw JogoJaExisteException.porNome(jogo.getNome());
         }
         
         try {
-            return jogoRepository.save(jogo);
+            Jogo salvo = jogoRepository.save(jogo);
+            jogoCache.invalidar(salvo.getId(), salvo.getNome());
+            indiceCatalogo.indexar(salvo);
+            indiceSugestoes.indexar(salvo);
+            return salvo;
+        } catch (DataIntegrityViolationException e) {
+            // O cache só enxerga jogos ativos; o índice único também barra o nome de um jogo removido
+            if (violaNomeUnico(e)) {
+                throw JogoJaExisteException.porNome(jogo.getNome());
+            }
+            throw e;
         } catch (Exception e) {
-            e.printStackTrace();
             throw new RuntimeException("Erro ao salvar jogo: " + e.getMessage(), e);
         }
     }
 
     public Jogo getJogoById(Long id) {
-        return jogoRepository.findById(id).orElseThrow(() -> new JogoNaoEncontradoException(id));
+        return jogoCache.buscarPorId(id).orElseThrow(() -> new JogoNaoEncontradoException(id));
     }
 
     public Jogo updateJogo(Long id, Jogo jogoAtualizado) {
         Jogo jogo = jogoRepository.findById(id).orElseThrow(() -> new JogoNaoEncontradoException(id));
+        String nomeAnterior = jogo.getNome();
+        motorValidacao.validarAlteracaoOuFalhar(jogoAtualizado);
         
         if (jogoAtualizado.getNome() != null && !jogoAtualizado.getNome().trim().isEmpty()) {
-            jogoRepository.findByNome(jogoAtualizado.getNome())
+            jogoCache.buscarPorNome(jogoAtualizado.getNome())
                 .ifPresent(existingJogo -> {
                     if (!existingJogo.getId().equals(id)) {
                         throw JogoJaExisteException.porNome(jogoAtualizado.getNome());
@@ -65,48 +167,65 @@ public class JogoService {
             jogo.setDescricao(jogoAtualizado.getDescricao());
         }
 
-        if (jogoAtualizado.getAvaliacao() >= 0) {
-            jogo.setAvaliacao(jogoAtualizado.getAvaliacao());
-        }
-        
         if (jogoAtualizado.getDescricao() != null) {
             jogo.setDescricao(jogoAtualizado.getDescricao());
         }
         
-        if (jogoAtualizado.getPreco() >= 0) {
+        if (jogoAtualizado.getPreco() != null) {
             jogo.setPreco(jogoAtualizado.getPreco());
-        } else {
-            throw new IllegalArgumentException("Preço deve ser maior ou igual a zero");
         }
     
         if (jogoAtualizado.getImagemUrl() != null) {
-            if (!jogoAtualizado.getImagemUrl().trim().isEmpty()) {
-                if (!isValidUrl(jogoAtualizado.getImagemUrl())) {
-                    throw new IllegalArgumentException("URL da imagem inválida. Deve começar com http:// ou https://");
-                }
-                jogo.setImagemUrl(jogoAtualizado.getImagemUrl());
-            } else {
-                jogo.setImagemUrl("");
-            }
+            jogo.setImagemUrl(jogoAtualizado.getImagemUrl().isBlank() ? "" : jogoAtualizado.getImagemUrl());
         }
         
-        return jogoRepository.save(jogo);
+        Jogo salvo;
+        try {
+            salvo = jogoRepository.save(jogo);
+        } catch (DataIntegrityViolationException e) {
+            if (violaNomeUnico(e)) {
+                throw JogoJaExisteException.porNome(jogo.getNome());
+            }
+            throw e;
+        }
+        jogoCache.invalidar(id, nomeAnterior, salvo.getNome());
+        indiceCatalogo.indexar(salvo);
+        indiceSugestoes.indexar(salvo);
+        return salvo;
     }
 
     public void deleteJogo(Long id) {
-        if (!jogoRepository.existsById(id)) {
-            throw new JogoNaoEncontradoException(id);
-        }
+        Jogo jogo = jogoRepository.findById(id).orElseThrow(() -> new JogoNaoEncontradoException(id));
         jogoRepository.deleteById(id);
+        jogoCache.invalidar(id, jogo.getNome());
+        indiceCatalogo.remover(id);
+        indiceSugestoes.remover(id);
     }
-    
-    private boolean isValidUrl(String url) {
-        if (url == null || url.trim().isEmpty()) {
-            return false;
+
+    public RelatorioImportacao importarCatalogo(InputStream entrada, FormatoCatalogo formato) {
+        try {
+            return importadorCatalogo.importar(entrada, formato);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erro ao ler o arquivo de importação", e);
         }
-        
-        String urlTrimmed = url.trim().toLowerCase();
-        return urlTrimmed.startsWith("http://") || urlTrimmed.startsWith("https://");
     }
 
+    public void exportarCatalogo(OutputStream saida, FormatoCatalogo formato) throws IOException {
+        importadorCatalogo.exportar(saida, formato);
+    }
+
+    public CacheEstatisticas getEstatisticasCache() {
+        return jogoCache.estatisticas();
+    }
+
+    // NOT NULL, FK e tamanho seguem como erro interno; só o índice único de nome vira conflito
+    private static boolean violaNomeUnico(DataIntegrityViolationException e) {
+        for (Throwable causa = e; causa != null; causa = causa.getCause()) {
+            if (causa instanceof ConstraintViolationException violacao && violacao.getConstraintName() != null
+                    && violacao.getConstraintName().toLowerCase(Locale.ROOT).contains(INDICE_NOME_UNICO)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
@@ -0,0 +1,56 @@
+package dev.projetopoo.ProjetoPoo.services;
+
+import dev.projetopoo.ProjetoPoo.dto.RecomendacaoJogo;
+import dev.projetopoo.ProjetoPoo.exception.JogoNaoEncontradoException;
+import dev.projetopoo.ProjetoPoo.services.cache.JogoCache;
+import dev.projetopoo.ProjetoPoo.services.recomendacao.ModeloCoocorrencia;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+@Service
+public class RecomendacaoServices {
+
+    private static final int QUANTIDADE_PADRAO = 10;
+
+    private final ModeloCoocorrencia modeloCoocorrencia;
+    private final BibliotecaServices bibliotecaServices;
+    private final JogoCache jogoCache;
+
+    public RecomendacaoServices(ModeloCoocorrencia modeloCoocorrencia, BibliotecaServices bibliotecaServices, JogoCache jogoCache) {
+        this.modeloCoocorrencia = modeloCoocorrencia;
+        this.bibliotecaServices = bibliotecaServices;
+        this.jogoCache = jogoCache;
+    }
+
+    public List<RecomendacaoJogo> recomendar(Long jogoId, Long usuarioId, Integer quantidade) {
+        jogoCache.buscarPorId(jogoId)
+                .orElseThrow(() -> new JogoNaoEncontradoException(jogoId));
+
+        int k = quantidade == null ? Math.min(QUANTIDADE_PADRAO, modeloCoocorrencia.getTopK()) : quantidade;
+        if (k < 1 || k > modeloCoocorrencia.getTopK()) {
+            throw new IllegalArgumentException("A quantidade deve estar entre 1 e " + modeloCoocorrencia.getTopK());
+        }
+
+        List<ModeloCoocorrencia.Vizinho> vizinhos = modeloCoocorrencia.recomendados(jogoId);
+        Set<Long> possuidos = usuarioId == null
+                ? Set.of()
+                : bibliotecaServices.jogosPossuidos(usuarioId, vizinhos.stream().map(ModeloCoocorrencia.Vizinho::getJogoId).toList());
+
+        List<RecomendacaoJogo> recomendacoes = new ArrayList<>(k);
+        for (ModeloCoocorrencia.Vizinho vizinho : vizinhos) {
+            if (recomendacoes.size() == k) {
+                break;
+            }
+            if (possuidos.contains(vizinho.getJogoId())) {
+                continue;
+            }
+            // Jogos removidos do catálogo não estão no cache e são pulados
+            jogoCache.buscarPorId(vizinho.getJogoId()).ifPresent(jogo ->
+                    recomendacoes.add(new RecomendacaoJogo(jogo.getId(), jogo.getNome(), vizinho.getPontuacao())));
+        }
+        return recomendacoes;
+    }
+}
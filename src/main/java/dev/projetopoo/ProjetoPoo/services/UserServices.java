@@ -9,11 +9,15 @@ import dev.projetopoo.ProjetoPoo.exception.UsuarioNaoEncontradoException;
 import dev.projetopoo.ProjetoPoo.model.Biblioteca;
 import dev.projetopoo.ProjetoPoo.model.Carrinho;
 import dev.projetopoo.ProjetoPoo.model.Carteira;
+import dev.projetopoo.ProjetoPoo.model.Dinheiro;
 import dev.projetopoo.ProjetoPoo.model.User;
 import dev.projetopoo.ProjetoPoo.repository.BibliotecaRepository;
 import dev.projetopoo.ProjetoPoo.repository.CarrinhoRepository;
 import dev.projetopoo.ProjetoPoo.repository.CarteiraRepository;
 import dev.projetopoo.ProjetoPoo.repository.UserRepository;
+import dev.projetopoo.ProjetoPoo.services.metricas.MetricasNegocio;
+import dev.projetopoo.ProjetoPoo.services.senha.LimitadorTentativasLogin;
+import dev.projetopoo.ProjetoPoo.services.senha.VerificadorSenhas;
 
 @Service
 public class UserServices {
@@ -22,15 +26,24 @@ public class UserServices {
     private final CarteiraRepository carteiraRepository;
     private final CarrinhoRepository carrinhoRepository;
     private final BibliotecaRepository bibliotecaRepository;
+    private final VerificadorSenhas verificadorSenhas;
+    private final LimitadorTentativasLogin limitadorTentativas;
+    private final MetricasNegocio metricasNegocio;
 
     public UserServices(UserRepository userRepository,
                         CarrinhoRepository carrinhoRepository,
                         BibliotecaRepository bibliotecaRepository,
-                        CarteiraRepository carteiraRepository) {
+                        CarteiraRepository carteiraRepository,
+                        VerificadorSenhas verificadorSenhas,
+                        LimitadorTentativasLogin limitadorTentativas,
+                        MetricasNegocio metricasNegocio) {
         this.userRepository = userRepository;
         this.carrinhoRepository = carrinhoRepository;
         this.bibliotecaRepository = bibliotecaRepository;
         this.carteiraRepository = carteiraRepository;
+        this.verificadorSenhas = verificadorSenhas;
+        this.limitadorTentativas = limitadorTentativas;
+        this.metricasNegocio = metricasNegocio;
     }
 
     public List<User> getAllUsers() {
@@ -55,16 +68,17 @@ public class UserServices {
         if(userRepository.findByEmail(user.getEmail()).isPresent()) {
             throw new IllegalArgumentException("E-mail já cadastrado: " + user.getEmail());
         }
+        user.setSenha(verificadorSenhas.codificar(user.getSenha()));
         User savedUser = userRepository.save(user);
 
         Carteira carteira = new Carteira();
         carteira.setUsuario(savedUser);
-        carteira.setValor(0.0);
+        carteira.setValor(Dinheiro.ZERO);
         carteiraRepository.save(carteira);
 
         Carrinho carrinho = new Carrinho();
         carrinho.setUsuario(savedUser);
-        carrinho.setValorTotal(0.0);
+        carrinho.setValorTotal(Dinheiro.ZERO);
         carrinhoRepository.save(carrinho);
 
         Biblioteca biblioteca = new Biblioteca();
@@ -90,14 +104,23 @@ public class UserServices {
                 });
             user.setEmail(userAtulizado.getEmail());
         }
-        if (userAtulizado.getSenha() != null && !userAtulizado.getSenha().trim().isEmpty()) {
-            user.setSenha(userAtulizado.getSenha());
-        }
+        // A senha não muda por aqui: changePassword exige a senha atual
 
         return userRepository.save(user);
     }
 
-    public User login(String email, String senha) {
+    public User login(String email, String senha, String ip) {
+        try {
+            User user = autenticar(email, senha, ip);
+            metricasNegocio.registrarLogin();
+            return user;
+        } catch (RuntimeException e) {
+            metricasNegocio.registrarFalhaLogin(e);
+            throw e;
+        }
+    }
+
+    private User autenticar(String email, String senha, String ip) {
         if (email == null || email.trim().isEmpty()) {
             throw new IllegalArgumentException("Email é obrigatório");
         }
@@ -105,14 +128,33 @@ public class UserServices {
             throw new IllegalArgumentException("Senha é obrigatória");
         }
         
-        User user = userRepository.findByEmail(email).orElseThrow(() -> new CredenciaisInvalidasException());
-        if(!user.getSenha().equals(senha)) {
+        limitadorTentativas.reservar(email, ip);
+
+        // Email inexistente também paga o custo do hash, para não revelar quais contas existem
+        User user;
+        boolean confere;
+        try {
+            user = userRepository.findByEmail(email).orElse(null);
+            confere = verificadorSenhas.confere(senha, user != null ? user.getSenha() : null);
+        } catch (RuntimeException e) {
+            limitadorTentativas.liberar(email, ip);
+            throw e;
+        }
+        // Na falha a vaga reservada fica contada
+        if (!confere) {
             throw new CredenciaisInvalidasException();
         }
+        limitadorTentativas.registrarSucesso(email, ip);
+
+        if (verificadorSenhas.precisaRecodificar(user.getSenha())) {
+            user.setSenha(verificadorSenhas.codificar(senha));
+            userRepository.save(user);
+        }
         return user;
     }
 
-    public void changePassword(Long id, String currentPassword, String newPassword) {
+    // A senha atual passa pelo mesmo limite do login: sem ele esta rota seria um oráculo de senha sem freio
+    public void changePassword(Long id, String currentPassword, String newPassword, String ip) {
         if (currentPassword == null || currentPassword.trim().isEmpty()) {
             throw new IllegalArgumentException("Senha atual é obrigatória");
         }
@@ -121,12 +163,22 @@ public class UserServices {
         }
         
         User user = userRepository.findById(id).orElseThrow(() -> new UsuarioNaoEncontradoException(id));
-        
-        if (!user.getSenha().equals(currentPassword)) {
+        String email = user.getEmail();
+        limitadorTentativas.reservar(email, ip);
+
+        boolean confere;
+        try {
+            confere = verificadorSenhas.confere(currentPassword, user.getSenha());
+        } catch (RuntimeException e) {
+            limitadorTentativas.liberar(email, ip);
+            throw e;
+        }
+        if (!confere) {
             throw new CredenciaisInvalidasException();
         }
+        limitadorTentativas.registrarSucesso(email, ip);
         
-        user.setSenha(newPassword);
+        user.setSenha(verificadorSenhas.codificar(newPassword));
         userRepository.save(user);
     }
 }
@@ -0,0 +1,32 @@
+package dev.projetopoo.ProjetoPoo.services.busca;
+
+public enum FaixaPreco {
+    GRATIS("gratis", 0L, 0L),
+    ATE_20("ate-20", 1L, 2000L),
+    DE_20_A_50("20-50", 2001L, 5000L),
+    DE_50_A_100("50-100", 5001L, 10000L),
+    ACIMA_100("acima-100", 10001L, Long.MAX_VALUE);
+
+    private final String chave;
+    private final long minimoCentavos;
+    private final long maximoCentavos;
+
+    FaixaPreco(String chave, long minimoCentavos, long maximoCentavos) {
+        this.chave = chave;
+        this.minimoCentavos = minimoCentavos;
+        this.maximoCentavos = maximoCentavos;
+    }
+
+    public String getChave() {
+        return chave;
+    }
+
+    public static FaixaPreco de(long centavos) {
+        for (FaixaPreco faixa : values()) {
+            if (centavos >= faixa.minimoCentavos && centavos <= faixa.maximoCentavos) {
+                return faixa;
+            }
+        }
+        return GRATIS;
+    }
+}
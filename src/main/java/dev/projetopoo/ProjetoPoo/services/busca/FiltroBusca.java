@@ -0,0 +1,21 @@
+package dev.projetopoo.ProjetoPoo.services.busca;
+
+import java.time.LocalDate;
+
+import dev.projetopoo.ProjetoPoo.model.Dinheiro;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class FiltroBusca {
+    private String texto;
+    private String genero;
+    private Dinheiro precoMinimo;
+    private Dinheiro precoMaximo;
+    private LocalDate lancamentoDe;
+    private LocalDate lancamentoAte;
+
+    public FiltroBusca() {
+    }
+}
@@ -0,0 +1,239 @@
+package dev.projetopoo.ProjetoPoo.services.busca;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import dev.projetopoo.ProjetoPoo.dto.ResultadoBusca;
+import dev.projetopoo.ProjetoPoo.model.Jogo;
+import dev.projetopoo.ProjetoPoo.repository.JogoRepository;
+
+// Índice invertido do catálogo em memória: termo normalizado -> jogos que o contêm, com o peso do campo.
+// Os termos ficam ordenados, então a busca por prefixo é um intervalo do TreeMap.
+// O JogoService mantém o índice atualizado a cada inclusão, alteração ou remoção.
+@Component
+public class IndiceCatalogo {
+
+    private static final int PESO_NOME = 3;
+    private static final int PESO_GENERO = 2;
+    private static final int PESO_DESCRICAO = 1;
+    private static final String SEM_GENERO = "sem-genero";
+
+    private final JogoRepository jogoRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Jogo> documentos = new HashMap<>();
+    private final Map<Long, Set<String>> termosPorJogo = new HashMap<>();
+    private final TreeMap<String, Map<Long, Integer>> indice = new TreeMap<>();
+
+    public IndiceCatalogo(JogoRepository jogoRepository) {
+        this.jogoRepository = jogoRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconstruir() {
+        List<Jogo> jogos = jogoRepository.findAll();
+        lock.writeLock().lock();
+        try {
+            documentos.clear();
+            termosPorJogo.clear();
+            indice.clear();
+            for (Jogo jogo : jogos) {
+                adicionar(jogo);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void indexar(Jogo jogo) {
+        lock.writeLock().lock();
+        try {
+            retirar(jogo.getId());
+            adicionar(jogo);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Indexa um lote inteiro com uma única aquisição do lock de escrita
+    public void indexarTodos(Collection<Jogo> jogos) {
+        lock.writeLock().lock();
+        try {
+            for (Jogo jogo : jogos) {
+                retirar(jogo.getId());
+                adicionar(jogo);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remover(Long id) {
+        lock.writeLock().lock();
+        try {
+            retirar(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public ResultadoBusca buscar(FiltroBusca filtro, int pagina, int tamanho) {
+        lock.readLock().lock();
+        try {
+            Map<Long, Integer> pontuacao = pontuar(Texto.tokenizar(filtro.getTexto()));
+            String genero = filtro.getGenero() == null || filtro.getGenero().isBlank()
+                    ? null : Texto.normalizar(filtro.getGenero());
+
+            // Cada faceta é contada sem o próprio filtro, para mostrar quantos itens a troca de opção traria
+            Map<String, Long> facetasGenero = new TreeMap<>();
+            Map<String, Long> facetasFaixaPreco = new LinkedHashMap<>();
+            for (FaixaPreco faixa : FaixaPreco.values()) {
+                facetasFaixaPreco.put(faixa.getChave(), 0L);
+            }
+
+            List<Jogo> encontrados = new ArrayList<>();
+            for (Long id : pontuacao.keySet()) {
+                Jogo jogo = documentos.get(id);
+                boolean generoOk = genero == null || genero.equals(chaveGenero(jogo));
+                boolean precoOk = atendePreco(jogo, filtro);
+                boolean dataOk = atendeLancamento(jogo.getDataLancamento(), filtro);
+
+                if (precoOk && dataOk) {
+                    facetasGenero.merge(chaveGenero(jogo), 1L, Long::sum);
+                }
+                if (generoOk && dataOk) {
+                    facetasFaixaPreco.merge(FaixaPreco.de(centavos(jogo)).getChave(), 1L, Long::sum);
+                }
+                if (generoOk && precoOk && dataOk) {
+                    encontrados.add(jogo);
+                }
+            }
+
+            encontrados.sort(Comparator.<Jogo>comparingInt(j -> pontuacao.get(j.getId())).reversed()
+                    .thenComparing(j -> Texto.normalizar(j.getNome()))
+                    .thenComparing(Jogo::getId));
+
+            int inicio = Math.min(pagina * tamanho, encontrados.size());
+            int fim = Math.min(inicio + tamanho, encontrados.size());
+            return new ResultadoBusca(new ArrayList<>(encontrados.subList(inicio, fim)), encontrados.size(),
+                    facetasGenero, facetasFaixaPreco);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Sem termos, todos os jogos participam com pontuação zero; com termos, cada um precisa casar com todos
+    private Map<Long, Integer> pontuar(List<String> tokens) {
+        Map<Long, Integer> pontuacao = new HashMap<>();
+        if (tokens.isEmpty()) {
+            for (Long id : documentos.keySet()) {
+                pontuacao.put(id, 0);
+            }
+            return pontuacao;
+        }
+
+        boolean primeiro = true;
+        for (String token : tokens) {
+            Map<Long, Integer> doToken = new HashMap<>();
+            for (Map.Entry<String, Map<Long, Integer>> termo : indice.subMap(token, true, token + Character.MAX_VALUE, true).entrySet()) {
+                int bonusExato = termo.getKey().equals(token) ? 1 : 0;
+                for (Map.Entry<Long, Integer> ocorrencia : termo.getValue().entrySet()) {
+                    doToken.merge(ocorrencia.getKey(), ocorrencia.getValue() + bonusExato, Math::max);
+                }
+            }
+
+            if (primeiro) {
+                pontuacao.putAll(doToken);
+                primeiro = false;
+            } else {
+                pontuacao.keySet().retainAll(doToken.keySet());
+                pontuacao.replaceAll((id, pontos) -> pontos + doToken.get(id));
+            }
+            if (pontuacao.isEmpty()) {
+                break;
+            }
+        }
+        return pontuacao;
+    }
+
+    private void adicionar(Jogo jogo) {
+        Map<String, Integer> termos = new HashMap<>();
+        acumular(termos, jogo.getNome(), PESO_NOME);
+        acumular(termos, jogo.getGender(), PESO_GENERO);
+        acumular(termos, jogo.getDescricao(), PESO_DESCRICAO);
+
+        documentos.put(jogo.getId(), jogo);
+        termosPorJogo.put(jogo.getId(), new HashSet<>(termos.keySet()));
+        for (Map.Entry<String, Integer> termo : termos.entrySet()) {
+            indice.computeIfAbsent(termo.getKey(), chave -> new HashMap<>()).put(jogo.getId(), termo.getValue());
+        }
+    }
+
+    private void retirar(Long id) {
+        documentos.remove(id);
+        Set<String> termos = termosPorJogo.remove(id);
+        if (termos == null) {
+            return;
+        }
+        for (String termo : termos) {
+            Map<Long, Integer> ocorrencias = indice.get(termo);
+            if (ocorrencias != null) {
+                ocorrencias.remove(id);
+                if (ocorrencias.isEmpty()) {
+                    indice.remove(termo);
+                }
+            }
+        }
+    }
+
+    private void acumular(Map<String, Integer> termos, String texto, int peso) {
+        for (String token : Texto.tokenizar(texto)) {
+            termos.merge(token, peso, Math::max);
+        }
+    }
+
+    private boolean atendePreco(Jogo jogo, FiltroBusca filtro) {
+        long centavos = centavos(jogo);
+        if (filtro.getPrecoMinimo() != null && centavos < filtro.getPrecoMinimo().getCentavos()) {
+            return false;
+        }
+        return filtro.getPrecoMaximo() == null || centavos <= filtro.getPrecoMaximo().getCentavos();
+    }
+
+    private boolean atendeLancamento(LocalDate data, FiltroBusca filtro) {
+        if (filtro.getLancamentoDe() == null && filtro.getLancamentoAte() == null) {
+            return true;
+        }
+        if (data == null) {
+            return false;
+        }
+        if (filtro.getLancamentoDe() != null && data.isBefore(filtro.getLancamentoDe())) {
+            return false;
+        }
+        return filtro.getLancamentoAte() == null || !data.isAfter(filtro.getLancamentoAte());
+    }
+
+    private long centavos(Jogo jogo) {
+        return jogo.getPreco() == null ? 0L : jogo.getPreco().getCentavos();
+    }
+
+    // Usada na contagem das facetas e no filtro: a chave de uma faceta, enviada de volta como gênero,
+    // casa com os mesmos jogos, inclusive "sem-genero" com os que não têm gênero
+    private String chaveGenero(Jogo jogo) {
+        String genero = Texto.normalizar(jogo.getGender());
+        return genero.isEmpty() ? SEM_GENERO : genero;
+    }
+}
@@ -0,0 +1,172 @@
+package dev.projetopoo.ProjetoPoo.services.busca;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import dev.projetopoo.ProjetoPoo.dto.SugestaoJogo;
+import dev.projetopoo.ProjetoPoo.model.AvaliacaoResumo;
+import dev.projetopoo.ProjetoPoo.model.Jogo;
+import dev.projetopoo.ProjetoPoo.repository.AvaliacaoResumoRepository;
+import dev.projetopoo.ProjetoPoo.repository.JogoRepository;
+import dev.projetopoo.ProjetoPoo.services.vendas.ContadorVendas;
+
+// Autocomplete de nomes de jogos ativos. Cada nome entra no mapa ordenado uma vez por palavra
+// ("futebol manager" e "manager"), com o id como desempate, então o prefixo digitado vira um
+// intervalo do skip list, lido sem bloqueio. As notas ficam em memória e as vendas vêm do ContadorVendas.
+// Prefixos de até duas letras cobrem boa parte do catálogo: o ranking deles é guardado por alguns segundos
+// (até QUANTIDADE_MAXIMA itens) em vez de refeito a cada tecla, e descartado quando o catálogo muda.
+@Component
+public class IndiceSugestoes {
+
+    public static final int QUANTIDADE_PADRAO = 10;
+    public static final int QUANTIDADE_MAXIMA = 50;
+
+    private static final char SEPARADOR = '\u0000';
+    private static final int TAMANHO_PREFIXO_CURTO = 2;
+
+    private final JogoRepository jogoRepository;
+    private final ContadorVendas contadorVendas;
+    private final AvaliacaoResumoRepository avaliacaoResumoRepository;
+
+    private final ConcurrentSkipListMap<String, Long> chaves = new ConcurrentSkipListMap<>();
+    private final Map<Long, String> nomes = new ConcurrentHashMap<>();
+    private final Map<Long, Set<String>> chavesPorJogo = new ConcurrentHashMap<>();
+    // [quantidade, soma] das notas de cada jogo
+    private final Map<Long, long[]> notas = new ConcurrentHashMap<>();
+    private final Cache<String, List<SugestaoJogo>> prefixosCurtos;
+
+    public IndiceSugestoes(JogoRepository jogoRepository, ContadorVendas contadorVendas,
+                           AvaliacaoResumoRepository avaliacaoResumoRepository,
+                           @Value("${busca.sugestoes.ttl-prefixo-curto:30s}") Duration ttlPrefixoCurto) {
+        this.jogoRepository = jogoRepository;
+        this.contadorVendas = contadorVendas;
+        this.avaliacaoResumoRepository = avaliacaoResumoRepository;
+        this.prefixosCurtos = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(ttlPrefixoCurto)
+                .build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void reconstruir() {
+        chaves.clear();
+        nomes.clear();
+        chavesPorJogo.clear();
+        for (Jogo jogo : jogoRepository.findAll()) {
+            indexar(jogo);
+        }
+
+        recarregarNotas(avaliacaoResumoRepository.findAll());
+    }
+
+    public synchronized void recarregarNotas(Collection<AvaliacaoResumo> resumos) {
+        notas.clear();
+        resumos.forEach(this::registrarResumo);
+        prefixosCurtos.invalidateAll();
+    }
+
+    public void registrarResumo(AvaliacaoResumo resumo) {
+        notas.put(resumo.getJogoId(), new long[]{resumo.getQuantidade(), resumo.getSoma()});
+    }
+
+    public synchronized void indexar(Jogo jogo) {
+        remover(jogo.getId());
+        if (!jogo.isAtivo() || jogo.getNome() == null) {
+            return;
+        }
+
+        List<String> tokens = Texto.tokenizar(jogo.getNome());
+        Set<String> doJogo = new HashSet<>();
+        for (int i = 0; i < tokens.size(); i++) {
+            String chave = String.join(" ", tokens.subList(i, tokens.size())) + SEPARADOR + jogo.getId();
+            doJogo.add(chave);
+            chaves.put(chave, jogo.getId());
+        }
+        nomes.put(jogo.getId(), jogo.getNome());
+        chavesPorJogo.put(jogo.getId(), doJogo);
+        prefixosCurtos.invalidateAll();
+    }
+
+    public synchronized void indexarTodos(Collection<Jogo> jogos) {
+        jogos.forEach(this::indexar);
+    }
+
+    public synchronized void remover(Long id) {
+        Set<String> doJogo = chavesPorJogo.remove(id);
+        if (doJogo != null) {
+            doJogo.forEach(chaves::remove);
+        }
+        nomes.remove(id);
+        prefixosCurtos.invalidateAll();
+    }
+
+    public void registrarAvaliacao(Long jogoId, int nota, long delta) {
+        notas.compute(jogoId, (id, atual) -> {
+            long[] valores = atual == null ? new long[2] : atual.clone();
+            valores[0] += delta;
+            valores[1] += nota * delta;
+            return valores;
+        });
+    }
+
+    public List<SugestaoJogo> sugerir(String prefixo, OrdenacaoSugestao ordenacao, int quantidade) {
+        String inicio = String.join(" ", Texto.tokenizar(prefixo));
+        if (inicio.isEmpty()) {
+            return List.of();
+        }
+
+        if (inicio.length() <= TAMANHO_PREFIXO_CURTO) {
+            List<SugestaoJogo> ranking = prefixosCurtos.get(ordenacao.getChave() + ":" + inicio,
+                    chave -> ranquear(inicio, ordenacao, QUANTIDADE_MAXIMA));
+            return ranking.subList(0, Math.min(quantidade, ranking.size()));
+        }
+        return ranquear(inicio, ordenacao, quantidade);
+    }
+
+    private List<SugestaoJogo> ranquear(String inicio, OrdenacaoSugestao ordenacao, int quantidade) {
+        Comparator<SugestaoJogo> criterio = ordenacao == OrdenacaoSugestao.AVALIACAO
+                ? Comparator.comparingDouble(SugestaoJogo::getMediaAvaliacao).thenComparingLong(SugestaoJogo::getVendas)
+                : Comparator.comparingLong(SugestaoJogo::getVendas).thenComparingDouble(SugestaoJogo::getMediaAvaliacao);
+        criterio = criterio.thenComparing(SugestaoJogo::getNome, Comparator.reverseOrder());
+
+        // Heap mínimo com os k melhores vistos até agora
+        PriorityQueue<SugestaoJogo> melhores = new PriorityQueue<>(quantidade + 1, criterio);
+        Set<Long> vistos = new HashSet<>();
+        for (Long id : chaves.subMap(inicio, true, inicio + Character.MAX_VALUE, true).values()) {
+            String nome = nomes.get(id);
+            if (nome == null || !vistos.add(id)) {
+                continue;
+            }
+            melhores.add(new SugestaoJogo(id, nome, contadorVendas.vendasLiquidas(id), media(id)));
+            if (melhores.size() > quantidade) {
+                melhores.poll();
+            }
+        }
+
+        List<SugestaoJogo> resultado = new ArrayList<>(melhores);
+        resultado.sort(criterio.reversed());
+        return List.copyOf(resultado);
+    }
+
+    private double media(Long jogoId) {
+        long[] valores = notas.get(jogoId);
+        return valores == null || valores[0] <= 0 ? 0.0 : (double) valores[1] / valores[0];
+    }
+}
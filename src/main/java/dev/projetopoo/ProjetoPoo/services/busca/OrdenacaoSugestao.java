@@ -0,0 +1,24 @@
+package dev.projetopoo.ProjetoPoo.services.busca;
+
+import dev.projetopoo.ProjetoPoo.services.pagination.Ordenacao;
+import dev.projetopoo.ProjetoPoo.services.pagination.Paginacao;
+
+public enum OrdenacaoSugestao implements Ordenacao {
+    POPULARIDADE("popularidade"),
+    AVALIACAO("avaliacao");
+
+    private final String chave;
+
+    OrdenacaoSugestao(String chave) {
+        this.chave = chave;
+    }
+
+    @Override
+    public String getChave() {
+        return chave;
+    }
+
+    public static OrdenacaoSugestao de(String valor) {
+        return Paginacao.ordenacao(OrdenacaoSugestao.class, valor, POPULARIDADE);
+    }
+}
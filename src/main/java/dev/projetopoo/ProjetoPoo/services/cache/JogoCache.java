@@ -0,0 +1,98 @@
+package dev.projetopoo.ProjetoPoo.services.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import dev.projetopoo.ProjetoPoo.dto.CacheEstatisticas;
+import dev.projetopoo.ProjetoPoo.model.Jogo;
+import dev.projetopoo.ProjetoPoo.repository.JogoRepository;
+
+// Cache read-through do catálogo. Com open-in-view a entidade carregada fica presa à sessão da
+// requisição que a buscou, então o cache guarda uma cópia fora de qualquer sessão e a divide entre
+// as threads: quem lê não deve alterá-la, e quem precisa alterar um jogo carrega-o do repositório.
+@Component
+public class JogoCache {
+
+    private final JogoRepository jogoRepository;
+    private final Cache<Long, Jogo> porId;
+    private final Cache<String, Jogo> porNome;
+
+    public JogoCache(JogoRepository jogoRepository,
+                     @Value("${jogo.cache.tamanho-maximo:10000}") long tamanhoMaximo,
+                     @Value("${jogo.cache.ttl:10m}") Duration ttl) {
+        this.jogoRepository = jogoRepository;
+        this.porId = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.porNome = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public Optional<Jogo> buscarPorId(Long id) {
+        Jogo jogo = porId.get(id, chave -> jogoRepository.findById(chave).map(JogoCache::copiar).orElse(null));
+        return Optional.ofNullable(jogo);
+    }
+
+    public Optional<Jogo> buscarPorNome(String nome) {
+        if (nome == null) {
+            return Optional.empty();
+        }
+        Jogo jogo = porNome.get(nome, chave -> jogoRepository.findByNome(chave).map(JogoCache::copiar).orElse(null));
+        return Optional.ofNullable(jogo);
+    }
+
+    public void invalidar(Long id, String... nomes) {
+        Jogo anterior = porId.getIfPresent(id);
+        porId.invalidate(id);
+        if (anterior != null && anterior.getNome() != null) {
+            porNome.invalidate(anterior.getNome());
+        }
+        for (String nome : nomes) {
+            if (nome != null) {
+                porNome.invalidate(nome);
+            }
+        }
+    }
+
+    public void limpar() {
+        porId.invalidateAll();
+        porNome.invalidateAll();
+    }
+
+    public CacheEstatisticas estatisticas() {
+        CacheStats id = porId.stats();
+        CacheStats nome = porNome.stats();
+        return new CacheEstatisticas(
+                id.hitCount() + nome.hitCount(),
+                id.missCount() + nome.missCount(),
+                id.evictionCount() + nome.evictionCount(),
+                porId.estimatedSize() + porNome.estimatedSize()
+        );
+    }
+
+    private static Jogo copiar(Jogo jogo) {
+        Jogo copia = new Jogo();
+        copia.setId(jogo.getId());
+        copia.setNome(jogo.getNome());
+        copia.setGender(jogo.getGender());
+        copia.setPreco(jogo.getPreco());
+        copia.setDescricao(jogo.getDescricao());
+        copia.setDataLancamento(jogo.getDataLancamento());
+        copia.setAvaliacao(jogo.getAvaliacao());
+        copia.setImagemUrl(jogo.getImagemUrl());
+        copia.setAtivo(jogo.isAtivo());
+        return copia;
+    }
+}
@@ -0,0 +1,68 @@
+package dev.projetopoo.ProjetoPoo.services.catalogo;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+
+import dev.projetopoo.ProjetoPoo.model.Dinheiro;
+import dev.projetopoo.ProjetoPoo.model.Jogo;
+
+// Colunas do formato de troca do catálogo, na ordem em que a exportação as escreve
+final class CamposCatalogo {
+
+    static final List<String> COLUNAS = List.of("nome", "gender", "preco", "descricao", "dataLancamento", "imagemUrl");
+
+    private CamposCatalogo() {
+    }
+
+    static Jogo paraJogo(Map<String, String> valores) {
+        Jogo jogo = new Jogo();
+        jogo.setNome(vazioComoNulo(valores.get("nome")));
+        jogo.setGender(valores.get("gender"));
+        jogo.setDescricao(valores.get("descricao"));
+        jogo.setImagemUrl(valores.get("imagemUrl"));
+
+        String preco = vazioComoNulo(valores.get("preco"));
+        if (preco != null) {
+            try {
+                jogo.setPreco(Dinheiro.deReais(new BigDecimal(preco.trim())));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Preço inválido: " + preco);
+            }
+        }
+
+        String data = vazioComoNulo(valores.get("dataLancamento"));
+        if (data != null) {
+            try {
+                jogo.setDataLancamento(LocalDate.parse(data.trim()));
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Data de lançamento inválida: " + data + ". Use o formato AAAA-MM-DD");
+            }
+        }
+        return jogo;
+    }
+
+    // Lê a linha de jogo_table direto do JDBC, sem passar por uma entidade gerenciada
+    static String[] deLinha(ResultSet rs) throws SQLException {
+        long centavos = rs.getLong("preco_centavos");
+        boolean semPreco = rs.wasNull();
+        Date lancamento = rs.getDate("data_lancamento");
+        return new String[]{
+                rs.getString("nome"),
+                rs.getString("gender"),
+                semPreco ? "" : Dinheiro.deCentavos(centavos).toBigDecimal().toPlainString(),
+                rs.getString("descricao"),
+                lancamento == null ? "" : lancamento.toLocalDate().toString(),
+                rs.getString("imagem_url")
+        };
+    }
+
+    private static String vazioComoNulo(String valor) {
+        return valor == null || valor.trim().isEmpty() ? null : valor;
+    }
+}
@@ -0,0 +1,37 @@
+package dev.projetopoo.ProjetoPoo.services.catalogo;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import dev.projetopoo.ProjetoPoo.dto.ErroImportacao;
+import dev.projetopoo.ProjetoPoo.dto.RelatorioImportacao;
+
+// Erros de uma importação: todos entram na contagem, mas só os primeiros vão para o relatório,
+// para que um arquivo inteiro inválido não vire uma lista do tamanho do arquivo na memória e na resposta
+class ErrosImportacao {
+
+    private final int maximo;
+    private final List<ErroImportacao> lista = new ArrayList<>();
+    private long total;
+
+    ErrosImportacao(int maximo) {
+        this.maximo = maximo;
+    }
+
+    void adicionar(long linha, String nome, String mensagem) {
+        total++;
+        if (lista.size() < maximo) {
+            lista.add(new ErroImportacao(linha, nome, mensagem));
+        }
+    }
+
+    void adicionar(ErroImportacao erro) {
+        adicionar(erro.getLinha(), erro.getNome(), erro.getMensagem());
+    }
+
+    RelatorioImportacao relatorio(long linhasLidas, long importados) {
+        lista.sort(Comparator.comparingLong(ErroImportacao::getLinha));
+        return new RelatorioImportacao(linhasLidas, importados, total, lista);
+    }
+}
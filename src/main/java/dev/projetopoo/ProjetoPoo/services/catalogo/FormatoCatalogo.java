@@ -0,0 +1,45 @@
+package dev.projetopoo.ProjetoPoo.services.catalogo;
+
+public enum FormatoCatalogo {
+    CSV("csv", "text/csv"),
+    NDJSON("ndjson", "application/x-ndjson");
+
+    private final String chave;
+    private final String contentType;
+
+    FormatoCatalogo(String chave, String contentType) {
+        this.chave = chave;
+        this.contentType = contentType;
+    }
+
+    public String getChave() {
+        return chave;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public static FormatoCatalogo de(String valor) {
+        if (valor == null || valor.trim().isEmpty()) {
+            return CSV;
+        }
+        for (FormatoCatalogo formato : values()) {
+            if (formato.chave.equalsIgnoreCase(valor.trim())) {
+                return formato;
+            }
+        }
+        throw new IllegalArgumentException("Formato inválido: " + valor + ". Use 'csv' ou 'ndjson'");
+    }
+
+    // Escolhe pelo parâmetro explícito e, na falta dele, pelo Content-Type da requisição
+    public static FormatoCatalogo resolver(String formato, String contentType) {
+        if ((formato == null || formato.trim().isEmpty()) && contentType != null) {
+            String tipo = contentType.toLowerCase();
+            if (tipo.contains("ndjson") || tipo.contains("json")) {
+                return NDJSON;
+            }
+        }
+        return de(formato);
+    }
+}
@@ -0,0 +1,266 @@
+package dev.projetopoo.ProjetoPoo.services.catalogo;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dev.projetopoo.ProjetoPoo.dto.ErroImportacao;
+import dev.projetopoo.ProjetoPoo.dto.RelatorioImportacao;
+import dev.projetopoo.ProjetoPoo.model.Jogo;
+import dev.projetopoo.ProjetoPoo.repository.JogoRepository;
+import dev.projetopoo.ProjetoPoo.services.busca.IndiceCatalogo;
+import dev.projetopoo.ProjetoPoo.services.busca.IndiceSugestoes;
+import dev.projetopoo.ProjetoPoo.services.cache.JogoCache;
+import dev.projetopoo.ProjetoPoo.services.validation.MotorValidacao;
+import dev.projetopoo.ProjetoPoo.services.validation.Violacoes;
+
+// Importação e exportação em massa do catálogo.
+// A importação lê o arquivo em fluxo e trabalha em lotes: valida o lote numa passada, confere os nomes do lote
+// contra o banco numa única consulta, grava com um INSERT em lote JDBC e só então atualiza cache e índices.
+// Cada lote é uma transação própria, então um erro no meio do arquivo não desfaz os lotes anteriores.
+// Nomes já cadastrados caem no índice único uk_jogo_nome e são pulados pelo ON CONFLICT, sem consulta prévia.
+@Component
+public class ImportadorCatalogo {
+
+    private static final Logger log = LoggerFactory.getLogger(ImportadorCatalogo.class);
+
+    private static final String INSERIR = "INSERT INTO jogo_table " +
+            "(nome, gender, preco_centavos, descricao, data_lancamento, avaliacao, imagem_url, ativo) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, true) ON CONFLICT DO NOTHING";
+
+    private static final String PAGINA_EXPORTACAO = "SELECT id, nome, gender, preco_centavos, descricao, data_lancamento, imagem_url " +
+            "FROM jogo_table WHERE ativo = true AND id > ? ORDER BY id LIMIT ?";
+
+    private final JogoRepository jogoRepository;
+    private final MotorValidacao motorValidacao;
+    private final JogoCache jogoCache;
+    private final IndiceCatalogo indiceCatalogo;
+    private final IndiceSugestoes indiceSugestoes;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final int tamanhoLote;
+    private final int maximoErros;
+
+    public ImportadorCatalogo(JogoRepository jogoRepository, MotorValidacao motorValidacao, JogoCache jogoCache,
+                              IndiceCatalogo indiceCatalogo, IndiceSugestoes indiceSugestoes,
+                              JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, ObjectMapper objectMapper,
+                              @Value("${catalogo.importacao.tamanho-lote:500}") int tamanhoLote,
+                              @Value("${catalogo.importacao.maximo-erros:1000}") int maximoErros) {
+        this.jogoRepository = jogoRepository;
+        this.motorValidacao = motorValidacao;
+        this.jogoCache = jogoCache;
+        this.indiceCatalogo = indiceCatalogo;
+        this.indiceSugestoes = indiceSugestoes;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.tamanhoLote = tamanhoLote;
+        this.maximoErros = maximoErros;
+    }
+
+    public RelatorioImportacao importar(InputStream entrada, FormatoCatalogo formato) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(entrada, StandardCharsets.UTF_8));
+        LeitorCatalogo leitor = formato == FormatoCatalogo.NDJSON
+                ? new LeitorNdjson(reader, objectMapper)
+                : new LeitorCsv(reader);
+
+        ErrosImportacao erros = new ErrosImportacao(maximoErros);
+        Set<String> nomesNoArquivo = new HashSet<>();
+        List<LinhaCatalogo> lote = new ArrayList<>(tamanhoLote);
+        long lidas = 0;
+        long importados = 0;
+
+        LinhaCatalogo linha;
+        while ((linha = leitor.proxima()) != null) {
+            lidas++;
+            if (linha.getErro() != null) {
+                erros.adicionar(linha.getNumero(), null, linha.getErro());
+                continue;
+            }
+
+            lote.add(linha);
+            if (lote.size() >= tamanhoLote) {
+                importados += gravarLote(filtrarValidos(lote, nomesNoArquivo, erros), erros);
+                lote.clear();
+            }
+        }
+        if (!lote.isEmpty()) {
+            importados += gravarLote(filtrarValidos(lote, nomesNoArquivo, erros), erros);
+        }
+
+        return erros.relatorio(lidas, importados);
+    }
+
+    public void exportar(OutputStream saida, FormatoCatalogo formato) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8));
+        if (formato == FormatoCatalogo.CSV) {
+            writer.write(String.join(",", CamposCatalogo.COLUNAS));
+            writer.write('\n');
+        }
+
+        // Percorre o catálogo por chave (id) em páginas, sem carregar a tabela inteira.
+        // Lê linhas via JDBC em vez de entidades: com open-in-view o EntityManager da requisição seguraria cada Jogo
+        // exportado até o fim da resposta.
+        long ultimoId = 0;
+        while (true) {
+            List<LinhaExportada> pagina = jdbcTemplate.query(PAGINA_EXPORTACAO,
+                    (rs, numero) -> new LinhaExportada(rs.getLong("id"), CamposCatalogo.deLinha(rs)),
+                    ultimoId, tamanhoLote);
+
+            for (LinhaExportada linha : pagina) {
+                String[] valores = linha.valores();
+                if (formato == FormatoCatalogo.CSV) {
+                    escreverCsv(writer, valores);
+                } else {
+                    escreverNdjson(writer, valores);
+                }
+            }
+            writer.flush();
+            if (pagina.size() < tamanhoLote) {
+                break;
+            }
+            ultimoId = pagina.get(pagina.size() - 1).id();
+        }
+        writer.flush();
+    }
+
+    // Valida o lote numa passada e descarta, com o motivo, as linhas inválidas e os nomes já vistos no arquivo
+    private List<LinhaCatalogo> filtrarValidos(List<LinhaCatalogo> lote, Set<String> nomesNoArquivo, ErrosImportacao erros) {
+        List<Violacoes> violacoes = motorValidacao.validarLote(lote.stream().map(LinhaCatalogo::getJogo).toList());
+
+        List<LinhaCatalogo> validos = new ArrayList<>(lote.size());
+        for (int i = 0; i < lote.size(); i++) {
+            LinhaCatalogo linha = lote.get(i);
+            String nome = linha.getJogo().getNome();
+            if (!violacoes.get(i).isVazia()) {
+                erros.adicionar(linha.getNumero(), nome, violacoes.get(i).getMensagem());
+            } else if (!nomesNoArquivo.add(nome)) {
+                erros.adicionar(linha.getNumero(), nome, "Nome repetido no arquivo");
+            } else {
+                validos.add(linha);
+            }
+        }
+        return validos;
+    }
+
+    private int gravarLote(List<LinhaCatalogo> lote, ErrosImportacao erros) {
+        if (lote.isEmpty()) {
+            return 0;
+        }
+        List<Jogo> salvos;
+        try {
+            salvos = inserir(lote, erros);
+        } catch (DataAccessException e) {
+            // Uma linha que o banco recusa derruba o lote; refaz linha a linha para salvar as demais e apontar a culpada
+            log.warn("Lote de {} jogo(s) recusado pelo banco, gravando linha a linha: {}", lote.size(), e.getMostSpecificCause().getMessage());
+            salvos = new ArrayList<>(lote.size());
+            for (LinhaCatalogo linha : lote) {
+                try {
+                    salvos.addAll(inserir(List.of(linha), erros));
+                } catch (DataAccessException erroLinha) {
+                    erros.adicionar(linha.getNumero(), linha.getJogo().getNome(),
+                            "Erro ao gravar: " + erroLinha.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+
+        for (Jogo jogo : salvos) {
+            jogoCache.invalidar(jogo.getId(), jogo.getNome());
+        }
+        indiceCatalogo.indexarTodos(salvos);
+        indiceSugestoes.indexarTodos(salvos);
+        return salvos.size();
+    }
+
+    // Grava as linhas numa transação; os erros só são registrados se ela for confirmada
+    private List<Jogo> inserir(List<LinhaCatalogo> linhas, ErrosImportacao erros) {
+        List<ErroImportacao> repetidos = new ArrayList<>();
+        List<Jogo> salvos = transactionTemplate.execute(status -> {
+            List<Object[]> valores = new ArrayList<>(linhas.size());
+            for (LinhaCatalogo linha : linhas) {
+                Jogo jogo = linha.getJogo();
+                valores.add(new Object[]{
+                        jogo.getNome(),
+                        jogo.getGender(),
+                        jogo.getPreco().getCentavos(),
+                        jogo.getDescricao(),
+                        Date.valueOf(jogo.getDataLancamento()),
+                        jogo.getAvaliacao(),
+                        jogo.getImagemUrl()
+                });
+            }
+
+            int[] gravadas = jdbcTemplate.batchUpdate(INSERIR, valores);
+            List<String> novos = new ArrayList<>(linhas.size());
+            for (int i = 0; i < linhas.size(); i++) {
+                Jogo jogo = linhas.get(i).getJogo();
+                // 0 é o conflito no nome; SUCCESS_NO_INFO (driver sem contagem por linha) conta como gravada
+                if (gravadas[i] == 0) {
+                    repetidos.add(new ErroImportacao(linhas.get(i).getNumero(), jogo.getNome(), "Jogo já existe com o nome: " + jogo.getNome()));
+                } else {
+                    novos.add(jogo.getNome());
+                }
+            }
+            if (novos.isEmpty()) {
+                return List.<Jogo>of();
+            }
+            // Uma consulta devolve os ids gerados do lote inteiro, necessários para os índices
+            return jogoRepository.findByNomeIn(novos);
+        });
+        repetidos.forEach(erros::adicionar);
+        return salvos;
+    }
+
+    private record LinhaExportada(long id, String[] valores) {
+    }
+
+    private static void escreverCsv(Writer writer, String[] valores) throws IOException {
+        for (int i = 0; i < valores.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            String valor = valores[i] == null ? "" : valores[i];
+            if (valor.indexOf(',') >= 0 || valor.indexOf('"') >= 0 || valor.indexOf('\n') >= 0 || valor.indexOf('\r') >= 0) {
+                writer.write('"');
+                writer.write(valor.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(valor);
+            }
+        }
+        writer.write('\n');
+    }
+
+    private void escreverNdjson(Writer writer, String[] valores) throws IOException {
+        Map<String, String> objeto = new LinkedHashMap<>();
+        for (int i = 0; i < valores.length; i++) {
+            objeto.put(CamposCatalogo.COLUNAS.get(i), valores[i]);
+        }
+        writer.write(objectMapper.writeValueAsString(objeto));
+        writer.write('\n');
+    }
+}
@@ -0,0 +1,10 @@
+package dev.projetopoo.ProjetoPoo.services.catalogo;
+
+import java.io.IOException;
+
+// Lê o arquivo de importação uma linha por vez; nunca carrega o arquivo inteiro em memória
+interface LeitorCatalogo {
+
+    // Próxima linha ou null no fim do arquivo
+    LinhaCatalogo proxima() throws IOException;
+}
@@ -0,0 +1,127 @@
+package dev.projetopoo.ProjetoPoo.services.catalogo;
+
+import java.io.IOException;
+import java.io.BufferedReader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// CSV no estilo RFC 4180: a primeira linha é o cabeçalho, campos entre aspas podem conter vírgulas,
+// quebras de linha e aspas duplicadas (""). Colunas desconhecidas são ignoradas.
+class LeitorCsv implements LeitorCatalogo {
+
+    private final BufferedReader reader;
+    private final Map<Integer, String> colunas = new HashMap<>();
+    private long linhaAtual = 1;
+    private boolean fim;
+
+    LeitorCsv(BufferedReader reader) throws IOException {
+        this.reader = reader;
+        List<String> cabecalho = lerRegistro();
+        if (cabecalho == null) {
+            fim = true;
+            return;
+        }
+        Map<String, String> conhecidas = new HashMap<>();
+        for (String coluna : CamposCatalogo.COLUNAS) {
+            conhecidas.put(coluna.toLowerCase(Locale.ROOT), coluna);
+        }
+        for (int i = 0; i < cabecalho.size(); i++) {
+            String coluna = conhecidas.get(cabecalho.get(i).trim().replace("﻿", "").toLowerCase(Locale.ROOT));
+            if (coluna != null) {
+                colunas.put(i, coluna);
+            }
+        }
+        if (!colunas.containsValue("nome")) {
+            throw new IllegalArgumentException("O cabeçalho do CSV deve conter a coluna 'nome'");
+        }
+    }
+
+    @Override
+    public LinhaCatalogo proxima() throws IOException {
+        while (!fim) {
+            long numero = linhaAtual;
+            List<String> campos = lerRegistro();
+            if (campos == null) {
+                return null;
+            }
+            if (campos.size() == 1 && campos.get(0).isEmpty()) {
+                continue;
+            }
+
+            Map<String, String> valores = new HashMap<>();
+            for (int i = 0; i < campos.size(); i++) {
+                String coluna = colunas.get(i);
+                if (coluna != null) {
+                    valores.put(coluna, campos.get(i));
+                }
+            }
+            try {
+                return LinhaCatalogo.valida(numero, CamposCatalogo.paraJogo(valores));
+            } catch (IllegalArgumentException e) {
+                return LinhaCatalogo.invalida(numero, e.getMessage());
+            }
+        }
+        return null;
+    }
+
+    // Lê um registro completo (que pode ocupar várias linhas físicas); null no fim do arquivo
+    private List<String> lerRegistro() throws IOException {
+        List<String> campos = new ArrayList<>();
+        StringBuilder campo = new StringBuilder();
+        boolean entreAspas = false;
+        boolean leuAlgo = false;
+
+        int c;
+        while ((c = reader.read()) != -1) {
+            leuAlgo = true;
+            if (entreAspas) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int seguinte = reader.read();
+                    if (seguinte == '"') {
+                        campo.append('"');
+                    } else {
+                        entreAspas = false;
+                        if (seguinte != -1) {
+                            reader.reset();
+                        }
+                    }
+                } else {
+                    if (c == '\n') {
+                        linhaAtual++;
+                    }
+                    campo.append((char) c);
+                }
+            } else if (c == '"') {
+                entreAspas = true;
+            } else if (c == ',') {
+                campos.add(campo.toString());
+                campo.setLength(0);
+            } else if (c == '\n') {
+                linhaAtual++;
+                campos.add(removerRetorno(campo));
+                return campos;
+            } else {
+                campo.append((char) c);
+            }
+        }
+
+        fim = true;
+        if (!leuAlgo) {
+            return null;
+        }
+        campos.add(removerRetorno(campo));
+        return campos;
+    }
+
+    private static String removerRetorno(StringBuilder campo) {
+        int tamanho = campo.length();
+        if (tamanho > 0 && campo.charAt(tamanho - 1) == '\r') {
+            campo.setLength(tamanho - 1);
+        }
+        return campo.toString();
+    }
+}
@@ -0,0 +1,53 @@
+package dev.projetopoo.ProjetoPoo.services.catalogo;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Um objeto JSON por linha, com os mesmos campos das colunas do CSV
+class LeitorNdjson implements LeitorCatalogo {
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private long linhaAtual;
+
+    LeitorNdjson(BufferedReader reader, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public LinhaCatalogo proxima() throws IOException {
+        String linha;
+        while ((linha = reader.readLine()) != null) {
+            linhaAtual++;
+            if (linha.isBlank()) {
+                continue;
+            }
+
+            try {
+                JsonNode no = objectMapper.readTree(linha);
+                if (!no.isObject()) {
+                    return LinhaCatalogo.invalida(linhaAtual, "Cada linha deve ser um objeto JSON");
+                }
+                Map<String, String> valores = new HashMap<>();
+                for (Map.Entry<String, JsonNode> campo : no.properties()) {
+                    if (!campo.getValue().isNull()) {
+                        valores.put(campo.getKey(), campo.getValue().asText());
+                    }
+                }
+                return LinhaCatalogo.valida(linhaAtual, CamposCatalogo.paraJogo(valores));
+            } catch (JsonProcessingException e) {
+                return LinhaCatalogo.invalida(linhaAtual, "JSON inválido: " + e.getOriginalMessage());
+            } catch (IllegalArgumentException e) {
+                return LinhaCatalogo.invalida(linhaAtual, e.getMessage());
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,36 @@
+package dev.projetopoo.ProjetoPoo.services.catalogo;
+
+import dev.projetopoo.ProjetoPoo.model.Jogo;
+
+// Uma linha lida do arquivo: o jogo convertido ou a mensagem de por que não foi possível convertê-lo
+class LinhaCatalogo {
+    private final long numero;
+    private final Jogo jogo;
+    private final String erro;
+
+    private LinhaCatalogo(long numero, Jogo jogo, String erro) {
+        this.numero = numero;
+        this.jogo = jogo;
+        this.erro = erro;
+    }
+
+    static LinhaCatalogo valida(long numero, Jogo jogo) {
+        return new LinhaCatalogo(numero, jogo, null);
+    }
+
+    static LinhaCatalogo invalida(long numero, String erro) {
+        return new LinhaCatalogo(numero, null, erro);
+    }
+
+    long getNumero() {
+        return numero;
+    }
+
+    Jogo getJogo() {
+        return jogo;
+    }
+
+    String getErro() {
+        return erro;
+    }
+}
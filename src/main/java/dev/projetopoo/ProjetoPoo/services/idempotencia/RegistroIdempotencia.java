@@ -0,0 +1,65 @@
+package dev.projetopoo.ProjetoPoo.services.idempotencia;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+// Guarda o resultado de operações identificadas por uma Idempotency-Key.
+// Uma repetição com a mesma chave recebe o resultado já calculado; repetições simultâneas
+// esperam a primeira execução terminar. Falhas não ficam registradas, então a chave pode ser reutilizada.
+@Component
+public class RegistroIdempotencia {
+
+    private static final int TAMANHO_MAXIMO_CHAVE = 255;
+
+    private final Cache<String, CompletableFuture<Object>> resultados;
+
+    public RegistroIdempotencia(@Value("${idempotencia.tamanho-maximo:100000}") long tamanhoMaximo,
+                                @Value("${idempotencia.ttl:24h}") Duration ttl) {
+        this.resultados = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T executar(String operacao, Object recurso, String chave, Supplier<T> acao) {
+        if (chave == null || chave.isBlank()) {
+            return acao.get();
+        }
+        if (chave.length() > TAMANHO_MAXIMO_CHAVE) {
+            throw new IllegalArgumentException("Idempotency-Key deve ter no máximo " + TAMANHO_MAXIMO_CHAVE + " caracteres");
+        }
+
+        String registro = operacao + ":" + recurso + ":" + chave;
+        CompletableFuture<Object> nova = new CompletableFuture<>();
+        CompletableFuture<Object> existente = resultados.asMap().putIfAbsent(registro, nova);
+
+        if (existente != null) {
+            try {
+                return (T) existente.join();
+            } catch (CompletionException e) {
+                // A execução original falhou e foi descartada; esta repetição roda de novo
+                return executar(operacao, recurso, chave, acao);
+            }
+        }
+
+        try {
+            T resultado = acao.get();
+            nova.complete(resultado);
+            return resultado;
+        } catch (Throwable e) {
+            // Também para Error: uma entrada nunca completada travaria as repetições com esta chave
+            resultados.asMap().remove(registro, nova);
+            nova.completeExceptionally(e);
+            throw e;
+        }
+    }
+}
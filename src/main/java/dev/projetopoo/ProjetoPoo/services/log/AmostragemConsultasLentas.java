@@ -0,0 +1,61 @@
+package dev.projetopoo.ProjetoPoo.services.log;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.LoggerFactory;
+import org.slf4j.Marker;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// O Hibernate mede cada comando e avisa em org.hibernate.SQL_SLOW os que passam de hibernate.log_slow_query.
+// Este filtro fica na frente desse logger: conta todo aviso em sql.lentas e deixa passar para o log só
+// a fração "amostragem", descartando o resto antes de o evento ser montado e enfileirado.
+public class AmostragemConsultasLentas extends TurboFilter {
+
+    public static final String LOGGER = "org.hibernate.SQL_SLOW";
+
+    private final double amostragem;
+    private final Counter lentas;
+
+    public AmostragemConsultasLentas(double amostragem, MeterRegistry registry) {
+        if (amostragem < 0.0 || amostragem > 1.0) {
+            throw new IllegalArgumentException("sql.lenta.amostragem deve estar entre 0 e 1");
+        }
+        this.amostragem = amostragem;
+        this.lentas = Counter.builder("sql.lentas")
+                .description("Comandos SQL acima do limite de lentidão, antes da amostragem do log")
+                .register(registry);
+        setName("amostragem-consultas-lentas");
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // Sem mensagem é só a pergunta isInfoEnabled(), que não deve contar nem ser sorteada
+        if (format == null || !LOGGER.equals(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        lentas.increment();
+        if (amostragem < 1.0 && ThreadLocalRandom.current().nextDouble() >= amostragem) {
+            return FilterReply.DENY;
+        }
+        return FilterReply.NEUTRAL;
+    }
+
+    public void instalar() {
+        LoggerContext contexto = (LoggerContext) LoggerFactory.getILoggerFactory();
+        start();
+        contexto.addTurboFilter(this);
+    }
+
+    public void desinstalar() {
+        LoggerContext contexto = (LoggerContext) LoggerFactory.getILoggerFactory();
+        contexto.getTurboFilterList().remove(this);
+        stop();
+    }
+}
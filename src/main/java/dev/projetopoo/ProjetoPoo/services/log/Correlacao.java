@@ -0,0 +1,74 @@
+package dev.projetopoo.ProjetoPoo.services.log;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.MDC;
+
+// Id de correlação da requisição, guardado no MDC: todo log emitido na thread da requisição
+// (controllers, serviços, repositórios) sai com o campo "correlacaoId". Tarefas entregues a
+// outros executores levam uma cópia do MDC por envolver(...).
+public final class Correlacao {
+
+    public static final String CABECALHO = "X-Correlation-Id";
+    public static final String CHAVE_MDC = "correlacaoId";
+
+    private static final int TAMANHO_MAXIMO = 64;
+
+    private Correlacao() {
+    }
+
+    // Aproveita o id enviado pelo cliente quando ele é curto e só tem caracteres seguros para log
+    public static String resolver(String recebido) {
+        if (recebido != null && !recebido.isEmpty() && recebido.length() <= TAMANHO_MAXIMO && seguro(recebido)) {
+            return recebido;
+        }
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        return Long.toHexString(aleatorio.nextLong() | Long.MIN_VALUE) + Long.toHexString(aleatorio.nextLong() | Long.MIN_VALUE);
+    }
+
+    public static <T> Callable<T> envolver(Callable<T> tarefa) {
+        Map<String, String> contexto = MDC.getCopyOfContextMap();
+        return () -> {
+            Map<String, String> anterior = MDC.getCopyOfContextMap();
+            aplicar(contexto);
+            try {
+                return tarefa.call();
+            } finally {
+                aplicar(anterior);
+            }
+        };
+    }
+
+    public static Runnable envolver(Runnable tarefa) {
+        Map<String, String> contexto = MDC.getCopyOfContextMap();
+        return () -> {
+            Map<String, String> anterior = MDC.getCopyOfContextMap();
+            aplicar(contexto);
+            try {
+                tarefa.run();
+            } finally {
+                aplicar(anterior);
+            }
+        };
+    }
+
+    private static void aplicar(Map<String, String> contexto) {
+        if (contexto == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(contexto);
+        }
+    }
+
+    private static boolean seguro(String valor) {
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            if (!(Character.isLetterOrDigit(c) || c == '-' || c == '_' || c == '.' || c == ':')) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
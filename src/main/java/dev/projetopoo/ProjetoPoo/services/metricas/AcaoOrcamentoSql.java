@@ -0,0 +1,29 @@
+package dev.projetopoo.ProjetoPoo.services.metricas;
+
+// O que fazer quando uma requisição passa do orçamento de comandos SQL
+public enum AcaoOrcamentoSql {
+    REGISTRAR("registrar"),
+    FALHAR("falhar");
+
+    private final String chave;
+
+    AcaoOrcamentoSql(String chave) {
+        this.chave = chave;
+    }
+
+    public String getChave() {
+        return chave;
+    }
+
+    public static AcaoOrcamentoSql de(String valor) {
+        if (valor == null || valor.trim().isEmpty()) {
+            return REGISTRAR;
+        }
+        for (AcaoOrcamentoSql acao : values()) {
+            if (acao.chave.equalsIgnoreCase(valor.trim())) {
+                return acao;
+            }
+        }
+        throw new IllegalArgumentException("Ação de orçamento SQL inválida: " + valor + ". Use 'registrar' ou 'falhar'");
+    }
+}
@@ -0,0 +1,52 @@
+package dev.projetopoo.ProjetoPoo.services.metricas;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// O que uma requisição fez no banco: comandos SQL, coleções lazy inicializadas (por associação,
+// como "Compra.jogos") e entidades carregadas (por classe). Pertence a uma única thread.
+public final class ConsultasRequisicao {
+
+    private int comandos;
+    private final Map<String, Integer> colecoes = new HashMap<>();
+    private final Map<String, Integer> entidades = new HashMap<>();
+
+    void registrarComando() {
+        comandos++;
+    }
+
+    void registrarColecao(String associacao) {
+        colecoes.merge(associacao, 1, Integer::sum);
+    }
+
+    void registrarEntidade(String entidade) {
+        entidades.merge(entidade, 1, Integer::sum);
+    }
+
+    public int getComandos() {
+        return comandos;
+    }
+
+    public Map<String, Integer> getColecoes() {
+        return colecoes;
+    }
+
+    public Map<String, Integer> getEntidades() {
+        return entidades;
+    }
+
+    // "Compra.jogos x25, Biblioteca.jogos x1", da associação que mais carregou para a que menos
+    public String descreverCarregamentos() {
+        String lazy = colecoes.isEmpty() ? "nenhuma" : ordenar(colecoes);
+        String carregadas = entidades.isEmpty() ? "nenhuma" : ordenar(entidades);
+        return "coleções lazy: " + lazy + "; entidades: " + carregadas;
+    }
+
+    private static String ordenar(Map<String, Integer> contagens) {
+        return contagens.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .map(entrada -> entrada.getKey() + " x" + entrada.getValue())
+                .collect(Collectors.joining(", "));
+    }
+}
@@ -0,0 +1,50 @@
+package dev.projetopoo.ProjetoPoo.services.metricas;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Conta os comandos SQL que o Hibernate prepara, no total e por requisição. O filtro de requisições
+// abre as ConsultasRequisicao da thread no início e as recolhe no fim; fora de uma requisição
+// (agendamentos, inicialização) só o total é contado. Comandos do JdbcTemplate não passam por aqui.
+@Component
+public class ContadorSql implements StatementInspector {
+
+    private static final ThreadLocal<ConsultasRequisicao> DA_THREAD = new ThreadLocal<>();
+
+    private final LongAdder total = new LongAdder();
+
+    public ContadorSql(MeterRegistry registry) {
+        FunctionCounter.builder("hibernate.sql.comandos", total, LongAdder::sum)
+                .description("Comandos SQL preparados pelo Hibernate")
+                .register(registry);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        total.increment();
+        ConsultasRequisicao consultas = DA_THREAD.get();
+        if (consultas != null) {
+            consultas.registrarComando();
+        }
+        return sql;
+    }
+
+    public void iniciar() {
+        DA_THREAD.set(new ConsultasRequisicao());
+    }
+
+    public ConsultasRequisicao encerrar() {
+        ConsultasRequisicao consultas = DA_THREAD.get();
+        DA_THREAD.remove();
+        return consultas == null ? new ConsultasRequisicao() : consultas;
+    }
+
+    ConsultasRequisicao atual() {
+        return DA_THREAD.get();
+    }
+}
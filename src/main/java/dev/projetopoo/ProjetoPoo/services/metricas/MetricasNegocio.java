@@ -0,0 +1,116 @@
+package dev.projetopoo.ProjetoPoo.services.metricas;
+
+import org.springframework.stereotype.Component;
+
+import dev.projetopoo.ProjetoPoo.exception.CarrinhoVazioException;
+import dev.projetopoo.ProjetoPoo.exception.CredenciaisInvalidasException;
+import dev.projetopoo.ProjetoPoo.exception.MuitasTentativasException;
+import dev.projetopoo.ProjetoPoo.exception.SaldoInsuficienteException;
+import dev.projetopoo.ProjetoPoo.model.Dinheiro;
+import dev.projetopoo.ProjetoPoo.services.transacao.AposCommit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Contadores de negócio: compras, receita, reembolsos, checkouts recusados e logins.
+// Compras e reembolsos só contam depois do commit; os contadores são registrados na criação
+// para aparecerem zerados no endpoint de métricas antes do primeiro evento.
+@Component
+public class MetricasNegocio {
+
+    private final Counter compras;
+    private final Counter jogosVendidos;
+    private final Counter receita;
+    private final Counter reembolsos;
+    private final Counter valorReembolsado;
+    private final Counter falhaSaldoInsuficiente;
+    private final Counter falhaCarrinhoVazio;
+    private final Counter falhaOutra;
+    private final Counter loginSucesso;
+    private final Counter loginCredenciaisInvalidas;
+    private final Counter loginBloqueado;
+    private final Counter loginErro;
+
+    public MetricasNegocio(MeterRegistry registry) {
+        this.compras = Counter.builder("compras.efetuadas")
+                .description("Compras concluídas")
+                .register(registry);
+        this.jogosVendidos = Counter.builder("compras.jogos.vendidos")
+                .description("Jogos vendidos em compras concluídas")
+                .register(registry);
+        this.receita = Counter.builder("compras.receita")
+                .description("Valor cobrado em compras concluídas")
+                .baseUnit("reais")
+                .register(registry);
+        this.reembolsos = Counter.builder("compras.reembolsos")
+                .description("Compras reembolsadas")
+                .register(registry);
+        this.valorReembolsado = Counter.builder("compras.reembolsos.valor")
+                .description("Valor devolvido em reembolsos")
+                .baseUnit("reais")
+                .register(registry);
+        this.falhaSaldoInsuficiente = falhaCompra(registry, "saldo_insuficiente");
+        this.falhaCarrinhoVazio = falhaCompra(registry, "carrinho_vazio");
+        this.falhaOutra = falhaCompra(registry, "outro");
+        this.loginSucesso = login(registry, "sucesso");
+        this.loginCredenciaisInvalidas = login(registry, "credenciais_invalidas");
+        this.loginBloqueado = login(registry, "bloqueado");
+        this.loginErro = login(registry, "erro");
+    }
+
+    public void registrarCompra(Dinheiro valor, int quantidadeJogos) {
+        AposCommit.executar(() -> {
+            compras.increment();
+            jogosVendidos.increment(quantidadeJogos);
+            receita.increment(reais(valor));
+        });
+    }
+
+    public void registrarReembolso(Dinheiro valor) {
+        AposCommit.executar(() -> {
+            reembolsos.increment();
+            valorReembolsado.increment(reais(valor));
+        });
+    }
+
+    public void registrarFalhaCompra(RuntimeException erro) {
+        if (erro instanceof SaldoInsuficienteException) {
+            falhaSaldoInsuficiente.increment();
+        } else if (erro instanceof CarrinhoVazioException) {
+            falhaCarrinhoVazio.increment();
+        } else {
+            falhaOutra.increment();
+        }
+    }
+
+    public void registrarLogin() {
+        loginSucesso.increment();
+    }
+
+    public void registrarFalhaLogin(RuntimeException erro) {
+        if (erro instanceof CredenciaisInvalidasException) {
+            loginCredenciaisInvalidas.increment();
+        } else if (erro instanceof MuitasTentativasException) {
+            loginBloqueado.increment();
+        } else {
+            loginErro.increment();
+        }
+    }
+
+    private static Counter falhaCompra(MeterRegistry registry, String motivo) {
+        return Counter.builder("compras.falhas")
+                .description("Checkouts recusados, por motivo")
+                .tag("motivo", motivo)
+                .register(registry);
+    }
+
+    private static Counter login(MeterRegistry registry, String resultado) {
+        return Counter.builder("usuarios.logins")
+                .description("Tentativas de login, por resultado")
+                .tag("resultado", resultado)
+                .register(registry);
+    }
+
+    private static double reais(Dinheiro valor) {
+        return valor.getCentavos() / 100.0;
+    }
+}
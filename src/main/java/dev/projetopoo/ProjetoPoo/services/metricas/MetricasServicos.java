@@ -0,0 +1,55 @@
+package dev.projetopoo.ProjetoPoo.services.metricas;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// Cronometra cada método público das classes de serviço (services/*Services e JogoService).
+// Os repositórios já são medidos pelo Spring Data em spring.data.repository.invocations.
+// Os timers ficam guardados por método e exceção, para não refazer o registro a cada chamada.
+@Aspect
+@Component
+public class MetricasServicos {
+
+    public static final String METRICA = "servicos.chamadas";
+
+    private final MeterRegistry registry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public MetricasServicos(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Around("within(dev.projetopoo.ProjetoPoo.services.*) && @within(org.springframework.stereotype.Service) && execution(public * *(..))")
+    public Object cronometrar(ProceedingJoinPoint chamada) throws Throwable {
+        long inicio = System.nanoTime();
+        String excecao = "none";
+        try {
+            return chamada.proceed();
+        } catch (Throwable erro) {
+            excecao = erro.getClass().getSimpleName();
+            throw erro;
+        } finally {
+            String classe = chamada.getSignature().getDeclaringType().getSimpleName();
+            String metodo = chamada.getSignature().getName();
+            timer(classe, metodo, excecao).record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer timer(String classe, String metodo, String excecao) {
+        return timers.computeIfAbsent(classe + '.' + metodo + '|' + excecao, chave -> Timer.builder(METRICA)
+                .description("Duração das chamadas aos serviços")
+                .tag("classe", classe)
+                .tag("metodo", metodo)
+                .tag("excecao", excecao)
+                .register(registry));
+    }
+}
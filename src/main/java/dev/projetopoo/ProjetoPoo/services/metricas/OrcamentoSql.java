@@ -0,0 +1,94 @@
+package dev.projetopoo.ProjetoPoo.services.metricas;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Orçamento de comandos SQL por requisição, para pegar N+1 (por exemplo coleções @ManyToMany
+// carregadas uma a uma na serialização) antes da produção. Em "registrar", a requisição que passa do
+// limite gera um aviso com as associações que dispararam os carregamentos, no máximo um por rota a
+// cada intervalo; em "falhar" (usado nos testes), o filtro troca a resposta por um erro 500 depois que
+// a requisição termina, sem interromper o Hibernate no meio de um carregamento.
+@Component
+public class OrcamentoSql {
+
+    private static final Logger log = LoggerFactory.getLogger(OrcamentoSql.class);
+
+    private final int limite;
+    private final AcaoOrcamentoSql acao;
+    private final long intervaloAvisosNanos;
+    private final MeterRegistry registry;
+    private final Map<String, Long> ultimosAvisos = new ConcurrentHashMap<>();
+    private final Map<String, Counter> excedidos = new ConcurrentHashMap<>();
+
+    public OrcamentoSql(@Value("${sql.orcamento.por-requisicao:20}") int limite,
+                        @Value("${sql.orcamento.acao:registrar}") String acao,
+                        @Value("${sql.orcamento.intervalo-avisos:1m}") Duration intervaloAvisos,
+                        MeterRegistry registry) {
+        this.limite = limite;
+        this.acao = AcaoOrcamentoSql.de(acao);
+        this.intervaloAvisosNanos = intervaloAvisos.toNanos();
+        this.registry = registry;
+    }
+
+    public int getLimite() {
+        return limite;
+    }
+
+    public boolean isFalhar() {
+        return acao == AcaoOrcamentoSql.FALHAR;
+    }
+
+    public String descreverExcesso(ConsultasRequisicao consultas) {
+        return "A requisição executou " + consultas.getComandos() + " comandos SQL, acima do orçamento de " + limite
+                + " (" + consultas.descreverCarregamentos() + ")";
+    }
+
+    // Chamado no fim da requisição; devolve se ela passou do orçamento
+    public boolean avaliar(String metodo, String rota, ConsultasRequisicao consultas) {
+        if (consultas.getComandos() <= limite) {
+            return false;
+        }
+        String chave = metodo + " " + rota;
+        excedidos.computeIfAbsent(chave, k -> Counter.builder("http.server.requests.sql.excedidos")
+                .description("Requisições que passaram do orçamento de comandos SQL")
+                .tag("method", metodo)
+                .tag("uri", rota)
+                .register(registry))
+                .increment();
+
+        // A troca do horário é atômica, então requisições simultâneas da mesma rota geram um único aviso
+        long agora = System.nanoTime();
+        boolean[] avisar = {false};
+        ultimosAvisos.compute(chave, (k, ultimo) -> {
+            if (ultimo != null && agora - ultimo < intervaloAvisosNanos) {
+                return ultimo;
+            }
+            avisar[0] = true;
+            return agora;
+        });
+        if (avisar[0]) {
+            avisar(chave, consultas);
+        }
+        return true;
+    }
+
+    private void avisar(String chave, ConsultasRequisicao consultas) {
+        log.atWarn()
+                .addKeyValue("rota", chave)
+                .addKeyValue("comandos", consultas.getComandos())
+                .addKeyValue("orcamento", limite)
+                .addKeyValue("colecoesLazy", consultas.getColecoes())
+                .addKeyValue("entidades", consultas.getEntidades())
+                .log("{} executou {} comandos SQL (orçamento: {}); {}", chave, consultas.getComandos(), limite,
+                        consultas.descreverCarregamentos());
+    }
+}
@@ -0,0 +1,58 @@
+package dev.projetopoo.ProjetoPoo.services.metricas;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.InitializeCollectionEvent;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+
+// Anota na requisição corrente cada coleção lazy inicializada e cada entidade carregada,
+// para o aviso de orçamento SQL apontar a associação responsável pelo N+1
+@Component
+public class OuvinteCarregamentos implements InitializeCollectionEventListener, PostLoadEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ContadorSql contadorSql;
+
+    public OuvinteCarregamentos(EntityManagerFactory entityManagerFactory, ContadorSql contadorSql) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.contadorSql = contadorSql;
+    }
+
+    @PostConstruct
+    public void registrar() {
+        EventListenerRegistry registro = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().requireService(EventListenerRegistry.class);
+        registro.appendListeners(EventType.INIT_COLLECTION, this);
+        registro.appendListeners(EventType.POST_LOAD, this);
+    }
+
+    @Override
+    public void onInitializeCollection(InitializeCollectionEvent event) {
+        ConsultasRequisicao consultas = contadorSql.atual();
+        if (consultas != null) {
+            // O papel vem como "dev.projetopoo.ProjetoPoo.model.Compra.jogos"
+            String dono = event.getAffectedOwnerEntityName();
+            String papel = event.getCollection().getRole();
+            consultas.registrarColecao(nomeSimples(dono) + papel.substring(dono.length()));
+        }
+    }
+
+    @Override
+    public void onPostLoad(PostLoadEvent event) {
+        ConsultasRequisicao consultas = contadorSql.atual();
+        if (consultas != null) {
+            consultas.registrarEntidade(nomeSimples(event.getPersister().getEntityName()));
+        }
+    }
+
+    private static String nomeSimples(String entidade) {
+        return entidade.substring(entidade.lastIndexOf('.') + 1);
+    }
+}
@@ -0,0 +1,7 @@
+package dev.projetopoo.ProjetoPoo.services.pagination;
+
+// Critério de ordenação escolhido pelo cliente pela chave; ver Paginacao.ordenacao
+public interface Ordenacao {
+
+    String getChave();
+}
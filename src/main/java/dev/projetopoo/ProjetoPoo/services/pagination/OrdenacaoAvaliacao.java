@@ -0,0 +1,21 @@
+package dev.projetopoo.ProjetoPoo.services.pagination;
+
+public enum OrdenacaoAvaliacao implements Ordenacao {
+    RECENTES("recentes"),
+    MELHORES("melhores");
+
+    private final String chave;
+
+    OrdenacaoAvaliacao(String chave) {
+        this.chave = chave;
+    }
+
+    @Override
+    public String getChave() {
+        return chave;
+    }
+
+    public static OrdenacaoAvaliacao de(String valor) {
+        return Paginacao.ordenacao(OrdenacaoAvaliacao.class, valor, RECENTES);
+    }
+}
@@ -0,0 +1,21 @@
+package dev.projetopoo.ProjetoPoo.services.pagination;
+
+public enum OrdenacaoBiblioteca implements Ordenacao {
+    AQUISICAO("aquisicao"),
+    NOME("nome");
+
+    private final String chave;
+
+    OrdenacaoBiblioteca(String chave) {
+        this.chave = chave;
+    }
+
+    @Override
+    public String getChave() {
+        return chave;
+    }
+
+    public static OrdenacaoBiblioteca de(String valor) {
+        return Paginacao.ordenacao(OrdenacaoBiblioteca.class, valor, AQUISICAO);
+    }
+}
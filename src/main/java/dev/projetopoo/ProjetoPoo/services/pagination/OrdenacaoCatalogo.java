@@ -0,0 +1,21 @@
+package dev.projetopoo.ProjetoPoo.services.pagination;
+
+public enum OrdenacaoCatalogo implements Ordenacao {
+    ID("id"),
+    LANCAMENTO("lancamento");
+
+    private final String chave;
+
+    OrdenacaoCatalogo(String chave) {
+        this.chave = chave;
+    }
+
+    @Override
+    public String getChave() {
+        return chave;
+    }
+
+    public static OrdenacaoCatalogo de(String valor) {
+        return Paginacao.ordenacao(OrdenacaoCatalogo.class, valor, ID);
+    }
+}
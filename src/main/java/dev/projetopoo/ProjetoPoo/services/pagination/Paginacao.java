@@ -0,0 +1,118 @@
+package dev.projetopoo.ProjetoPoo.services.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Limit;
+
+import dev.projetopoo.ProjetoPoo.dto.PaginaCursor;
+
+public final class Paginacao {
+
+    public static final int TAMANHO_PADRAO = 20;
+    public static final int TAMANHO_MAXIMO = 100;
+
+    private static final String SEPARADOR = "|";
+    private static final String CURSOR_INVALIDO = "Cursor de paginação inválido";
+
+    private Paginacao() {
+    }
+
+    public static int resolverTamanho(Integer tamanho) {
+        if (tamanho == null) {
+            return TAMANHO_PADRAO;
+        }
+        if (tamanho < 1 || tamanho > TAMANHO_MAXIMO) {
+            throw new IllegalArgumentException("O tamanho da página deve estar entre 1 e " + TAMANHO_MAXIMO);
+        }
+        return tamanho;
+    }
+
+    // Busca um item a mais para saber se existe próxima página sem precisar de COUNT
+    public static Limit limiteComSentinela(int tamanho) {
+        return Limit.of(tamanho + 1);
+    }
+
+    // O cursor é opaco para o cliente: as partes são concatenadas e codificadas em Base64 URL-safe
+    public static String codificarCursor(String... partes) {
+        String bruto = String.join(SEPARADOR, partes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bruto.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String[] decodificarCursor(String cursor, String tipoEsperado, int quantidadePartes) {
+        try {
+            String bruto = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            // A última parte pode conter o separador (ex.: nomes), por isso o split é limitado
+            String[] partes = bruto.split("\\" + SEPARADOR, quantidadePartes);
+            if (partes.length != quantidadePartes || !partes[0].equals(tipoEsperado)) {
+                throw new IllegalArgumentException(CURSOR_INVALIDO);
+            }
+            return partes;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(CURSOR_INVALIDO);
+        }
+    }
+
+    // Recebe a lista buscada com limiteComSentinela: o item a mais só indica que existe próxima página
+    // e não é devolvido; o cursor é montado a partir do último item da página
+    public static <T> PaginaCursor<T> montarPagina(List<T> itens, int tamanho, Function<T, String> cursorDoUltimo) {
+        if (itens.size() <= tamanho) {
+            return new PaginaCursor<>(itens, null);
+        }
+        List<T> pagina = itens.subList(0, tamanho);
+        return new PaginaCursor<>(pagina, cursorDoUltimo.apply(pagina.get(tamanho - 1)));
+    }
+
+    // Valor vazio escolhe o padrão; a chave é comparada sem diferenciar maiúsculas
+    public static <E extends Enum<E> & Ordenacao> E ordenacao(Class<E> tipo, String valor, E padrao) {
+        if (valor == null || valor.trim().isEmpty()) {
+            return padrao;
+        }
+        E[] opcoes = tipo.getEnumConstants();
+        for (E opcao : opcoes) {
+            if (opcao.getChave().equalsIgnoreCase(valor.trim())) {
+                return opcao;
+            }
+        }
+        String anteriores = Stream.of(opcoes).limit(opcoes.length - 1L)
+                .map(opcao -> "'" + opcao.getChave() + "'")
+                .collect(Collectors.joining(", "));
+        throw new IllegalArgumentException("Ordenação inválida: " + valor + ". Use " + anteriores
+                + " ou '" + opcoes[opcoes.length - 1].getChave() + "'");
+    }
+
+    public static long parseLong(String valor) {
+        try {
+            return Long.parseLong(valor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(CURSOR_INVALIDO);
+        }
+    }
+
+    public static Long parseId(String valor) {
+        return parseLong(valor);
+    }
+
+    public static LocalDate parseData(String valor) {
+        try {
+            return LocalDate.parse(valor);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(CURSOR_INVALIDO);
+        }
+    }
+
+    public static LocalDateTime parseDataHora(String valor) {
+        try {
+            return LocalDateTime.parse(valor);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(CURSOR_INVALIDO);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package dev.projetopoo.ProjetoPoo.services.recomendacao;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RecursiveTask;
+
+// Conta, em paralelo, quantas bibliotecas contêm cada par de jogos. Cada folha percorre um bloco de
+// bibliotecas num mapa próprio; os mapas parciais são somados na volta da recursão.
+class ContagemCoocorrencia extends RecursiveTask<Map<Long, Map<Long, Long>>> {
+
+    private static final int LIMIAR = 256;
+
+    private final List<long[]> bibliotecas;
+    private final int inicio;
+    private final int fim;
+
+    ContagemCoocorrencia(List<long[]> bibliotecas, int inicio, int fim) {
+        this.bibliotecas = bibliotecas;
+        this.inicio = inicio;
+        this.fim = fim;
+    }
+
+    @Override
+    protected Map<Long, Map<Long, Long>> compute() {
+        if (fim - inicio <= LIMIAR) {
+            Map<Long, Map<Long, Long>> contagem = new HashMap<>();
+            for (int i = inicio; i < fim; i++) {
+                contarBiblioteca(contagem, bibliotecas.get(i));
+            }
+            return contagem;
+        }
+
+        int meio = (inicio + fim) >>> 1;
+        ContagemCoocorrencia esquerda = new ContagemCoocorrencia(bibliotecas, inicio, meio);
+        esquerda.fork();
+        Map<Long, Map<Long, Long>> direita = new ContagemCoocorrencia(bibliotecas, meio, fim).compute();
+        return somar(esquerda.join(), direita);
+    }
+
+    private static void contarBiblioteca(Map<Long, Map<Long, Long>> contagem, long[] jogos) {
+        for (long jogo : jogos) {
+            Map<Long, Long> linha = contagem.computeIfAbsent(jogo, id -> new HashMap<>());
+            for (long outro : jogos) {
+                if (outro != jogo) {
+                    linha.merge(outro, 1L, Long::sum);
+                }
+            }
+        }
+    }
+
+    private static Map<Long, Map<Long, Long>> somar(Map<Long, Map<Long, Long>> a, Map<Long, Map<Long, Long>> b) {
+        Map<Long, Map<Long, Long>> maior = a.size() >= b.size() ? a : b;
+        Map<Long, Map<Long, Long>> menor = maior == a ? b : a;
+        menor.forEach((jogo, linha) -> {
+            Map<Long, Long> destino = maior.computeIfAbsent(jogo, id -> new HashMap<>());
+            linha.forEach((outro, quantidade) -> destino.merge(outro, quantidade, Long::sum));
+        });
+        return maior;
+    }
+}
@@ -0,0 +1,267 @@
+package dev.projetopoo.ProjetoPoo.services.recomendacao;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import dev.projetopoo.ProjetoPoo.model.Recomendacao;
+import dev.projetopoo.ProjetoPoo.repository.BibliotecaRepository;
+import dev.projetopoo.ProjetoPoo.repository.RecomendacaoRepository;
+import dev.projetopoo.ProjetoPoo.services.transacao.AposCommit;
+
+// Modelo item-a-item de coocorrência em bibliotecas ("quem tem este jogo também tem").
+// A reconstrução completa conta os pares em paralelo (fork/join sobre as bibliotecas) e grava o top-k
+// de cada jogo em game_recommendation. Entre reconstruções, compras e reembolsos confirmados entram numa
+// fila, cada um com os demais jogos da biblioteca no momento do evento, e um agendamento ajusta a matriz
+// e regrava só o top-k dos jogos afetados.
+// As consultas leem um mapa imutável em memória, sem tocar no banco.
+@Component
+public class ModeloCoocorrencia {
+
+    private static final Logger log = LoggerFactory.getLogger(ModeloCoocorrencia.class);
+
+    // Bibliotecas de colecionadores geram pares demais e pouco sinal; ficam fora do modelo
+    private static final int TAMANHO_MAXIMO_BIBLIOTECA = 500;
+    private static final String INSERIR = "INSERT INTO game_recommendation (jogo_id, recomendado_id, pontuacao) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RecomendacaoRepository recomendacaoRepository;
+    private final BibliotecaRepository bibliotecaRepository;
+    private final int topK;
+
+    private final ConcurrentLinkedQueue<Evento> eventos = new ConcurrentLinkedQueue<>();
+    private Map<Long, Map<Long, Long>> matriz;
+    private volatile Map<Long, List<Vizinho>> recomendacoes = Map.of();
+
+    public ModeloCoocorrencia(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                              RecomendacaoRepository recomendacaoRepository, BibliotecaRepository bibliotecaRepository,
+                              @Value("${recomendacao.top-k:20}") int topK) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.recomendacaoRepository = recomendacaoRepository;
+        this.bibliotecaRepository = bibliotecaRepository;
+        this.topK = topK;
+    }
+
+    public int getTopK() {
+        return topK;
+    }
+
+    public List<Vizinho> recomendados(Long jogoId) {
+        return recomendacoes.getOrDefault(jogoId, List.of());
+    }
+
+    // Chamado na transação da compra, depois de os jogos entrarem na biblioteca
+    public void registrarCompra(Long usuarioId, Collection<Long> jogoIds) {
+        registrar(usuarioId, jogoIds, 1);
+    }
+
+    // Chamado na transação do reembolso, depois de os jogos saírem da biblioteca
+    public void registrarReembolso(Long usuarioId, Collection<Long> jogoIds) {
+        registrar(usuarioId, jogoIds, -1);
+    }
+
+    // Os outros jogos são lidos agora, dentro da transação do evento: na aplicação a biblioteca
+    // já pode ter mudado por compras posteriores, que trazem os próprios pares
+    private void registrar(Long usuarioId, Collection<Long> jogoIds, long sinal) {
+        Set<Long> jogos = Set.copyOf(jogoIds);
+        Set<Long> outros = new HashSet<>(bibliotecaRepository.findJogoIdsByUsuarioId(usuarioId));
+        outros.removeAll(jogos);
+        Evento evento = new Evento(jogos, Set.copyOf(outros), sinal);
+        AposCommit.executar(() -> eventos.add(evento));
+    }
+
+    // Serve o último top-k gravado enquanto a matriz é reconstruída em segundo plano
+    @EventListener(ApplicationReadyEvent.class)
+    public void iniciar() {
+        Map<Long, List<Vizinho>> gravadas = new HashMap<>();
+        for (Recomendacao recomendacao : recomendacaoRepository.findAllByOrderByJogoIdAscPontuacaoDesc()) {
+            gravadas.computeIfAbsent(recomendacao.getJogoId(), id -> new ArrayList<>())
+                    .add(new Vizinho(recomendacao.getRecomendadoId(), recomendacao.getPontuacao()));
+        }
+        recomendacoes = Map.copyOf(gravadas);
+        CompletableFuture.runAsync(this::reconstruir).exceptionally(erro -> {
+            log.error("Falha ao reconstruir o modelo de recomendações; segue o top-k gravado", erro);
+            return null;
+        });
+    }
+
+    @Scheduled(cron = "${recomendacao.reconstrucao.cron:0 30 3 * * *}")
+    public synchronized void reconstruir() {
+        // A fila é esvaziada antes da leitura: esses eventos foram enfileirados depois do commit, então já
+        // estão nas bibliotecas carregadas. Os que chegam depois ficam na fila e o incremental os aplica sobre
+        // a matriz nova; um evento confirmado entre este ponto e a leitura pode contar duas vezes até a
+        // próxima reconstrução, mas nenhum se perde.
+        eventos.clear();
+        List<long[]> bibliotecas = carregarBibliotecas();
+        Map<Long, Map<Long, Long>> contagem = ForkJoinPool.commonPool()
+                .invoke(new ContagemCoocorrencia(bibliotecas, 0, bibliotecas.size()));
+
+        Map<Long, List<Vizinho>> novas = new HashMap<>();
+        contagem.forEach((jogoId, linha) -> novas.put(jogoId, topo(linha)));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            recomendacaoRepository.deleteAllInBatch();
+            gravar(novas);
+        });
+        matriz = contagem;
+        recomendacoes = Map.copyOf(novas);
+    }
+
+    @Scheduled(fixedDelayString = "${recomendacao.intervalo-incremental:1m}")
+    public synchronized void atualizarIncremental() {
+        if (matriz == null || eventos.isEmpty()) {
+            return;
+        }
+
+        Set<Long> afetados = new HashSet<>();
+        Evento evento;
+        while ((evento = eventos.poll()) != null) {
+            aplicar(evento, afetados);
+        }
+        if (afetados.isEmpty()) {
+            return;
+        }
+
+        Map<Long, List<Vizinho>> atualizadas = new HashMap<>();
+        for (Long jogoId : afetados) {
+            atualizadas.put(jogoId, topo(matriz.getOrDefault(jogoId, Map.of())));
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            recomendacaoRepository.removerDosJogos(afetados);
+            gravar(atualizadas);
+        });
+
+        Map<Long, List<Vizinho>> novas = new HashMap<>(recomendacoes);
+        novas.putAll(atualizadas);
+        recomendacoes = Map.copyOf(novas);
+    }
+
+    private void aplicar(Evento evento, Set<Long> afetados) {
+        Set<Long> jogos = evento.jogoIds;
+        Set<Long> outros = evento.outros;
+        if (outros.size() + jogos.size() > TAMANHO_MAXIMO_BIBLIOTECA) {
+            return;
+        }
+
+        for (Long jogo : jogos) {
+            for (Long outro : outros) {
+                somar(jogo, outro, evento.sinal);
+                somar(outro, jogo, evento.sinal);
+            }
+            // Pares entre os próprios jogos do evento: cada direção aparece uma vez neste laço
+            for (Long outro : jogos) {
+                if (!outro.equals(jogo)) {
+                    somar(jogo, outro, evento.sinal);
+                }
+            }
+        }
+        afetados.addAll(jogos);
+        afetados.addAll(outros);
+    }
+
+    private void somar(Long jogo, Long outro, long delta) {
+        Map<Long, Long> linha = matriz.computeIfAbsent(jogo, id -> new HashMap<>());
+        long total = linha.getOrDefault(outro, 0L) + delta;
+        if (total > 0) {
+            linha.put(outro, total);
+        } else {
+            linha.remove(outro);
+        }
+    }
+
+    private List<Vizinho> topo(Map<Long, Long> linha) {
+        List<Vizinho> vizinhos = new ArrayList<>(linha.size());
+        linha.forEach((outro, pontuacao) -> vizinhos.add(new Vizinho(outro, pontuacao)));
+        vizinhos.sort(Comparator.comparingLong(Vizinho::getPontuacao).reversed().thenComparingLong(Vizinho::getJogoId));
+        return List.copyOf(vizinhos.subList(0, Math.min(topK, vizinhos.size())));
+    }
+
+    private void gravar(Map<Long, List<Vizinho>> recomendacoesPorJogo) {
+        List<Object[]> linhas = new ArrayList<>();
+        recomendacoesPorJogo.forEach((jogoId, vizinhos) -> {
+            for (Vizinho vizinho : vizinhos) {
+                linhas.add(new Object[]{jogoId, vizinho.getJogoId(), vizinho.getPontuacao()});
+            }
+        });
+        if (!linhas.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERIR, linhas);
+        }
+    }
+
+    // Lê biblioteca_jogos em ordem, montando um array de jogos por biblioteca sem carregar entidades
+    private List<long[]> carregarBibliotecas() {
+        List<long[]> bibliotecas = new ArrayList<>();
+        List<Long> atual = new ArrayList<>();
+        long[] bibliotecaAtual = {-1L};
+
+        jdbcTemplate.query("SELECT biblioteca_id, jogo_id FROM biblioteca_jogos ORDER BY biblioteca_id",
+                (RowCallbackHandler) linha -> {
+                    long bibliotecaId = linha.getLong(1);
+                    if (bibliotecaId != bibliotecaAtual[0]) {
+                        adicionarBiblioteca(bibliotecas, atual);
+                        atual.clear();
+                        bibliotecaAtual[0] = bibliotecaId;
+                    }
+                    atual.add(linha.getLong(2));
+                });
+        adicionarBiblioteca(bibliotecas, atual);
+        return bibliotecas;
+    }
+
+    private void adicionarBiblioteca(List<long[]> bibliotecas, List<Long> jogos) {
+        if (jogos.size() > 1 && jogos.size() <= TAMANHO_MAXIMO_BIBLIOTECA) {
+            bibliotecas.add(jogos.stream().mapToLong(Long::longValue).toArray());
+        }
+    }
+
+    public static final class Vizinho {
+        private final long jogoId;
+        private final long pontuacao;
+
+        private Vizinho(long jogoId, long pontuacao) {
+            this.jogoId = jogoId;
+            this.pontuacao = pontuacao;
+        }
+
+        public long getJogoId() {
+            return jogoId;
+        }
+
+        public long getPontuacao() {
+            return pontuacao;
+        }
+    }
+
+    private static final class Evento {
+        private final Set<Long> jogoIds;
+        private final Set<Long> outros;
+        private final long sinal;
+
+        private Evento(Set<Long> jogoIds, Set<Long> outros, long sinal) {
+            this.jogoIds = jogoIds;
+            this.outros = outros;
+            this.sinal = sinal;
+        }
+    }
+}
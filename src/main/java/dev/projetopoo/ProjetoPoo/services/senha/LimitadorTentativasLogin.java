@@ -0,0 +1,84 @@
+package dev.projetopoo.ProjetoPoo.services.senha;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import dev.projetopoo.ProjetoPoo.exception.MuitasTentativasException;
+
+// Janela fixa por chave: cada IP e cada conta têm um teto de falhas de login.
+// A vaga é reservada antes do bcrypt, então quem estoura o limite não consome o pool de verificação,
+// e tentativas simultâneas não conseguem passar todas pela checagem antes de qualquer falha ser contada.
+// Uma verificação que falha fica com a vaga; um login correto devolve a do IP e zera a da conta.
+@Component
+public class LimitadorTentativasLogin {
+
+    private final int falhasPorIp;
+    private final int falhasPorConta;
+    private final Duration janela;
+    private final Cache<String, AtomicInteger> falhasIp;
+    private final Cache<String, AtomicInteger> falhasConta;
+
+    public LimitadorTentativasLogin(@Value("${login.limite.falhas-por-ip:30}") int falhasPorIp,
+                                    @Value("${login.limite.falhas-por-conta:5}") int falhasPorConta,
+                                    @Value("${login.limite.janela:15m}") Duration janela) {
+        this.falhasPorIp = falhasPorIp;
+        this.falhasPorConta = falhasPorConta;
+        this.janela = janela;
+        this.falhasIp = Caffeine.newBuilder().expireAfterWrite(janela).maximumSize(100_000).build();
+        this.falhasConta = Caffeine.newBuilder().expireAfterWrite(janela).maximumSize(100_000).build();
+    }
+
+    // Reserva uma vaga na conta e no IP, ou recusa se algum dos dois já estourou o limite
+    public void reservar(String email, String ip) {
+        if (!reservar(falhasConta, chaveConta(email), falhasPorConta)) {
+            throw new MuitasTentativasException(janela);
+        }
+        if (ip != null && !reservar(falhasIp, ip, falhasPorIp)) {
+            devolver(falhasConta, chaveConta(email));
+            throw new MuitasTentativasException(janela);
+        }
+    }
+
+    // Senha correta: a conta volta a zero e o IP não é punido por um login legítimo
+    public void registrarSucesso(String email, String ip) {
+        falhasConta.invalidate(chaveConta(email));
+        if (ip != null) {
+            devolver(falhasIp, ip);
+        }
+    }
+
+    // A verificação não chegou a uma resposta (pool ocupado, timeout): a tentativa não conta como falha
+    public void liberar(String email, String ip) {
+        devolver(falhasConta, chaveConta(email));
+        if (ip != null) {
+            devolver(falhasIp, ip);
+        }
+    }
+
+    private static boolean reservar(Cache<String, AtomicInteger> cache, String chave, int limite) {
+        AtomicInteger contador = cache.get(chave, k -> new AtomicInteger());
+        if (contador.incrementAndGet() > limite) {
+            contador.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    private static void devolver(Cache<String, AtomicInteger> cache, String chave) {
+        AtomicInteger contador = cache.getIfPresent(chave);
+        if (contador != null) {
+            contador.updateAndGet(valor -> Math.max(0, valor - 1));
+        }
+    }
+
+    private static String chaveConta(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
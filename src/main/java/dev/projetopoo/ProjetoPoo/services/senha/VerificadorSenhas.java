@@ -0,0 +1,124 @@
+package dev.projetopoo.ProjetoPoo.services.senha;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import dev.projetopoo.ProjetoPoo.exception.ServicoSobrecarregadoException;
+import dev.projetopoo.ProjetoPoo.services.log.Correlacao;
+import jakarta.annotation.PreDestroy;
+
+// Todo hash/verificação de senha passa por este pool limitado. O bcrypt é caro de propósito;
+// sem o limite, uma rajada de logins ocuparia todos os núcleos e travaria o resto da API.
+// Cada verificação reserva uma vaga (uma por thread) antes do envio: com todas ocupadas a requisição falha
+// rápido com 503 em vez de esperar atrás de verificações que o cliente talvez já tenha abandonado.
+// A vaga só volta quando o bcrypt termina, não quando o cliente desiste de esperar.
+@Component
+public class VerificadorSenhas {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Semaphore vagas;
+    private final Duration timeout;
+    // Hash de referência para emails inexistentes, para que a resposta custe o mesmo tempo
+    private final String hashFicticio;
+
+    public VerificadorSenhas(PasswordEncoder passwordEncoder,
+                             @Value("${senha.verificacao.threads:0}") int threads,
+                             @Value("${senha.verificacao.timeout:5s}") Duration timeout) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeout = timeout;
+
+        int quantidade = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger contador = new AtomicInteger();
+        this.vagas = new Semaphore(quantidade);
+        // A fila só guarda o instante entre uma verificação terminar e a thread voltar ao pool: as vagas limitam o resto
+        this.executor = new ThreadPoolExecutor(quantidade, quantidade, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                tarefa -> {
+                    Thread thread = new Thread(tarefa, "verificador-senha-" + contador.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.hashFicticio = passwordEncoder.encode("senha-ficticia-para-tempo-constante");
+    }
+
+    public boolean confere(String senhaInformada, String senhaArmazenada) {
+        String referencia = senhaArmazenada != null ? senhaArmazenada : hashFicticio;
+        boolean confere = executar(() -> passwordEncoder.matches(senhaInformada, referencia));
+        return confere && senhaArmazenada != null;
+    }
+
+    public String codificar(String senha) {
+        return executar(() -> passwordEncoder.encode(senha));
+    }
+
+    // Verdadeiro para senhas em texto puro (linhas antigas) ou com custo abaixo do configurado
+    public boolean precisaRecodificar(String senhaArmazenada) {
+        return passwordEncoder.upgradeEncoding(senhaArmazenada);
+    }
+
+    private <T> T executar(Callable<T> tarefa) {
+        if (!vagas.tryAcquire()) {
+            throw new ServicoSobrecarregadoException("Serviço de autenticação ocupado. Tente novamente em instantes.");
+        }
+
+        // Quem marcar primeiro devolve a vaga: a tarefa ao terminar, ou o timeout se ela nem chegou a rodar
+        AtomicBoolean iniciada = new AtomicBoolean();
+        Callable<T> comCorrelacao = Correlacao.envolver(tarefa);
+        Future<T> futuro;
+        try {
+            futuro = executor.submit(() -> {
+                if (!iniciada.compareAndSet(false, true)) {
+                    return null;
+                }
+                try {
+                    return comCorrelacao.call();
+                } finally {
+                    vagas.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            vagas.release();
+            throw new ServicoSobrecarregadoException("Serviço de autenticação ocupado. Tente novamente em instantes.", e);
+        }
+
+        try {
+            return futuro.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            futuro.cancel(true);
+            if (iniciada.compareAndSet(false, true)) {
+                vagas.release();
+            }
+            throw new ServicoSobrecarregadoException("Serviço de autenticação ocupado. Tente novamente em instantes.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServicoSobrecarregadoException("Verificação de senha interrompida", e);
+        } catch (ExecutionException e) {
+            Throwable causa = e.getCause();
+            if (causa instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(causa);
+        }
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        executor.shutdownNow();
+    }
+}
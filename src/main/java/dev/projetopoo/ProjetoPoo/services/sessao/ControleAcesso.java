@@ -0,0 +1,38 @@
+package dev.projetopoo.ProjetoPoo.services.sessao;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import dev.projetopoo.ProjetoPoo.exception.AcessoNegadoException;
+
+// Confere, nos controllers, se a sessão da requisição pode agir sobre os dados de um usuário.
+// Com sessão, só o próprio usuário ou um administrador passam. Sem sessão quem decide é o SecurityConfig:
+// com sessao.exigir-autenticacao=true (o padrão) a requisição nem chega aqui; só o perfil dev a desliga.
+public final class ControleAcesso {
+
+    public static final String PAPEL_ADMIN = "ROLE_ADMIN";
+
+    private ControleAcesso() {
+    }
+
+    public static void exigirDono(Long usuarioId) {
+        Authentication autenticacao = SecurityContextHolder.getContext().getAuthentication();
+        if (autenticacao == null || !(autenticacao.getPrincipal() instanceof SessaoUsuario sessao)) {
+            return;
+        }
+        if (sessao.getUsuarioId().equals(usuarioId) || isAdministrador(autenticacao)) {
+            return;
+        }
+        throw new AcessoNegadoException();
+    }
+
+    private static boolean isAdministrador(Authentication autenticacao) {
+        for (GrantedAuthority papel : autenticacao.getAuthorities()) {
+            if (PAPEL_ADMIN.equals(papel.getAuthority())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,32 @@
+package dev.projetopoo.ProjetoPoo.services.sessao;
+
+import java.time.Instant;
+
+// Dados carregados no token de sessão; vira o principal autenticado da requisição
+public class SessaoUsuario {
+    private final Long usuarioId;
+    private final String email;
+    private final Instant expiraEm;
+
+    public SessaoUsuario(Long usuarioId, String email, Instant expiraEm) {
+        this.usuarioId = usuarioId;
+        this.email = email;
+        this.expiraEm = expiraEm;
+    }
+
+    public Long getUsuarioId() {
+        return usuarioId;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public Instant getExpiraEm() {
+        return expiraEm;
+    }
+
+    public boolean isExpirada(Instant agora) {
+        return !agora.isBefore(expiraEm);
+    }
+}
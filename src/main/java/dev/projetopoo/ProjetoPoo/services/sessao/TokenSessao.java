@@ -0,0 +1,134 @@
+package dev.projetopoo.ProjetoPoo.services.sessao;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import dev.projetopoo.ProjetoPoo.dto.LoginResponse;
+import dev.projetopoo.ProjetoPoo.model.User;
+
+// Token de sessão sem estado: "<payload>.<assinatura>", ambos em Base64 URL-safe.
+// O payload é "usuarioId|email|expiraEmSegundos", com o e-mail em Base64 URL-safe para um "|" nele
+// não deslocar os campos, e a assinatura é HMAC-SHA256 com o segredo da aplicação,
+// então a verificação não consulta o banco. Tokens já verificados ficam num cache curto para evitar
+// recalcular o HMAC a cada requisição.
+@Component
+public class TokenSessao {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenSessao.class);
+
+    private static final String ALGORITMO = "HmacSHA256";
+    private static final String SEPARADOR = "|";
+
+    private final SecretKeySpec chave;
+    private final Duration validade;
+    private final Cache<String, SessaoUsuario> verificados;
+    private final ThreadLocal<Mac> macs;
+
+    public TokenSessao(@Value("${sessao.segredo:}") String segredo,
+                       @Value("${sessao.validade:12h}") Duration validade,
+                       @Value("${sessao.cache.tamanho-maximo:100000}") long tamanhoCache) {
+        this.chave = new SecretKeySpec(resolverSegredo(segredo), ALGORITMO);
+        this.validade = validade;
+        this.verificados = Caffeine.newBuilder()
+                .maximumSize(tamanhoCache)
+                .expireAfterWrite(Duration.ofMinutes(5))
+                .build();
+        this.macs = ThreadLocal.withInitial(this::novoMac);
+    }
+
+    public LoginResponse emitir(User usuario) {
+        // Precisão de segundos, a mesma que vai no payload
+        Instant expiraEm = Instant.ofEpochSecond(Instant.now().plus(validade).getEpochSecond());
+        Base64.Encoder codificador = Base64.getUrlEncoder().withoutPadding();
+        String email = codificador.encodeToString(usuario.getEmail().getBytes(StandardCharsets.UTF_8));
+        String payload = usuario.getId() + SEPARADOR + email + SEPARADOR + expiraEm.getEpochSecond();
+        byte[] bytesPayload = payload.getBytes(StandardCharsets.UTF_8);
+        String token = codificador.encodeToString(bytesPayload) + "." + codificador.encodeToString(assinar(bytesPayload));
+        return new LoginResponse(token, expiraEm, usuario.getId(), usuario.getNome(), usuario.getEmail());
+    }
+
+    public Optional<SessaoUsuario> verificar(String token) {
+        if (token == null || token.isEmpty()) {
+            return Optional.empty();
+        }
+        Instant agora = Instant.now();
+
+        SessaoUsuario sessao = verificados.getIfPresent(token);
+        if (sessao == null) {
+            sessao = decodificar(token);
+            if (sessao == null) {
+                return Optional.empty();
+            }
+            verificados.put(token, sessao);
+        }
+        return sessao.isExpirada(agora) ? Optional.empty() : Optional.of(sessao);
+    }
+
+    private SessaoUsuario decodificar(String token) {
+        int ponto = token.indexOf('.');
+        if (ponto <= 0 || ponto != token.lastIndexOf('.')) {
+            return null;
+        }
+        try {
+            Base64.Decoder decodificador = Base64.getUrlDecoder();
+            byte[] payload = decodificador.decode(token.substring(0, ponto));
+            byte[] assinatura = decodificador.decode(token.substring(ponto + 1));
+            if (!MessageDigest.isEqual(assinar(payload), assinatura)) {
+                return null;
+            }
+
+            String[] partes = new String(payload, StandardCharsets.UTF_8).split("\\" + SEPARADOR, -1);
+            if (partes.length != 3) {
+                return null;
+            }
+            String email = new String(decodificador.decode(partes[1]), StandardCharsets.UTF_8);
+            return new SessaoUsuario(Long.valueOf(partes[0]), email, Instant.ofEpochSecond(Long.parseLong(partes[2])));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private byte[] assinar(byte[] payload) {
+        Mac mac = macs.get();
+        mac.reset();
+        return mac.doFinal(payload);
+    }
+
+    private Mac novoMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITMO);
+            mac.init(chave);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Não foi possível inicializar o " + ALGORITMO, e);
+        }
+    }
+
+    private static byte[] resolverSegredo(String segredo) {
+        if (segredo != null && !segredo.isBlank()) {
+            return segredo.getBytes(StandardCharsets.UTF_8);
+        }
+        // Sem segredo configurado os tokens só valem até a aplicação reiniciar
+        log.warn("sessao.segredo não configurado; usando um segredo aleatório desta execução");
+        byte[] aleatorio = new byte[32];
+        new SecureRandom().nextBytes(aleatorio);
+        return aleatorio;
+    }
+}
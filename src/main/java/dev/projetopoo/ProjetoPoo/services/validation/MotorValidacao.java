@@ -0,0 +1,61 @@
+package dev.projetopoo.ProjetoPoo.services.validation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import dev.projetopoo.ProjetoPoo.model.Jogo;
+
+// Ponto único de validação de jogos, usado pela inclusão, pela alteração e pela importação em massa.
+// As regras são os ValidadorJogo registrados, na ordem de @Order, e cada uma registra violações em vez de lançar.
+// Só os métodos "OuFalhar" convertem o resultado em exceção, para o caminho de um jogo por requisição.
+@Component
+public class MotorValidacao {
+
+    private final List<ValidadorJogo> validadores;
+
+    public MotorValidacao(List<ValidadorJogo> validadores) {
+        this.validadores = List.copyOf(validadores);
+    }
+
+    public Violacoes validar(Jogo jogo) {
+        Violacoes violacoes = new Violacoes();
+        for (ValidadorJogo validador : validadores) {
+            validador.validar(jogo, violacoes);
+        }
+        return violacoes;
+    }
+
+    // Uma passada por regra sobre o lote inteiro; o resultado tem a mesma posição de cada jogo
+    public List<Violacoes> validarLote(List<Jogo> jogos) {
+        List<Violacoes> resultado = new ArrayList<>(jogos.size());
+        for (int i = 0; i < jogos.size(); i++) {
+            resultado.add(new Violacoes());
+        }
+        for (ValidadorJogo validador : validadores) {
+            for (int i = 0; i < jogos.size(); i++) {
+                validador.validar(jogos.get(i), resultado.get(i));
+            }
+        }
+        return resultado;
+    }
+
+    public void validarOuFalhar(Jogo jogo) {
+        falharSeHouver(validar(jogo));
+    }
+
+    public void validarAlteracaoOuFalhar(Jogo alteracao) {
+        Violacoes violacoes = new Violacoes();
+        for (ValidadorJogo validador : validadores) {
+            validador.validarAlteracao(alteracao, violacoes);
+        }
+        falharSeHouver(violacoes);
+    }
+
+    private static void falharSeHouver(Violacoes violacoes) {
+        if (!violacoes.isVazia()) {
+            throw new IllegalArgumentException(violacoes.getMensagem());
+        }
+    }
+}
@@ -1,12 +1,15 @@
 package dev.projetopoo.ProjetoPoo.services.validation;
 
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import dev.projetopoo.ProjetoPoo.model.Jogo;
 
 @Component
+@Order(Ordered.LOWEST_PRECEDENCE)
 public class ValidadorCamposOpcionais implements ValidadorJogo {
     @Override
-    public void validar(Jogo jogo) {
+    public void validar(Jogo jogo, Violacoes violacoes) {
         if (jogo.getGender() == null) {
             jogo.setGender("");
         }
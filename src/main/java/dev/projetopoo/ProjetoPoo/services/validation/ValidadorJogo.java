@@ -3,5 +3,11 @@ package dev.projetopoo.ProjetoPoo.services.validation;
 import dev.projetopoo.ProjetoPoo.model.Jogo;
 
 public interface ValidadorJogo {
-    void validar(Jogo jogo);
+
+    // Jogo completo (inclusão); pode preencher valores padrão nos campos ausentes
+    void validar(Jogo jogo, Violacoes violacoes);
+
+    // Alteração parcial: só os campos informados são conferidos, e nada é preenchido
+    default void validarAlteracao(Jogo alteracao, Violacoes violacoes) {
+    }
 }
@@ -1,14 +1,16 @@
 package dev.projetopoo.ProjetoPoo.services.validation;
 
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import dev.projetopoo.ProjetoPoo.model.Jogo;
 
 @Component
+@Order(1)
 public class ValidadorNome implements ValidadorJogo {
     @Override
-    public void validar(Jogo jogo) {
-        if (jogo.getNome() == null || jogo.getNome().trim().isEmpty()) {
-            throw new IllegalArgumentException("Nome do jogo é obrigatório");
+    public void validar(Jogo jogo, Violacoes violacoes) {
+        if (jogo.getNome() == null || jogo.getNome().isBlank()) {
+            violacoes.adicionar("nome", "Nome do jogo é obrigatório");
         }
     }
 }
@@ -1,14 +1,25 @@
 package dev.projetopoo.ProjetoPoo.services.validation;
 
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
+import dev.projetopoo.ProjetoPoo.model.Dinheiro;
 import dev.projetopoo.ProjetoPoo.model.Jogo;
 
 @Component
+@Order(2)
 public class ValidadorPreco implements ValidadorJogo {
     @Override
-    public void validar(Jogo jogo) {
-        if (jogo.getPreco() < 0) {
-            throw new IllegalArgumentException("Preço deve ser maior ou igual a zero");
+    public void validar(Jogo jogo, Violacoes violacoes) {
+        if (jogo.getPreco() == null) {
+            jogo.setPreco(Dinheiro.ZERO);
+        }
+        validarAlteracao(jogo, violacoes);
+    }
+
+    @Override
+    public void validarAlteracao(Jogo alteracao, Violacoes violacoes) {
+        if (alteracao.getPreco() != null && alteracao.getPreco().isNegativo()) {
+            violacoes.adicionar("preco", "Preço deve ser maior ou igual a zero");
         }
     }
 }
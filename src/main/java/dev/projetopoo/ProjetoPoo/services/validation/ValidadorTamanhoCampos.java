@@ -0,0 +1,34 @@
+package dev.projetopoo.ProjetoPoo.services.validation;
+
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import dev.projetopoo.ProjetoPoo.model.Jogo;
+
+// Os mesmos tamanhos das colunas de jogo_table: um valor maior falharia só no INSERT,
+// e na importação derrubaria o lote inteiro em vez de apontar a linha
+@Component
+@Order(4)
+public class ValidadorTamanhoCampos implements ValidadorJogo {
+
+    static final int TAMANHO_TEXTO = 255;
+    static final int TAMANHO_URL = 500;
+
+    @Override
+    public void validar(Jogo jogo, Violacoes violacoes) {
+        validarAlteracao(jogo, violacoes);
+    }
+
+    @Override
+    public void validarAlteracao(Jogo alteracao, Violacoes violacoes) {
+        conferir("nome", "Nome", alteracao.getNome(), TAMANHO_TEXTO, violacoes);
+        conferir("gender", "Gênero", alteracao.getGender(), TAMANHO_TEXTO, violacoes);
+        conferir("descricao", "Descrição", alteracao.getDescricao(), TAMANHO_TEXTO, violacoes);
+        conferir("imagemUrl", "URL da imagem", alteracao.getImagemUrl(), TAMANHO_URL, violacoes);
+    }
+
+    private static void conferir(String campo, String rotulo, String valor, int maximo, Violacoes violacoes) {
+        if (valor != null && valor.length() > maximo) {
+            violacoes.adicionar(campo, rotulo + " deve ter no máximo " + maximo + " caracteres");
+        }
+    }
+}
@@ -1,31 +1,44 @@
 package dev.projetopoo.ProjetoPoo.services.validation;
 
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import dev.projetopoo.ProjetoPoo.model.Jogo;
 
 @Component
+@Order(3)
 public class ValidadorUrl implements ValidadorJogo {
+
+    private static final String[] ESQUEMAS = {"http://", "https://"};
+
     @Override
-    public void validar(Jogo jogo) {
-        if (jogo.getImagemUrl() == null) {
+    public void validar(Jogo jogo, Violacoes violacoes) {
+        if (jogo.getImagemUrl() == null || jogo.getImagemUrl().isBlank()) {
             jogo.setImagemUrl("");
+            return;
         }
-        
-        if (jogo.getImagemUrl() != null && !jogo.getImagemUrl().trim().isEmpty()) {
-            if (!isValidUrl(jogo.getImagemUrl())) {
-                throw new IllegalArgumentException("URL da imagem inválida. Deve começar com http:// ou https://");
-            }
-        } else {
-            jogo.setImagemUrl("");
+        validarAlteracao(jogo, violacoes);
+    }
+
+    @Override
+    public void validarAlteracao(Jogo alteracao, Violacoes violacoes) {
+        String url = alteracao.getImagemUrl();
+        // Vazio numa alteração significa remover a imagem
+        if (url != null && !url.isBlank() && !isValidUrl(url)) {
+            violacoes.adicionar("imagemUrl", "URL da imagem inválida. Deve começar com http:// ou https://");
         }
     }
 
-    private boolean isValidUrl(String url) {
-        if (url == null || url.trim().isEmpty()) {
-            return false;
+    // Compara o esquema ignorando caixa e espaços à esquerda, sem criar cópias da string
+    static boolean isValidUrl(String url) {
+        int inicio = 0;
+        while (inicio < url.length() && Character.isWhitespace(url.charAt(inicio))) {
+            inicio++;
+        }
+        for (String esquema : ESQUEMAS) {
+            if (url.regionMatches(true, inicio, esquema, 0, esquema.length())) {
+                return true;
+            }
         }
-        
-        String urlTrimmed = url.trim().toLowerCase();
-        return urlTrimmed.startsWith("http://") || urlTrimmed.startsWith("https://");
+        return false;
     }
 }
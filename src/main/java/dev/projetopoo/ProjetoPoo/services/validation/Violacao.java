@@ -0,0 +1,19 @@
+package dev.projetopoo.ProjetoPoo.services.validation;
+
+public class Violacao {
+    private final String campo;
+    private final String mensagem;
+
+    public Violacao(String campo, String mensagem) {
+        this.campo = campo;
+        this.mensagem = mensagem;
+    }
+
+    public String getCampo() {
+        return campo;
+    }
+
+    public String getMensagem() {
+        return mensagem;
+    }
+}
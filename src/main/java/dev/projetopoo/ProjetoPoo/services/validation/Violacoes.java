@@ -0,0 +1,31 @@
+package dev.projetopoo.ProjetoPoo.services.validation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// Coleta as violações de um jogo em vez de parar na primeira.
+// A lista só é criada na primeira violação, já que no caminho comum (jogo válido) não há nada a guardar.
+public class Violacoes {
+
+    private List<Violacao> lista;
+
+    public void adicionar(String campo, String mensagem) {
+        if (lista == null) {
+            lista = new ArrayList<>(2);
+        }
+        lista.add(new Violacao(campo, mensagem));
+    }
+
+    public boolean isVazia() {
+        return lista == null;
+    }
+
+    public List<Violacao> getLista() {
+        return lista == null ? List.of() : lista;
+    }
+
+    public String getMensagem() {
+        return getLista().stream().map(Violacao::getMensagem).collect(Collectors.joining("; "));
+    }
+}
@@ -0,0 +1,308 @@
+package dev.projetopoo.ProjetoPoo.services.vendas;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import dev.projetopoo.ProjetoPoo.dto.JogoMaisVendido;
+import dev.projetopoo.ProjetoPoo.model.VendaJogoDiaria;
+import dev.projetopoo.ProjetoPoo.repository.VendaJogoDiariaRepository;
+import dev.projetopoo.ProjetoPoo.services.cache.JogoCache;
+import dev.projetopoo.ProjetoPoo.services.transacao.AposCommit;
+import jakarta.annotation.PreDestroy;
+
+// Contadores de vendas e reembolsos por jogo. Compras e reembolsos só incrementam LongAdders em memória
+// depois do commit; um agendamento grava os deltas acumulados em game_sales_daily em lote e recalcula
+// os rankings (total, 7 e 30 dias) a partir dos baldes diários da janela.
+// Vendas e reembolsos contam no dia da compra, como na carga do histórico.
+@Component
+public class ContadorVendas {
+
+    public static final int TAMANHO_RANKING = 50;
+
+    private static final String ATUALIZAR = "UPDATE game_sales_daily SET vendas = vendas + ?, reembolsos = reembolsos + ? " +
+            "WHERE jogo_id = ? AND dia = ?";
+    private static final String INSERIR = "INSERT INTO game_sales_daily (jogo_id, dia, vendas, reembolsos) VALUES (?, ?, ?, ?)";
+
+    private final VendaJogoDiariaRepository vendaJogoDiariaRepository;
+    private final JogoCache jogoCache;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    // aplicar usa o lock de leitura; carregar troca os mapas sob o de escrita.
+    // A descarga exclui a gravação de lotes enquanto carregar lê o banco, para o mesmo delta não contar duas vezes.
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock descarga = new ReentrantLock();
+    private volatile Map<Long, Contagem> totais = new ConcurrentHashMap<>();
+    private volatile Map<LocalDate, Map<Long, Contagem>> porDia = new ConcurrentHashMap<>();
+    private final Map<ChaveDia, Contagem> pendentes = new ConcurrentHashMap<>();
+    private volatile Map<PeriodoVendas, List<JogoMaisVendido>> rankings = new EnumMap<>(PeriodoVendas.class);
+
+    public ContadorVendas(VendaJogoDiariaRepository vendaJogoDiariaRepository, JogoCache jogoCache,
+                          JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.vendaJogoDiariaRepository = vendaJogoDiariaRepository;
+        this.jogoCache = jogoCache;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregar() {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (vendaJogoDiariaRepository.count() == 0) {
+                vendaJogoDiariaRepository.importarHistorico();
+            }
+        });
+
+        descarga.lock();
+        try {
+            // Os mapas novos são montados ao lado dos atuais, que continuam respondendo durante a leitura
+            Map<Long, Contagem> novosTotais = new ConcurrentHashMap<>();
+            Map<LocalDate, Map<Long, Contagem>> novoPorDia = new ConcurrentHashMap<>();
+            for (Object[] linha : vendaJogoDiariaRepository.somarPorJogo()) {
+                novosTotais.computeIfAbsent((Long) linha[0], id -> new Contagem())
+                        .somar(((Number) linha[1]).longValue(), ((Number) linha[2]).longValue());
+            }
+            LocalDate inicioJanela = inicioJanela();
+            for (VendaJogoDiaria venda : vendaJogoDiariaRepository.findByDiaGreaterThanEqual(inicioJanela)) {
+                novoPorDia.computeIfAbsent(venda.getDia(), dia -> new ConcurrentHashMap<>())
+                        .computeIfAbsent(venda.getJogoId(), id -> new Contagem())
+                        .somar(venda.getVendas(), venda.getReembolsos());
+            }
+
+            // O que ainda não foi gravado não está no banco: entra pelos pendentes
+            lock.writeLock().lock();
+            try {
+                pendentes.forEach((chave, contagem) -> somar(novosTotais, novoPorDia, inicioJanela, chave,
+                        contagem.vendas.sum(), contagem.reembolsos.sum()));
+                totais = novosTotais;
+                porDia = novoPorDia;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            descarga.unlock();
+        }
+        recalcularRankings();
+    }
+
+    public void registrarVendas(Collection<Long> jogoIds, LocalDate diaCompra) {
+        AposCommit.executar(() -> aplicar(jogoIds, diaCompra, 1, 0));
+    }
+
+    public void registrarReembolsos(Collection<Long> jogoIds, LocalDate diaCompra) {
+        AposCommit.executar(() -> aplicar(jogoIds, diaCompra, 0, 1));
+    }
+
+    public long vendasLiquidas(Long jogoId) {
+        Contagem contagem = totais.get(jogoId);
+        return contagem == null ? 0L : contagem.liquidas();
+    }
+
+    public List<JogoMaisVendido> maisVendidos(PeriodoVendas periodo, int quantidade) {
+        List<JogoMaisVendido> ranking = rankings.getOrDefault(periodo, List.of());
+        return ranking.subList(0, Math.min(quantidade, ranking.size()));
+    }
+
+    @Scheduled(fixedDelayString = "${vendas.contadores.intervalo-gravacao:5s}")
+    public void descarregar() {
+        descarga.lock();
+        try {
+            List<Object[]> deltas = new ArrayList<>();
+            Map<ChaveDia, long[]> retirados = new HashMap<>();
+
+            // A entrada sai do mapa antes de ser lida: quem somar depois cria uma contagem nova,
+            // e quem somou antes (dentro do compute) já está no valor retirado
+            for (ChaveDia chave : pendentes.keySet()) {
+                Contagem contagem = pendentes.remove(chave);
+                if (contagem == null) {
+                    continue;
+                }
+                long vendas = contagem.vendas.sum();
+                long reembolsos = contagem.reembolsos.sum();
+                if (vendas != 0 || reembolsos != 0) {
+                    retirados.put(chave, new long[]{vendas, reembolsos});
+                    deltas.add(new Object[]{vendas, reembolsos, chave.jogoId, Date.valueOf(chave.dia)});
+                }
+            }
+
+            if (!deltas.isEmpty()) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> gravar(deltas));
+                } catch (RuntimeException e) {
+                    // Devolve os deltas para a próxima tentativa
+                    retirados.forEach((chave, valores) -> pendentes.compute(chave, (c, atual) -> somar(atual, valores[0], valores[1])));
+                    throw e;
+                }
+            }
+        } finally {
+            descarga.unlock();
+        }
+
+        LocalDate inicioJanela = inicioJanela();
+        porDia.keySet().removeIf(dia -> dia.isBefore(inicioJanela));
+        recalcularRankings();
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        descarregar();
+    }
+
+    private void gravar(List<Object[]> deltas) {
+        int[] atualizados = jdbcTemplate.batchUpdate(ATUALIZAR, deltas);
+        List<Object[]> novos = new ArrayList<>();
+        for (int i = 0; i < atualizados.length; i++) {
+            if (atualizados[i] == 0) {
+                Object[] delta = deltas.get(i);
+                novos.add(new Object[]{delta[2], delta[3], delta[0], delta[1]});
+            }
+        }
+        if (!novos.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERIR, novos);
+        }
+    }
+
+    private void aplicar(Collection<Long> jogoIds, LocalDate dia, long vendas, long reembolsos) {
+        LocalDate inicioJanela = inicioJanela();
+        lock.readLock().lock();
+        try {
+            for (Long jogoId : jogoIds) {
+                ChaveDia chave = new ChaveDia(jogoId, dia);
+                somar(totais, porDia, inicioJanela, chave, vendas, reembolsos);
+                // Dentro do compute, para a descarga nunca retirar uma contagem no meio de uma soma
+                pendentes.compute(chave, (c, atual) -> somar(atual, vendas, reembolsos));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Dias fora da maior janela só contam no total
+    private static void somar(Map<Long, Contagem> totais, Map<LocalDate, Map<Long, Contagem>> porDia, LocalDate inicioJanela,
+                              ChaveDia chave, long vendas, long reembolsos) {
+        totais.computeIfAbsent(chave.jogoId, id -> new Contagem()).somar(vendas, reembolsos);
+        if (!chave.dia.isBefore(inicioJanela)) {
+            porDia.computeIfAbsent(chave.dia, d -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(chave.jogoId, id -> new Contagem())
+                    .somar(vendas, reembolsos);
+        }
+    }
+
+    private static Contagem somar(Contagem atual, long vendas, long reembolsos) {
+        Contagem contagem = atual == null ? new Contagem() : atual;
+        contagem.somar(vendas, reembolsos);
+        return contagem;
+    }
+
+    private void recalcularRankings() {
+        Map<PeriodoVendas, List<JogoMaisVendido>> novos = new EnumMap<>(PeriodoVendas.class);
+        novos.put(PeriodoVendas.TOTAL, ranquear(totais));
+        for (PeriodoVendas periodo : PeriodoVendas.values()) {
+            if (periodo != PeriodoVendas.TOTAL) {
+                novos.put(periodo, ranquear(somarJanela(periodo.getDias())));
+            }
+        }
+        rankings = novos;
+    }
+
+    private Map<Long, Contagem> somarJanela(int dias) {
+        LocalDate inicio = LocalDate.now().minusDays(dias - 1L);
+        Map<Long, Contagem> janela = new HashMap<>();
+        porDia.forEach((dia, contagens) -> {
+            if (!dia.isBefore(inicio)) {
+                contagens.forEach((jogoId, contagem) -> janela.computeIfAbsent(jogoId, id -> new Contagem())
+                        .somar(contagem.vendas.sum(), contagem.reembolsos.sum()));
+            }
+        });
+        return janela;
+    }
+
+    private List<JogoMaisVendido> ranquear(Map<Long, Contagem> contagens) {
+        List<JogoMaisVendido> candidatos = new ArrayList<>();
+        contagens.forEach((jogoId, contagem) -> {
+            if (contagem.liquidas() > 0) {
+                candidatos.add(new JogoMaisVendido(jogoId, null, contagem.vendas.sum(), contagem.reembolsos.sum()));
+            }
+        });
+        candidatos.sort(Comparator.comparingLong(JogoMaisVendido::getVendasLiquidas).reversed()
+                .thenComparing(JogoMaisVendido::getJogoId));
+
+        // Jogos removidos do catálogo não aparecem no ranking
+        List<JogoMaisVendido> ranking = new ArrayList<>();
+        for (JogoMaisVendido candidato : candidatos) {
+            if (ranking.size() == TAMANHO_RANKING) {
+                break;
+            }
+            jogoCache.buscarPorId(candidato.getJogoId()).ifPresent(jogo -> ranking.add(new JogoMaisVendido(
+                    jogo.getId(), jogo.getNome(), candidato.getVendas(), candidato.getReembolsos())));
+        }
+        return List.copyOf(ranking);
+    }
+
+    private LocalDate inicioJanela() {
+        return LocalDate.now().minusDays(PeriodoVendas.MAIOR_JANELA - 1L);
+    }
+
+    private static final class Contagem {
+        private final LongAdder vendas = new LongAdder();
+        private final LongAdder reembolsos = new LongAdder();
+
+        private void somar(long quantidadeVendas, long quantidadeReembolsos) {
+            if (quantidadeVendas != 0) {
+                vendas.add(quantidadeVendas);
+            }
+            if (quantidadeReembolsos != 0) {
+                reembolsos.add(quantidadeReembolsos);
+            }
+        }
+
+        private long liquidas() {
+            return vendas.sum() - reembolsos.sum();
+        }
+    }
+
+    private static final class ChaveDia {
+        private final Long jogoId;
+        private final LocalDate dia;
+
+        private ChaveDia(Long jogoId, LocalDate dia) {
+            this.jogoId = jogoId;
+            this.dia = dia;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ChaveDia outra)) {
+                return false;
+            }
+            return jogoId.equals(outra.jogoId) && dia.equals(outra.dia);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(jogoId, dia);
+        }
+    }
+}
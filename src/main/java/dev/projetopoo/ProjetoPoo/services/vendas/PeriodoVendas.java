@@ -0,0 +1,37 @@
+package dev.projetopoo.ProjetoPoo.services.vendas;
+
+public enum PeriodoVendas {
+    TOTAL("total", 0),
+    SETE_DIAS("7d", 7),
+    TRINTA_DIAS("30d", 30);
+
+    public static final int MAIOR_JANELA = 30;
+
+    private final String chave;
+    private final int dias;
+
+    PeriodoVendas(String chave, int dias) {
+        this.chave = chave;
+        this.dias = dias;
+    }
+
+    public String getChave() {
+        return chave;
+    }
+
+    public int getDias() {
+        return dias;
+    }
+
+    public static PeriodoVendas de(String valor) {
+        if (valor == null || valor.trim().isEmpty()) {
+            return TOTAL;
+        }
+        for (PeriodoVendas periodo : values()) {
+            if (periodo.chave.equalsIgnoreCase(valor.trim())) {
+                return periodo;
+            }
+        }
+        throw new IllegalArgumentException("Período inválido: " + valor + ". Use 'total', '7d' ou '30d'");
+    }
+}
@@ -0,0 +1,67 @@
+package dev.projetopoo.ProjetoPoo;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import dev.projetopoo.ProjetoPoo.model.Compra;
+import dev.projetopoo.ProjetoPoo.model.Dinheiro;
+import dev.projetopoo.ProjetoPoo.model.Jogo;
+import dev.projetopoo.ProjetoPoo.model.User;
+import dev.projetopoo.ProjetoPoo.services.CarrinhoServices;
+import dev.projetopoo.ProjetoPoo.services.CarteiraServices;
+import dev.projetopoo.ProjetoPoo.services.CompraServices;
+import dev.projetopoo.ProjetoPoo.services.JogoService;
+import dev.projetopoo.ProjetoPoo.services.UserServices;
+
+// Monta usuários, jogos e compras pelos próprios serviços; os testes dividem o mesmo banco, então os nomes são únicos
+@Component
+@Profile("teste")
+public class DadosTeste {
+
+    public static final String SENHA = "senha-de-teste";
+
+    private static final AtomicLong SEQUENCIA = new AtomicLong(System.currentTimeMillis());
+
+    private final UserServices userServices;
+    private final JogoService jogoService;
+    private final CarteiraServices carteiraServices;
+    private final CarrinhoServices carrinhoServices;
+    private final CompraServices compraServices;
+
+    public DadosTeste(UserServices userServices, JogoService jogoService, CarteiraServices carteiraServices,
+                      CarrinhoServices carrinhoServices, CompraServices compraServices) {
+        this.userServices = userServices;
+        this.jogoService = jogoService;
+        this.carteiraServices = carteiraServices;
+        this.carrinhoServices = carrinhoServices;
+        this.compraServices = compraServices;
+    }
+
+    public static String unico(String prefixo) {
+        return prefixo + " " + SEQUENCIA.incrementAndGet();
+    }
+
+    public User novoUsuario() {
+        String nome = unico("usuario");
+        return userServices.addUser(new User(nome, nome.replace(' ', '-') + "@teste.local", SENHA));
+    }
+
+    public Jogo novoJogo(long centavos) {
+        return jogoService.addGame(new Jogo(null, unico("Jogo"), "RPG", Dinheiro.deCentavos(centavos)));
+    }
+
+    // Credita o necessário, põe os jogos no carrinho e fecha a compra
+    public Compra comprar(User usuario, Jogo... jogos) {
+        long total = 0;
+        for (Jogo jogo : jogos) {
+            carrinhoServices.adicionarJogo(usuario.getId(), jogo.getId());
+            total += jogo.getPreco().getCentavos();
+        }
+        if (total > 0) {
+            carteiraServices.adicionarValor(usuario.getId(), Dinheiro.deCentavos(total));
+        }
+        return compraServices.efetuarCompra(usuario.getId());
+    }
+}
@@ -0,0 +1,83 @@
+package dev.projetopoo.ProjetoPoo.config;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import dev.projetopoo.ProjetoPoo.DadosTeste;
+import dev.projetopoo.ProjetoPoo.model.Jogo;
+import dev.projetopoo.ProjetoPoo.services.log.Correlacao;
+import dev.projetopoo.ProjetoPoo.services.sessao.TokenSessao;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class FiltroMetricasSqlTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TokenSessao tokenSessao;
+
+    @Autowired
+    private DadosTeste dados;
+
+    @Test
+    void nMaisUmDerrubaARequisicaoComErroDoOrcamento() throws Exception {
+        String ids = IntStream.range(0, 25)
+                .mapToObj(i -> String.valueOf(dados.novoJogo(1000).getId()))
+                .collect(Collectors.joining(","));
+
+        mockMvc.perform(get("/teste/jogos-um-a-um").param("ids", ids).header(HttpHeaders.AUTHORIZATION, bearer()))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.error").value("Orçamento SQL Excedido"))
+                .andExpect(jsonPath("$.message").value(containsString("acima do orçamento de 20")))
+                .andExpect(jsonPath("$.path").value("/teste/jogos-um-a-um"))
+                .andExpect(header().exists(Correlacao.CABECALHO));
+    }
+
+    @Test
+    void requisicaoDentroDoOrcamentoPassaIntacta() throws Exception {
+        Jogo jogo = dados.novoJogo(1000);
+
+        mockMvc.perform(get("/teste/jogos-um-a-um").param("ids", String.valueOf(jogo.getId()))
+                        .header(HttpHeaders.AUTHORIZATION, bearer()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0]").value(jogo.getNome()));
+    }
+
+    @Test
+    void exportacaoEmFluxoChegaInteiraNoModoFalhar() throws Exception {
+        Jogo jogo = dados.novoJogo(1990);
+
+        MvcResult inicio = mockMvc.perform(get("/jogo/exportacao").param("formato", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(inicio))
+                .andExpect(status().isOk())
+                .andExpect(content().string(startsWith("nome,gender,preco,descricao,dataLancamento,imagemUrl\n")))
+                .andExpect(content().string(containsString(jogo.getNome() + ",RPG,19.90,")));
+    }
+
+    private String bearer() {
+        return "Bearer " + tokenSessao.emitir(dados.novoUsuario()).getToken();
+    }
+}
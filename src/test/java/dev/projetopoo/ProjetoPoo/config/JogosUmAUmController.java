@@ -0,0 +1,27 @@
+package dev.projetopoo.ProjetoPoo.config;
+
+import java.util.List;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import dev.projetopoo.ProjetoPoo.repository.JogoRepository;
+
+// Um N+1 de propósito para o FiltroMetricasSqlTest: cada id vira uma consulta própria
+@RestController
+@Profile("teste")
+class JogosUmAUmController {
+
+    private final JogoRepository jogoRepository;
+
+    JogosUmAUmController(JogoRepository jogoRepository) {
+        this.jogoRepository = jogoRepository;
+    }
+
+    @GetMapping("/teste/jogos-um-a-um")
+    List<String> nomes(@RequestParam List<Long> ids) {
+        return ids.stream().map(id -> jogoRepository.findById(id).orElseThrow().getNome()).toList();
+    }
+}
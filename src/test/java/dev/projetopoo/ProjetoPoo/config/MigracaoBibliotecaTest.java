@@ -0,0 +1,92 @@
+package dev.projetopoo.ProjetoPoo.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import dev.projetopoo.ProjetoPoo.DadosTeste;
+import dev.projetopoo.ProjetoPoo.model.Compra;
+import dev.projetopoo.ProjetoPoo.model.Jogo;
+import dev.projetopoo.ProjetoPoo.model.User;
+import dev.projetopoo.ProjetoPoo.repository.BibliotecaRepository;
+
+@SpringBootTest
+class MigracaoBibliotecaTest {
+
+    @Autowired
+    private MigracaoBiblioteca migracaoBiblioteca;
+
+    @Autowired
+    private BibliotecaRepository bibliotecaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DadosTeste dados;
+
+    @Test
+    void preencheComADataDaCompraETornaAColunaObrigatoria() {
+        User usuario = dados.novoUsuario();
+        Jogo jogo = dados.novoJogo(1500);
+        Compra compra = dados.comprar(usuario, jogo);
+        Long bibliotecaId = bibliotecaRepository.findIdByUsuarioId(usuario.getId()).orElseThrow();
+        LocalDateTime dataCompra = compra.getDataCompra().minusDays(3).truncatedTo(ChronoUnit.SECONDS);
+        jdbcTemplate.update("UPDATE buy SET data_compra = ? WHERE id = ?", dataCompra, compra.getId());
+
+        // Linha de antes da coluna existir
+        jdbcTemplate.execute("ALTER TABLE biblioteca_jogos ALTER COLUMN data_aquisicao DROP NOT NULL");
+        jdbcTemplate.update("UPDATE biblioteca_jogos SET data_aquisicao = NULL WHERE biblioteca_id = ?", bibliotecaId);
+
+        migracaoBiblioteca.migrar();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT data_aquisicao FROM biblioteca_jogos WHERE biblioteca_id = ? AND jogo_id = ?",
+                LocalDateTime.class, bibliotecaId, jogo.getId())).isEqualTo(dataCompra);
+        assertThatThrownBy(() -> jdbcTemplate.update("UPDATE biblioteca_jogos SET data_aquisicao = NULL WHERE biblioteca_id = ?", bibliotecaId))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void linhaSemDataRecebeOPadrao() {
+        User usuario = dados.novoUsuario();
+        Jogo jogo = dados.novoJogo(1500);
+        Long bibliotecaId = bibliotecaRepository.findIdByUsuarioId(usuario.getId()).orElseThrow();
+
+        jdbcTemplate.update("INSERT INTO biblioteca_jogos (biblioteca_id, jogo_id) VALUES (?, ?)", bibliotecaId, jogo.getId());
+
+        assertThat(jdbcTemplate.queryForObject("SELECT data_aquisicao FROM biblioteca_jogos WHERE biblioteca_id = ? AND jogo_id = ?",
+                LocalDateTime.class, bibliotecaId, jogo.getId())).isNotNull();
+    }
+
+    @Test
+    void reduzDuplicadasAUmaLinhaComADataMaisAntiga() {
+        User usuario = dados.novoUsuario();
+        Jogo jogo = dados.novoJogo(1500);
+        Long bibliotecaId = bibliotecaRepository.findIdByUsuarioId(usuario.getId()).orElseThrow();
+        LocalDateTime primeira = LocalDateTime.of(2020, 1, 1, 10, 0);
+
+        // Tabela sem chave primária: o mesmo jogo entrou duas vezes na biblioteca
+        jdbcTemplate.execute("ALTER TABLE biblioteca_jogos DROP PRIMARY KEY");
+        jdbcTemplate.execute("DROP INDEX uk_biblioteca_jogos");
+        jdbcTemplate.update("INSERT INTO biblioteca_jogos (biblioteca_id, jogo_id, data_aquisicao) VALUES (?, ?, ?)",
+                bibliotecaId, jogo.getId(), primeira.plusDays(1));
+        jdbcTemplate.update("INSERT INTO biblioteca_jogos (biblioteca_id, jogo_id, data_aquisicao) VALUES (?, ?, ?)",
+                bibliotecaId, jogo.getId(), primeira);
+
+        migracaoBiblioteca.migrar();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT data_aquisicao FROM biblioteca_jogos WHERE biblioteca_id = ? AND jogo_id = ?",
+                LocalDateTime.class, bibliotecaId, jogo.getId())).isEqualTo(primeira);
+        assertThatThrownBy(() -> jdbcTemplate.update("INSERT INTO biblioteca_jogos (biblioteca_id, jogo_id) VALUES (?, ?)",
+                bibliotecaId, jogo.getId()))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+}
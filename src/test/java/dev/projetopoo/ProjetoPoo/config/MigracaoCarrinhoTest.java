@@ -0,0 +1,50 @@
+package dev.projetopoo.ProjetoPoo.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import dev.projetopoo.ProjetoPoo.DadosTeste;
+import dev.projetopoo.ProjetoPoo.model.Jogo;
+import dev.projetopoo.ProjetoPoo.model.User;
+import dev.projetopoo.ProjetoPoo.repository.CarrinhoRepository;
+
+@SpringBootTest
+class MigracaoCarrinhoTest {
+
+    @Autowired
+    private MigracaoCarrinho migracaoCarrinho;
+
+    @Autowired
+    private CarrinhoRepository carrinhoRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DadosTeste dados;
+
+    @Test
+    void reduzDuplicadasAUmaLinhaERefazOTotal() {
+        User usuario = dados.novoUsuario();
+        Jogo jogo = dados.novoJogo(2500);
+        Long carrinhoId = carrinhoRepository.findIdByUsuarioId(usuario.getId()).orElseThrow();
+
+        // Tabela de junção de quando a coleção era uma List (sem chave primária): a mesma linha duas vezes
+        // e o jogo cobrado em dobro
+        jdbcTemplate.execute("ALTER TABLE carrinho_jogos DROP PRIMARY KEY");
+        jdbcTemplate.execute("DROP INDEX uk_carrinho_jogos");
+        jdbcTemplate.update("INSERT INTO carrinho_jogos (carrinho_id, jogo_id) VALUES (?, ?)", carrinhoId, jogo.getId());
+        jdbcTemplate.update("INSERT INTO carrinho_jogos (carrinho_id, jogo_id) VALUES (?, ?)", carrinhoId, jogo.getId());
+        jdbcTemplate.update("UPDATE cart SET valor_total_centavos = 5000 WHERE id = ?", carrinhoId);
+
+        migracaoCarrinho.migrar();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM carrinho_jogos WHERE carrinho_id = ?", Long.class, carrinhoId))
+                .isEqualTo(1L);
+        assertThat(carrinhoRepository.findById(carrinhoId).orElseThrow().getValorTotal().getCentavos()).isEqualTo(2500);
+    }
+}
@@ -0,0 +1,49 @@
+package dev.projetopoo.ProjetoPoo.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest
+class MigracaoDinheiroTest {
+
+    @Autowired
+    private MigracaoDinheiro migracaoDinheiro;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void limpar() {
+        jdbcTemplate.update("DELETE FROM jogo_table WHERE nome LIKE 'Migração %'");
+        jdbcTemplate.execute("ALTER TABLE jogo_table DROP COLUMN IF EXISTS preco");
+    }
+
+    @Test
+    void converteColunaAntigaELiberaNovasInsercoes() throws Exception {
+        // Esquema de antes da troca para centavos: preco em reais, NOT NULL
+        jdbcTemplate.execute("ALTER TABLE jogo_table ADD COLUMN preco DOUBLE PRECISION DEFAULT 0 NOT NULL");
+        jdbcTemplate.execute("ALTER TABLE jogo_table ALTER COLUMN preco DROP DEFAULT");
+        jdbcTemplate.update("INSERT INTO jogo_table (nome, gender, preco, data_lancamento, avaliacao, ativo) VALUES ('Migração Antigo', 'RPG', 19.9, CURRENT_DATE, 0, true)");
+
+        migracaoDinheiro.migrar();
+
+        Long centavos = jdbcTemplate.queryForObject(
+                "SELECT preco_centavos FROM jogo_table WHERE nome = 'Migração Antigo'", Long.class);
+        assertThat(centavos).isEqualTo(1990L);
+
+        // Linhas novas só preenchem preco_centavos
+        jdbcTemplate.update("INSERT INTO jogo_table (nome, gender, preco_centavos, data_lancamento, avaliacao, ativo) VALUES ('Migração Novo', 'RPG', 500, CURRENT_DATE, 0, true)");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT preco FROM jogo_table WHERE nome = 'Migração Novo'", Double.class)).isNull();
+    }
+
+    @Test
+    void semColunaAntigaNaoFazNada() throws Exception {
+        migracaoDinheiro.migrar();
+    }
+}
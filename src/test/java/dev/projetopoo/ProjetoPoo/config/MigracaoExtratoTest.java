@@ -0,0 +1,46 @@
+package dev.projetopoo.ProjetoPoo.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import dev.projetopoo.ProjetoPoo.DadosTeste;
+import dev.projetopoo.ProjetoPoo.model.User;
+
+@SpringBootTest
+class MigracaoExtratoTest {
+
+    @Autowired
+    private MigracaoExtrato migracaoExtrato;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DadosTeste dados;
+
+    @Test
+    void registraSaldoInicialUmaVezSo() {
+        User usuario = dados.novoUsuario();
+        // Carteira de antes do extrato: saldo sem nenhum lançamento
+        jdbcTemplate.update("UPDATE wallet SET valor_centavos = 1234 WHERE usuario_id = ?", usuario.getId());
+        jdbcTemplate.update("DELETE FROM wallet_transaction WHERE usuario_id = ?", usuario.getId());
+
+        migracaoExtrato.migrar();
+        migracaoExtrato.migrar();
+
+        List<Map<String, Object>> extrato = jdbcTemplate.queryForList(
+                "SELECT tipo, valor_centavos, saldo_apos_centavos FROM wallet_transaction WHERE usuario_id = ?", usuario.getId());
+        assertThat(extrato).singleElement().satisfies(linha -> {
+            assertThat(linha.get("tipo")).isEqualTo("SALDO_INICIAL");
+            assertThat(((Number) linha.get("valor_centavos")).longValue()).isEqualTo(1234L);
+            assertThat(((Number) linha.get("saldo_apos_centavos")).longValue()).isEqualTo(1234L);
+        });
+    }
+}
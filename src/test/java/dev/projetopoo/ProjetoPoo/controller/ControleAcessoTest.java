@@ -0,0 +1,148 @@
+package dev.projetopoo.ProjetoPoo.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import dev.projetopoo.ProjetoPoo.DadosTeste;
+import dev.projetopoo.ProjetoPoo.model.Compra;
+import dev.projetopoo.ProjetoPoo.model.Jogo;
+import dev.projetopoo.ProjetoPoo.model.User;
+import dev.projetopoo.ProjetoPoo.services.sessao.TokenSessao;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ControleAcessoTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TokenSessao tokenSessao;
+
+    @Autowired
+    private DadosTeste dados;
+
+    @Test
+    void sessaoSoAlcancaOsProprioDados() throws Exception {
+        User dono = dados.novoUsuario();
+        User outro = dados.novoUsuario();
+        Compra compraDoOutro = dados.comprar(outro, dados.novoJogo(1000));
+        String token = bearer(dono);
+
+        mockMvc.perform(get("/wallet/" + dono.getId()).header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/wallet/" + outro.getId()).header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.error").value("Acesso Negado"));
+        mockMvc.perform(get("/cart/usuario/" + outro.getId() + "/jogos").header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/library/usuario/" + outro.getId() + "/jogos").header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/user/" + outro.getId()).header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/compras/" + compraDoOutro.getId()).header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/compras/" + compraDoOutro.getId() + "/reembolso").header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(delete("/avaliacao/0").header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void administradorAlcancaOutrosUsuarios() throws Exception {
+        User outro = dados.novoUsuario();
+
+        mockMvc.perform(get("/wallet/" + outro.getId()).header(HttpHeaders.AUTHORIZATION, bearerAdministrador()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void importacaoExigePapelAdmin() throws Exception {
+        String csv = "nome,gender,preco,descricao,dataLancamento,imagemUrl\n"
+                + DadosTeste.unico("Importado") + ",RPG,10.00,Teste,2020-01-01,\n";
+
+        mockMvc.perform(post("/jogo/importacao").contentType("text/csv").content(csv))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/jogo/importacao").contentType("text/csv").content(csv)
+                        .header(HttpHeaders.AUTHORIZATION, bearer(dados.novoUsuario())))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/jogo/importacao").contentType("text/csv").content(csv)
+                        .header(HttpHeaders.AUTHORIZATION, bearerAdministrador()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.importados").value(1));
+    }
+
+    @Test
+    void alteracoesDoCatalogoExigemPapelAdmin() throws Exception {
+        Jogo jogo = dados.novoJogo(1000);
+        String corpo = "{\"nome\":\"" + DadosTeste.unico("Pelo controller") + "\",\"gender\":\"RPG\",\"preco\":10.00}";
+        String usuario = bearer(dados.novoUsuario());
+
+        mockMvc.perform(post("/jogo").contentType(MediaType.APPLICATION_JSON).content(corpo).header(HttpHeaders.AUTHORIZATION, usuario))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(put("/jogo/" + jogo.getId()).contentType(MediaType.APPLICATION_JSON).content("{\"descricao\":\"x\"}")
+                        .header(HttpHeaders.AUTHORIZATION, usuario))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(delete("/jogo/" + jogo.getId()).header(HttpHeaders.AUTHORIZATION, usuario))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/jogo").contentType(MediaType.APPLICATION_JSON).content(corpo)
+                        .header(HttpHeaders.AUTHORIZATION, bearerAdministrador()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void rotaProtegidaSemTokenResponde401() throws Exception {
+        User usuario = dados.novoUsuario();
+
+        mockMvc.perform(get("/wallet/" + usuario.getId()))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(put("/user/" + usuario.getId()).contentType(MediaType.APPLICATION_JSON).content("{\"senha\":\"trocada\"}"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void alteracaoDoUsuarioNaoTrocaASenha() throws Exception {
+        User usuario = dados.novoUsuario();
+
+        mockMvc.perform(put("/user/" + usuario.getId()).contentType(MediaType.APPLICATION_JSON).content("{\"senha\":\"trocada\"}")
+                        .header(HttpHeaders.AUTHORIZATION, bearer(usuario)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/user/login").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + usuario.getEmail() + "\",\"senha\":\"" + DadosTeste.SENHA + "\"}"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void reconstrucaoDosResumosExigePapelAdmin() throws Exception {
+        mockMvc.perform(post("/avaliacao/resumos/reconstruir"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/avaliacao/resumos/reconstruir").header(HttpHeaders.AUTHORIZATION, bearer(dados.novoUsuario())))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/avaliacao/resumos/reconstruir").header(HttpHeaders.AUTHORIZATION, bearerAdministrador()))
+                .andExpect(status().isOk());
+    }
+
+    private String bearer(User usuario) {
+        return "Bearer " + tokenSessao.emitir(usuario).getToken();
+    }
+
+    // O e-mail está em sessao.administradores do perfil de teste; a conta não precisa existir no banco
+    private String bearerAdministrador() {
+        User administrador = new User("Administrador", "Admin@Teste.local", DadosTeste.SENHA);
+        administrador.setId(-1L);
+        return bearer(administrador);
+    }
+}
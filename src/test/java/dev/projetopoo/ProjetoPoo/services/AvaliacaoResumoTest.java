@@ -0,0 +1,115 @@
+package dev.projetopoo.ProjetoPoo.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import dev.projetopoo.ProjetoPoo.DadosTeste;
+import dev.projetopoo.ProjetoPoo.model.Avaliacao;
+import dev.projetopoo.ProjetoPoo.model.AvaliacaoResumo;
+import dev.projetopoo.ProjetoPoo.model.Jogo;
+import dev.projetopoo.ProjetoPoo.model.User;
+
+@SpringBootTest
+class AvaliacaoResumoTest {
+
+    @Autowired
+    private AvaliacaoServices avaliacaoServices;
+
+    @Autowired
+    private DadosTeste dados;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void aplicaAvaliacoesEExclusoesNoResumo() {
+        Jogo jogo = dados.novoJogo(1000);
+        List<User> usuarios = compradores(jogo, 3);
+
+        avaliacaoServices.avaliar(usuarios.get(0).getId(), jogo.getId(), 5, "ótimo");
+        avaliacaoServices.avaliar(usuarios.get(1).getId(), jogo.getId(), 3, "ok");
+        Avaliacao ruim = avaliacaoServices.avaliar(usuarios.get(2).getId(), jogo.getId(), 1, "ruim");
+        avaliacaoServices.deletarAvaliacao(ruim.getId());
+
+        AvaliacaoResumo resumo = avaliacaoServices.getResumoPorJogo(jogo.getId());
+        assertThat(resumo.getQuantidade()).isEqualTo(2);
+        assertThat(resumo.getSoma()).isEqualTo(8);
+        assertThat(resumo.getHistograma()).containsExactly(0, 0, 0, 1, 0, 1);
+    }
+
+    @Test
+    void linhaAusenteEhCriadaComTodasAsAvaliacoes() {
+        Jogo jogo = dados.novoJogo(1000);
+        List<User> usuarios = compradores(jogo, 2);
+        avaliacaoServices.avaliar(usuarios.get(0).getId(), jogo.getId(), 4, null);
+        jdbcTemplate.update("DELETE FROM rating_summary WHERE jogo_id = ?", jogo.getId());
+
+        avaliacaoServices.avaliar(usuarios.get(1).getId(), jogo.getId(), 2, null);
+
+        AvaliacaoResumo resumo = avaliacaoServices.getResumoPorJogo(jogo.getId());
+        assertThat(resumo.getQuantidade()).isEqualTo(2);
+        assertThat(resumo.getSoma()).isEqualTo(6);
+    }
+
+    @Test
+    void primeirasAvaliacoesConcorrentesNaoSePerdem() throws Exception {
+        Jogo jogo = dados.novoJogo(1000);
+        List<User> usuarios = compradores(jogo, 6);
+
+        ExecutorService executor = Executors.newFixedThreadPool(usuarios.size());
+        CountDownLatch largada = new CountDownLatch(1);
+        try {
+            List<Future<?>> futuros = new ArrayList<>();
+            for (User usuario : usuarios) {
+                futuros.add(executor.submit(() -> {
+                    largada.await();
+                    return avaliacaoServices.avaliar(usuario.getId(), jogo.getId(), 5, null);
+                }));
+            }
+            largada.countDown();
+            for (Future<?> futuro : futuros) {
+                futuro.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(avaliacaoServices.getResumoPorJogo(jogo.getId()).getQuantidade()).isEqualTo(usuarios.size());
+    }
+
+    @Test
+    void reconstrucaoChegaAosMesmosValores() {
+        Jogo jogo = dados.novoJogo(1000);
+        List<User> usuarios = compradores(jogo, 2);
+        avaliacaoServices.avaliar(usuarios.get(0).getId(), jogo.getId(), 0, null);
+        avaliacaoServices.avaliar(usuarios.get(1).getId(), jogo.getId(), 5, null);
+        jdbcTemplate.update("UPDATE rating_summary SET quantidade = 99 WHERE jogo_id = ?", jogo.getId());
+
+        avaliacaoServices.reconstruirResumos();
+
+        AvaliacaoResumo resumo = avaliacaoServices.getResumoPorJogo(jogo.getId());
+        assertThat(resumo.getQuantidade()).isEqualTo(2);
+        assertThat(resumo.getHistograma()).containsExactly(1, 0, 0, 0, 0, 1);
+    }
+
+    private List<User> compradores(Jogo jogo, int quantidade) {
+        List<User> usuarios = new ArrayList<>();
+        for (int i = 0; i < quantidade; i++) {
+            User usuario = dados.novoUsuario();
+            dados.comprar(usuario, jogo);
+            usuarios.add(usuario);
+        }
+        return usuarios;
+    }
+}
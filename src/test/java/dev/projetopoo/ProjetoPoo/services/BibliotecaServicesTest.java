@@ -0,0 +1,62 @@
+package dev.projetopoo.ProjetoPoo.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import dev.projetopoo.ProjetoPoo.DadosTeste;
+import dev.projetopoo.ProjetoPoo.model.Biblioteca;
+import dev.projetopoo.ProjetoPoo.model.Jogo;
+import dev.projetopoo.ProjetoPoo.model.User;
+import dev.projetopoo.ProjetoPoo.repository.BibliotecaRepository;
+
+@SpringBootTest
+class BibliotecaServicesTest {
+
+    @Autowired
+    private BibliotecaServices bibliotecaServices;
+
+    @Autowired
+    private BibliotecaRepository bibliotecaRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DadosTeste dados;
+
+    @Test
+    void listaEConsultaOsJogosComprados() {
+        User usuario = dados.novoUsuario();
+        Jogo comprado = dados.novoJogo(1000);
+        Jogo outro = dados.novoJogo(1000);
+        dados.comprar(usuario, comprado);
+
+        assertThat(bibliotecaServices.listarJogosUsuario(usuario.getId())).extracting(Jogo::getId).containsExactly(comprado.getId());
+        assertThat(bibliotecaServices.possuiJogo(usuario.getId(), comprado.getId())).isTrue();
+        assertThat(bibliotecaServices.possuiJogo(usuario.getId(), outro.getId())).isFalse();
+        assertThat(bibliotecaServices.jogosPossuidos(usuario.getId(), List.of(comprado.getId(), outro.getId())))
+                .containsExactly(comprado.getId());
+    }
+
+    @Test
+    void colecaoDaBibliotecaESomenteLeitura() {
+        User usuario = dados.novoUsuario();
+        Jogo jogo = dados.novoJogo(1000);
+        dados.comprar(usuario, jogo);
+
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            Biblioteca biblioteca = bibliotecaRepository.findByUsuarioId(usuario.getId()).orElseThrow();
+            biblioteca.getItens().clear();
+            bibliotecaRepository.saveAndFlush(biblioteca);
+        })).hasMessageContaining("immutable collection");
+
+        assertThat(bibliotecaServices.possuiJogo(usuario.getId(), jogo.getId())).isTrue();
+    }
+}
@@ -0,0 +1,133 @@
+package dev.projetopoo.ProjetoPoo.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import dev.projetopoo.ProjetoPoo.DadosTeste;
+import dev.projetopoo.ProjetoPoo.model.Dinheiro;
+import dev.projetopoo.ProjetoPoo.model.Jogo;
+import dev.projetopoo.ProjetoPoo.model.User;
+import dev.projetopoo.ProjetoPoo.repository.CarrinhoRepository;
+
+@SpringBootTest
+class CarrinhoServicesTest {
+
+    @Autowired
+    private CarrinhoServices carrinhoServices;
+
+    @Autowired
+    private JogoService jogoService;
+
+    @Autowired
+    private CarrinhoRepository carrinhoRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DadosTeste dados;
+
+    @Test
+    void totalAcompanhaAdicoesERemocoes() {
+        User usuario = dados.novoUsuario();
+        Jogo barato = dados.novoJogo(1000);
+        Jogo caro = dados.novoJogo(5990);
+
+        carrinhoServices.atualizarEmLote(usuario.getId(), List.of(barato.getId(), caro.getId()), List.of());
+        assertThat(total(usuario)).isEqualTo(6990);
+
+        carrinhoServices.removerJogo(usuario.getId(), barato.getId());
+        assertThat(total(usuario)).isEqualTo(5990);
+    }
+
+    @Test
+    void mudancaDePrecoEntreAdicaoERemocaoNaoFazOTotalDivergir() {
+        User usuario = dados.novoUsuario();
+        Jogo promocao = dados.novoJogo(1000);
+        Jogo outro = dados.novoJogo(2000);
+        carrinhoServices.atualizarEmLote(usuario.getId(), List.of(promocao.getId(), outro.getId()), List.of());
+
+        Jogo reajuste = new Jogo();
+        reajuste.setPreco(Dinheiro.deCentavos(9000));
+        jogoService.updateJogo(promocao.getId(), reajuste);
+        carrinhoServices.removerJogo(usuario.getId(), promocao.getId());
+
+        assertThat(total(usuario)).isEqualTo(2000);
+        carrinhoServices.removerJogo(usuario.getId(), outro.getId());
+        assertThat(total(usuario)).isZero();
+    }
+
+    @Test
+    void jogoRepetidoNoCarrinhoEhRecusado() {
+        User usuario = dados.novoUsuario();
+        Jogo jogo = dados.novoJogo(1500);
+        carrinhoServices.adicionarJogo(usuario.getId(), jogo.getId());
+
+        assertThatThrownBy(() -> carrinhoServices.adicionarJogo(usuario.getId(), jogo.getId()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(total(usuario)).isEqualTo(1500);
+    }
+
+    @Test
+    void adicoesConcorrentesDoMesmoJogoGravamUmaLinha() throws Exception {
+        User usuario = dados.novoUsuario();
+        Jogo jogo = dados.novoJogo(700);
+
+        ExecutorService executor = Executors.newFixedThreadPool(6);
+        CountDownLatch largada = new CountDownLatch(1);
+        try {
+            List<Future<?>> futuros = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                futuros.add(executor.submit(() -> {
+                    largada.await();
+                    try {
+                        carrinhoServices.adicionarJogo(usuario.getId(), jogo.getId());
+                    } catch (IllegalArgumentException e) {
+                        // Esperado para todas menos uma
+                    }
+                    return null;
+                }));
+            }
+            largada.countDown();
+            for (Future<?> futuro : futuros) {
+                futuro.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        Long carrinhoId = carrinhoRepository.findIdByUsuarioId(usuario.getId()).orElseThrow();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM carrinho_jogos WHERE carrinho_id = ?", Long.class, carrinhoId))
+                .isEqualTo(1L);
+        assertThat(total(usuario)).isEqualTo(700);
+    }
+
+    @Test
+    void indiceUnicoImpedeLinhaDuplicada() {
+        User usuario = dados.novoUsuario();
+        Jogo jogo = dados.novoJogo(100);
+        carrinhoServices.adicionarJogo(usuario.getId(), jogo.getId());
+        Long carrinhoId = carrinhoRepository.findIdByUsuarioId(usuario.getId()).orElseThrow();
+
+        assertThatThrownBy(() -> jdbcTemplate.update("INSERT INTO carrinho_jogos (carrinho_id, jogo_id) VALUES (?, ?)",
+                carrinhoId, jogo.getId()))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    private long total(User usuario) {
+        return carrinhoRepository.findByUsuarioId(usuario.getId()).orElseThrow().getValorTotal().getCentavos();
+    }
+}
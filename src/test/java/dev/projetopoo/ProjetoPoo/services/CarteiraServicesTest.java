@@ -0,0 +1,98 @@
+package dev.projetopoo.ProjetoPoo.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import dev.projetopoo.ProjetoPoo.DadosTeste;
+import dev.projetopoo.ProjetoPoo.exception.SaldoInsuficienteException;
+import dev.projetopoo.ProjetoPoo.model.Dinheiro;
+import dev.projetopoo.ProjetoPoo.model.MovimentacaoCarteira;
+import dev.projetopoo.ProjetoPoo.model.User;
+
+@SpringBootTest
+class CarteiraServicesTest {
+
+    @Autowired
+    private CarteiraServices carteiraServices;
+
+    @Autowired
+    private DadosTeste dados;
+
+    @Test
+    void creditoDevolveSaldoELancaExtrato() {
+        User usuario = dados.novoUsuario();
+
+        Dinheiro saldo = carteiraServices.adicionarValor(usuario.getId(), Dinheiro.deCentavos(1234));
+
+        assertThat(saldo).isEqualTo(Dinheiro.deCentavos(1234));
+        List<MovimentacaoCarteira> extrato = carteiraServices.listarMovimentacoes(usuario.getId(), null, 10).getItens();
+        assertThat(extrato).hasSize(1);
+        assertThat(extrato.get(0).getSaldoApos()).isEqualTo(Dinheiro.deCentavos(1234));
+    }
+
+    @Test
+    void debitoSemSaldoNaoAlteraNada() {
+        User usuario = dados.novoUsuario();
+        carteiraServices.adicionarValor(usuario.getId(), Dinheiro.deCentavos(500));
+
+        assertThatThrownBy(() -> carteiraServices.debitar(usuario.getId(), Dinheiro.deCentavos(501), null))
+                .isInstanceOf(SaldoInsuficienteException.class);
+
+        assertThat(carteiraServices.verSaldo(usuario.getId())).isEqualTo(Dinheiro.deCentavos(500));
+        assertThat(carteiraServices.listarMovimentacoes(usuario.getId(), null, 10).getItens()).hasSize(1);
+    }
+
+    @Test
+    void debitosConcorrentesNuncaDeixamSaldoNegativo() throws Exception {
+        User usuario = dados.novoUsuario();
+        carteiraServices.adicionarValor(usuario.getId(), Dinheiro.deCentavos(100));
+
+        int tentativas = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch largada = new CountDownLatch(1);
+        int aprovados = 0;
+        try {
+            List<Future<Boolean>> futuros = new ArrayList<>();
+            for (int i = 0; i < tentativas; i++) {
+                futuros.add(executor.submit(() -> {
+                    largada.await();
+                    try {
+                        carteiraServices.debitar(usuario.getId(), Dinheiro.deCentavos(10), null);
+                        return true;
+                    } catch (SaldoInsuficienteException e) {
+                        return false;
+                    }
+                }));
+            }
+            largada.countDown();
+            for (Future<Boolean> futuro : futuros) {
+                if (futuro.get()) {
+                    aprovados++;
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(aprovados).isEqualTo(10);
+        assertThat(carteiraServices.verSaldo(usuario.getId())).isEqualTo(Dinheiro.ZERO);
+        assertThat(carteiraServices.saldoPeloExtrato(usuario.getId())).isEqualTo(Dinheiro.ZERO);
+
+        // Cada lançamento registra o saldo resultante do seu próprio débito
+        List<Long> saldos = carteiraServices.listarMovimentacoes(usuario.getId(), null, 100).getItens().stream()
+                .map(m -> m.getSaldoApos().getCentavos())
+                .toList();
+        assertThat(saldos).doesNotHaveDuplicates().contains(0L, 100L);
+    }
+}
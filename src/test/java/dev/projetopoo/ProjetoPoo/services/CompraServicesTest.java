@@ -0,0 +1,163 @@
+package dev.projetopoo.ProjetoPoo.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import dev.projetopoo.ProjetoPoo.DadosTeste;
+import dev.projetopoo.ProjetoPoo.exception.CarrinhoVazioException;
+import dev.projetopoo.ProjetoPoo.model.Compra;
+import dev.projetopoo.ProjetoPoo.model.Dinheiro;
+import dev.projetopoo.ProjetoPoo.model.Jogo;
+import dev.projetopoo.ProjetoPoo.model.User;
+import dev.projetopoo.ProjetoPoo.repository.CarrinhoRepository;
+import dev.projetopoo.ProjetoPoo.services.metricas.ConsultasRequisicao;
+import dev.projetopoo.ProjetoPoo.services.metricas.ContadorSql;
+
+@SpringBootTest
+class CompraServicesTest {
+
+    @Autowired
+    private CompraServices compraServices;
+
+    @Autowired
+    private CarrinhoServices carrinhoServices;
+
+    @Autowired
+    private CarteiraServices carteiraServices;
+
+    @Autowired
+    private BibliotecaServices bibliotecaServices;
+
+    @Autowired
+    private CarrinhoRepository carrinhoRepository;
+
+    @Autowired
+    private ContadorSql contadorSql;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DadosTeste dados;
+
+    @Test
+    void compraCobraMoveOsJogosEEsvaziaOCarrinho() {
+        User usuario = dados.novoUsuario();
+        List<Jogo> jogos = List.of(dados.novoJogo(1000), dados.novoJogo(2500), dados.novoJogo(4000));
+        carrinhoServices.atualizarEmLote(usuario.getId(), jogos.stream().map(Jogo::getId).toList(), List.of());
+        carteiraServices.adicionarValor(usuario.getId(), Dinheiro.deCentavos(10000));
+
+        contadorSql.iniciar();
+        Compra compra;
+        ConsultasRequisicao consultas;
+        try {
+            compra = compraServices.efetuarCompra(usuario.getId());
+        } finally {
+            consultas = contadorSql.encerrar();
+        }
+
+        assertThat(compra.getValor()).isEqualTo(Dinheiro.deCentavos(7500));
+        assertThat(carteiraServices.verSaldo(usuario.getId())).isEqualTo(Dinheiro.deCentavos(2500));
+        assertThat(bibliotecaServices.jogosPossuidos(usuario.getId(), jogos.stream().map(Jogo::getId).toList()))
+                .hasSize(3);
+        assertThat(carrinhoRepository.findByUsuarioId(usuario.getId()).orElseThrow().getValorTotal()).isEqualTo(Dinheiro.ZERO);
+        // Os jogos do carrinho chegam com o contexto da compra, sem inicialização lazy da coleção
+        assertThat(consultas.getColecoes()).doesNotContainKey("Carrinho.jogos");
+    }
+
+    @Test
+    void carrinhoVazioNaoViraCompra() {
+        User usuario = dados.novoUsuario();
+
+        assertThatThrownBy(() -> compraServices.efetuarCompra(usuario.getId()))
+                .isInstanceOf(CarrinhoVazioException.class);
+    }
+
+    @Test
+    void checkoutsConcorrentesDoMesmoCarrinhoCobramUmaVez() throws Exception {
+        User usuario = dados.novoUsuario();
+        Jogo jogo = dados.novoJogo(1000);
+        carrinhoServices.adicionarJogo(usuario.getId(), jogo.getId());
+        // Saldo para as duas compras: só a retirada dos itens do carrinho impede a segunda
+        carteiraServices.adicionarValor(usuario.getId(), Dinheiro.deCentavos(2000));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch largada = new CountDownLatch(1);
+        int concluidas = 0;
+        try {
+            List<Future<Compra>> futuros = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                futuros.add(executor.submit(() -> {
+                    largada.await();
+                    return compraServices.efetuarCompra(usuario.getId());
+                }));
+            }
+            largada.countDown();
+            for (Future<Compra> futuro : futuros) {
+                try {
+                    futuro.get();
+                    concluidas++;
+                } catch (ExecutionException e) {
+                    // A perdedora não acha mais os itens no carrinho, antes de qualquer débito
+                    assertThat(e.getCause()).isInstanceOfAny(IllegalArgumentException.class, CarrinhoVazioException.class);
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(concluidas).isEqualTo(1);
+        assertThat(carteiraServices.verSaldo(usuario.getId())).isEqualTo(Dinheiro.deCentavos(1000));
+        assertThat(compraServices.getComprasPorUsuario(usuario.getId())).hasSize(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM biblioteca_jogos bj JOIN library l ON l.id = bj.biblioteca_id " +
+                "WHERE l.usuario_id = ? AND bj.jogo_id = ?", Long.class, usuario.getId(), jogo.getId())).isEqualTo(1L);
+    }
+
+    @Test
+    void reembolsosConcorrentesCreditamUmaVez() throws Exception {
+        User usuario = dados.novoUsuario();
+        Compra compra = dados.comprar(usuario, dados.novoJogo(1000));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch largada = new CountDownLatch(1);
+        int concluidos = 0;
+        try {
+            List<Future<?>> futuros = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                futuros.add(executor.submit(() -> {
+                    largada.await();
+                    compraServices.efetuarReembolso(compra.getId());
+                    return null;
+                }));
+            }
+            largada.countDown();
+            for (Future<?> futuro : futuros) {
+                try {
+                    futuro.get();
+                    concluidos++;
+                } catch (ExecutionException e) {
+                    assertThat(e.getCause()).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("já foi reembolsada");
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(concluidos).isEqualTo(1);
+        assertThat(carteiraServices.verSaldo(usuario.getId())).isEqualTo(Dinheiro.deCentavos(1000));
+        assertThat(compraServices.getCompraPorId(compra.getId()).isReembolsado()).isTrue();
+    }
+}
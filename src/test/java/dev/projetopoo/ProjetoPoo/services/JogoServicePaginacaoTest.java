@@ -0,0 +1,95 @@
+package dev.projetopoo.ProjetoPoo.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import dev.projetopoo.ProjetoPoo.dto.PaginaCursor;
+import dev.projetopoo.ProjetoPoo.model.Dinheiro;
+import dev.projetopoo.ProjetoPoo.model.Jogo;
+
+@SpringBootTest
+class JogoServicePaginacaoTest {
+
+    @Autowired
+    private JogoService jogoService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Long> criados = new ArrayList<>();
+
+    @BeforeEach
+    void criarCatalogo() {
+        // Datas repetidas para o desempate por id entrar em jogo
+        LocalDate[] datas = {
+                LocalDate.of(2001, 1, 1), LocalDate.of(2003, 5, 10), LocalDate.of(2003, 5, 10),
+                LocalDate.of(1999, 12, 31), LocalDate.of(2003, 5, 10), LocalDate.of(2010, 7, 7)
+        };
+        for (int i = 0; i < datas.length; i++) {
+            Jogo jogo = new Jogo(null, "Paginação " + System.nanoTime() + " " + i, "RPG", Dinheiro.deCentavos(1000));
+            jogo.setDataLancamento(datas[i]);
+            criados.add(jogoService.addGame(jogo).getId());
+        }
+    }
+
+    @Test
+    void percorrePorIdSemRepetirNemPular() {
+        List<Jogo> vistos = percorrer("id");
+
+        List<Long> ids = vistos.stream().map(Jogo::getId).toList();
+        assertThat(ids).doesNotHaveDuplicates().isSorted().containsAll(criados);
+    }
+
+    @Test
+    void percorrePorLancamentoComDatasEmpatadas() {
+        List<Jogo> vistos = percorrer("lancamento");
+
+        assertThat(vistos.stream().map(Jogo::getId).toList()).doesNotHaveDuplicates().containsAll(criados);
+        for (int i = 1; i < vistos.size(); i++) {
+            Jogo anterior = vistos.get(i - 1);
+            Jogo atual = vistos.get(i);
+            int comparacao = anterior.getDataLancamento().compareTo(atual.getDataLancamento());
+            assertThat(comparacao > 0 || (comparacao == 0 && anterior.getId() > atual.getId()))
+                    .as("ordem entre %s e %s", anterior.getId(), atual.getId())
+                    .isTrue();
+        }
+    }
+
+    @Test
+    void cursorDeOutraOrdenacaoEhRejeitado() {
+        String cursor = jogoService.listarJogosPaginados("id", null, 1).getProximoCursor();
+
+        assertThatThrownBy(() -> jogoService.listarJogosPaginados("lancamento", cursor, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void dataDeLancamentoEhObrigatoria() {
+        assertThatThrownBy(() -> jdbcTemplate.update("INSERT INTO jogo_table (nome, gender, preco_centavos, avaliacao, ativo) " +
+                "VALUES ('Paginação sem data', 'RPG', 100, 0, true)"))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    private List<Jogo> percorrer(String ordenacao) {
+        List<Jogo> vistos = new ArrayList<>();
+        String cursor = null;
+        do {
+            PaginaCursor<Jogo> pagina = jogoService.listarJogosPaginados(ordenacao, cursor, 2);
+            assertThat(pagina.getItens()).hasSizeLessThanOrEqualTo(2);
+            vistos.addAll(pagina.getItens());
+            cursor = pagina.getProximoCursor();
+        } while (cursor != null);
+        return vistos;
+    }
+}
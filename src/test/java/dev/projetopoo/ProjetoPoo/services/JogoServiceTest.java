@@ -0,0 +1,58 @@
+package dev.projetopoo.ProjetoPoo.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import dev.projetopoo.ProjetoPoo.DadosTeste;
+import dev.projetopoo.ProjetoPoo.exception.JogoJaExisteException;
+import dev.projetopoo.ProjetoPoo.model.Dinheiro;
+import dev.projetopoo.ProjetoPoo.model.Jogo;
+
+@SpringBootTest
+class JogoServiceTest {
+
+    @Autowired
+    private JogoService jogoService;
+
+    @Autowired
+    private DadosTeste dadosTeste;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void nomeDeJogoRemovidoContinuaReservado() {
+        Jogo removido = dadosTeste.novoJogo(1000);
+        jogoService.deleteJogo(removido.getId());
+
+        assertThatThrownBy(() -> jogoService.addGame(new Jogo(null, removido.getNome(), "RPG", Dinheiro.deCentavos(1000))))
+                .isInstanceOf(JogoJaExisteException.class);
+    }
+
+    @Test
+    void alteracaoNaoSobrescreveANota() {
+        Jogo jogo = dadosTeste.novoJogo(1000);
+        Jogo alteracao = new Jogo();
+        alteracao.setAvaliacao(5);
+
+        assertThat(jogoService.updateJogo(jogo.getId(), alteracao).getAvaliacao()).isZero();
+    }
+
+    @Test
+    void outraViolacaoDoBancoNaoViraConflitoDeNome() {
+        String recusado = DadosTeste.unico("recusado-pelo-banco");
+        jdbcTemplate.execute("ALTER TABLE jogo_table ADD CONSTRAINT ck_teste_jogo_service CHECK (nome <> '" + recusado + "')");
+        try {
+            assertThatThrownBy(() -> jogoService.addGame(new Jogo(null, recusado, "RPG", Dinheiro.deCentavos(1000))))
+                    .isInstanceOf(DataIntegrityViolationException.class);
+        } finally {
+            jdbcTemplate.execute("ALTER TABLE jogo_table DROP CONSTRAINT ck_teste_jogo_service");
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package dev.projetopoo.ProjetoPoo.services;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import dev.projetopoo.ProjetoPoo.DadosTeste;
+import dev.projetopoo.ProjetoPoo.exception.CredenciaisInvalidasException;
+import dev.projetopoo.ProjetoPoo.exception.MuitasTentativasException;
+import dev.projetopoo.ProjetoPoo.model.User;
+
+@SpringBootTest
+class UserServicesTest {
+
+    private static final String IP = "192.0.2.18";
+
+    @Autowired
+    private UserServices userServices;
+
+    @Autowired
+    private DadosTeste dados;
+
+    @Test
+    void trocaDeSenhaGastaOMesmoLimiteDoLogin() {
+        User usuario = dados.novoUsuario();
+
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> userServices.changePassword(usuario.getId(), "errada", "nova-senha", IP))
+                    .isInstanceOf(CredenciaisInvalidasException.class);
+        }
+
+        // Esgotado o limite da conta, nem a senha certa é conferida, aqui ou no login
+        assertThatThrownBy(() -> userServices.changePassword(usuario.getId(), DadosTeste.SENHA, "nova-senha", IP))
+                .isInstanceOf(MuitasTentativasException.class);
+        assertThatThrownBy(() -> userServices.login(usuario.getEmail(), DadosTeste.SENHA, IP))
+                .isInstanceOf(MuitasTentativasException.class);
+    }
+}
@@ -0,0 +1,52 @@
+package dev.projetopoo.ProjetoPoo.services.busca;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import dev.projetopoo.ProjetoPoo.dto.ResultadoBusca;
+import dev.projetopoo.ProjetoPoo.model.Dinheiro;
+import dev.projetopoo.ProjetoPoo.model.Jogo;
+
+class IndiceCatalogoTest {
+
+    private final IndiceCatalogo indice = new IndiceCatalogo(null);
+
+    @Test
+    void facetasDeGeneroAgrupamVariacoesDeCaixaEAcento() {
+        indice.indexarTodos(List.of(
+                new Jogo(1L, "Primeiro", "Ação", Dinheiro.deCentavos(1000)),
+                new Jogo(2L, "Segundo", " acao ", Dinheiro.deCentavos(2000)),
+                new Jogo(3L, "Terceiro", "RPG", Dinheiro.deCentavos(3000)),
+                new Jogo(4L, "Quarto", " ", Dinheiro.deCentavos(4000))));
+
+        ResultadoBusca tudo = indice.buscar(new FiltroBusca(), 0, 10);
+
+        assertThat(tudo.getFacetasGenero()).containsOnly(
+                entry("acao", 2L),
+                entry("rpg", 1L),
+                entry("sem-genero", 1L));
+    }
+
+    @Test
+    void chaveDaFacetaFiltraOMesmoNumeroDeJogosQueContou() {
+        indice.indexarTodos(List.of(
+                new Jogo(1L, "Primeiro", "Ação", Dinheiro.deCentavos(1000)),
+                new Jogo(2L, "Segundo", "AÇÃO", Dinheiro.deCentavos(2000)),
+                new Jogo(3L, "Terceiro", "RPG", Dinheiro.deCentavos(3000)),
+                new Jogo(4L, "Quarto", null, Dinheiro.deCentavos(4000)),
+                new Jogo(5L, "Quinto", "", Dinheiro.deCentavos(5000))));
+
+        ResultadoBusca tudo = indice.buscar(new FiltroBusca(), 0, 10);
+        assertThat(tudo.getFacetasGenero()).contains(entry("sem-genero", 2L));
+        for (var faceta : tudo.getFacetasGenero().entrySet()) {
+            FiltroBusca filtro = new FiltroBusca();
+            filtro.setGenero(faceta.getKey());
+
+            assertThat(indice.buscar(filtro, 0, 10).getTotal()).isEqualTo(faceta.getValue());
+        }
+    }
+}
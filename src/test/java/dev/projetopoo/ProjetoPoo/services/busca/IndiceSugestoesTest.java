@@ -0,0 +1,55 @@
+package dev.projetopoo.ProjetoPoo.services.busca;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import dev.projetopoo.ProjetoPoo.dto.SugestaoJogo;
+import dev.projetopoo.ProjetoPoo.model.AvaliacaoResumo;
+import dev.projetopoo.ProjetoPoo.model.Dinheiro;
+import dev.projetopoo.ProjetoPoo.model.Jogo;
+import dev.projetopoo.ProjetoPoo.services.vendas.ContadorVendas;
+
+class IndiceSugestoesTest {
+
+    private final IndiceSugestoes indice = new IndiceSugestoes(null, new ContadorVendas(null, null, null, null), null,
+            Duration.ofMinutes(10));
+
+    @Test
+    void prefixoCurtoDevolveOsMelhoresDoCatalogoInteiro() {
+        indice.indexarTodos(List.of(
+                new Jogo(1L, "Zelda", "Aventura", Dinheiro.deCentavos(1000)),
+                new Jogo(2L, "Zumbis", "Ação", Dinheiro.deCentavos(1000)),
+                new Jogo(3L, "Zoo", "Simulação", Dinheiro.deCentavos(1000))));
+        indice.registrarResumo(resumo(3L, 1, 5));
+        indice.registrarResumo(resumo(1L, 1, 4));
+
+        assertThat(nomes(indice.sugerir("z", OrdenacaoSugestao.AVALIACAO, 2))).containsExactly("Zoo", "Zelda");
+        assertThat(nomes(indice.sugerir("z", OrdenacaoSugestao.AVALIACAO, 3))).containsExactly("Zoo", "Zelda", "Zumbis");
+    }
+
+    @Test
+    void rankingGuardadoAcompanhaMudancasNoCatalogo() {
+        indice.indexarTodos(List.of(new Jogo(1L, "Zelda", "Aventura", Dinheiro.deCentavos(1000))));
+        assertThat(nomes(indice.sugerir("ze", OrdenacaoSugestao.POPULARIDADE, 5))).containsExactly("Zelda");
+
+        indice.indexar(new Jogo(2L, "Zeppelin", "Ação", Dinheiro.deCentavos(1000)));
+        indice.remover(1L);
+
+        assertThat(nomes(indice.sugerir("ze", OrdenacaoSugestao.POPULARIDADE, 5))).containsExactly("Zeppelin");
+    }
+
+    private static AvaliacaoResumo resumo(Long jogoId, long quantidade, long soma) {
+        AvaliacaoResumo resumo = new AvaliacaoResumo(jogoId);
+        resumo.setQuantidade(quantidade);
+        resumo.setSoma(soma);
+        return resumo;
+    }
+
+    private static List<String> nomes(List<SugestaoJogo> sugestoes) {
+        return sugestoes.stream().map(SugestaoJogo::getNome).toList();
+    }
+}
@@ -0,0 +1,165 @@
+package dev.projetopoo.ProjetoPoo.services.catalogo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dev.projetopoo.ProjetoPoo.DadosTeste;
+import dev.projetopoo.ProjetoPoo.dto.ErroImportacao;
+import dev.projetopoo.ProjetoPoo.dto.RelatorioImportacao;
+import dev.projetopoo.ProjetoPoo.model.Jogo;
+import dev.projetopoo.ProjetoPoo.repository.JogoRepository;
+import dev.projetopoo.ProjetoPoo.services.JogoService;
+
+@SpringBootTest
+class ImportadorCatalogoTest {
+
+    @Autowired
+    private ImportadorCatalogo importadorCatalogo;
+
+    @Autowired
+    private JogoService jogoService;
+
+    @Autowired
+    private JogoRepository jogoRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DadosTeste dados;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void campoMaiorQueAColunaViraErroDaLinha() throws Exception {
+        String valido = DadosTeste.unico("jogo-importado");
+        String longo = DadosTeste.unico("nome-longo-") + "x".repeat(300);
+
+        RelatorioImportacao relatorio = importar(
+                linha(valido, "Ação"),
+                linha(longo, "Ação"),
+                linha(DadosTeste.unico("genero-longo"), "g".repeat(256)));
+
+        assertThat(relatorio.getImportados()).isEqualTo(1);
+        assertThat(relatorio.getErros()).extracting(ErroImportacao::getLinha).containsExactly(2L, 3L);
+        assertThat(relatorio.getErros().get(0).getMensagem()).contains("Nome deve ter no máximo 255 caracteres");
+        assertThat(relatorio.getErros().get(1).getMensagem()).contains("Gênero deve ter no máximo 255 caracteres");
+        assertThat(jogoRepository.findByNome(valido)).isPresent();
+    }
+
+    @Test
+    void nomeJaCadastradoOuRemovidoEPuladoPeloIndiceUnico() throws Exception {
+        Jogo ativo = dados.novoJogo(1000);
+        Jogo removido = dados.novoJogo(1000);
+        jogoService.deleteJogo(removido.getId());
+        String novo = DadosTeste.unico("jogo-novo");
+
+        RelatorioImportacao relatorio = importar(
+                linha(ativo.getNome(), "Ação"),
+                linha(novo, "Ação"),
+                linha(removido.getNome(), "Ação"));
+
+        assertThat(relatorio.getImportados()).isEqualTo(1);
+        assertThat(relatorio.getErros()).extracting(ErroImportacao::getLinha).containsExactly(1L, 3L);
+        assertThat(relatorio.getErros()).allSatisfy(erro -> assertThat(erro.getMensagem()).startsWith("Jogo já existe"));
+    }
+
+    @Test
+    void loteRecusadoPeloBancoEGravadoLinhaALinha() throws Exception {
+        String recusado = DadosTeste.unico("recusado-pelo-banco");
+        String antes = DadosTeste.unico("antes");
+        String depois = DadosTeste.unico("depois");
+        jdbcTemplate.execute("ALTER TABLE jogo_table ADD CONSTRAINT ck_teste_importacao CHECK (nome <> '" + recusado + "')");
+        try {
+            RelatorioImportacao relatorio = importar(linha(antes, "Ação"), linha(recusado, "Ação"), linha(depois, "Ação"));
+
+            assertThat(relatorio.getImportados()).isEqualTo(2);
+            assertThat(relatorio.getErros()).singleElement().satisfies(erro -> {
+                assertThat(erro.getLinha()).isEqualTo(2L);
+                assertThat(erro.getMensagem()).startsWith("Erro ao gravar");
+            });
+            assertThat(jogoRepository.findByNome(antes)).isPresent();
+            assertThat(jogoRepository.findByNome(depois)).isPresent();
+        } finally {
+            jdbcTemplate.execute("ALTER TABLE jogo_table DROP CONSTRAINT ck_teste_importacao");
+        }
+    }
+
+    @Test
+    void exportacaoNaoDeixaJogosNoContextoDePersistencia() {
+        Jogo ativo = dados.novoJogo(1990);
+        Jogo removido = dados.novoJogo(1000);
+        jogoService.deleteJogo(removido.getId());
+
+        // Mesmo contexto de persistência que o open-in-view manteria aberto durante a resposta
+        String exportado = transactionTemplate.execute(status -> {
+            ByteArrayOutputStream saida = new ByteArrayOutputStream();
+            try {
+                importadorCatalogo.exportar(saida, FormatoCatalogo.CSV);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+            return saida.toString(StandardCharsets.UTF_8);
+        });
+
+        assertThat(exportado).startsWith("nome,gender,preco,descricao,dataLancamento,imagemUrl\n");
+        assertThat(exportado).contains(ativo.getNome() + ",RPG,19.90,");
+        assertThat(exportado).doesNotContain(removido.getNome());
+    }
+
+    @Test
+    void relatorioGuardaSoOsPrimeirosErrosMasContaTodos() throws Exception {
+        String[] linhas = new String[1_050];
+        for (int i = 0; i < linhas.length; i++) {
+            linhas[i] = "[]";
+        }
+
+        RelatorioImportacao relatorio = importar(linhas);
+
+        assertThat(relatorio.getLinhasLidas()).isEqualTo(1_050);
+        assertThat(relatorio.getRejeitados()).isEqualTo(1_050);
+        assertThat(relatorio.getErros()).hasSize(1_000);
+        assertThat(relatorio.getErros().get(999).getLinha()).isEqualTo(1_000L);
+    }
+
+    private RelatorioImportacao importar(String... linhas) throws Exception {
+        byte[] conteudo = String.join("\n", List.of(linhas)).getBytes(StandardCharsets.UTF_8);
+        return importadorCatalogo.importar(new ByteArrayInputStream(conteudo), FormatoCatalogo.NDJSON);
+    }
+
+    private String linha(String nome, String genero) throws Exception {
+        Map<String, String> campos = new LinkedHashMap<>();
+        campos.put("nome", nome);
+        campos.put("gender", genero);
+        campos.put("preco", "19.90");
+        campos.put("dataLancamento", "2024-01-15");
+        return objectMapper.writeValueAsString(campos);
+    }
+}
@@ -0,0 +1,34 @@
+package dev.projetopoo.ProjetoPoo.services.idempotencia;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class RegistroIdempotenciaTest {
+
+    private final RegistroIdempotencia registro = new RegistroIdempotencia(100, Duration.ofMinutes(1));
+
+    @Test
+    void repeticaoRecebeOResultadoJaCalculado() {
+        AtomicInteger execucoes = new AtomicInteger();
+
+        registro.executar("compra", 1L, "chave", execucoes::incrementAndGet);
+        Integer repetida = registro.executar("compra", 1L, "chave", execucoes::incrementAndGet);
+
+        assertThat(repetida).isEqualTo(1);
+        assertThat(execucoes).hasValue(1);
+    }
+
+    @Test
+    void errorNaoPrendeAChave() {
+        assertThatThrownBy(() -> registro.executar("compra", 1L, "erro", () -> {
+            throw new OutOfMemoryError("simulado");
+        })).isInstanceOf(OutOfMemoryError.class);
+
+        assertThat(registro.executar("compra", 1L, "erro", () -> "de novo")).isEqualTo("de novo");
+    }
+}
@@ -0,0 +1,50 @@
+package dev.projetopoo.ProjetoPoo.services.log;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AmostragemConsultasLentasTest {
+
+    private final LoggerContext contexto = new LoggerContext();
+    private final Logger lentas = contexto.getLogger(AmostragemConsultasLentas.LOGGER);
+
+    @Test
+    void contaTodoAvisoMesmoOsDescartadosDoLog() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AmostragemConsultasLentas filtro = new AmostragemConsultasLentas(0.0, registry);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(filtro.decide(null, lentas, Level.INFO, "Slow query took 250 milliseconds [select 1]", null, null))
+                    .isEqualTo(FilterReply.DENY);
+        }
+
+        assertThat(registry.counter("sql.lentas").count()).isEqualTo(3.0);
+    }
+
+    @Test
+    void consultaDeNivelEOutrosLoggersNaoContam() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AmostragemConsultasLentas filtro = new AmostragemConsultasLentas(0.0, registry);
+
+        assertThat(filtro.decide(null, lentas, Level.INFO, null, null, null)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(filtro.decide(null, contexto.getLogger("org.hibernate.SQL"), Level.INFO, "select 1", null, null))
+                .isEqualTo(FilterReply.NEUTRAL);
+
+        assertThat(registry.counter("sql.lentas").count()).isZero();
+    }
+
+    @Test
+    void amostragemCompletaDeixaTudoPassar() {
+        AmostragemConsultasLentas filtro = new AmostragemConsultasLentas(1.0, new SimpleMeterRegistry());
+
+        assertThat(filtro.decide(null, lentas, Level.INFO, "Slow query took 250 milliseconds [select 1]", null, null))
+                .isEqualTo(FilterReply.NEUTRAL);
+    }
+}
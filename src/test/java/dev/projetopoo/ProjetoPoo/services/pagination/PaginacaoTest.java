@@ -0,0 +1,64 @@
+package dev.projetopoo.ProjetoPoo.services.pagination;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import dev.projetopoo.ProjetoPoo.dto.PaginaCursor;
+import dev.projetopoo.ProjetoPoo.services.busca.OrdenacaoSugestao;
+
+class PaginacaoTest {
+
+    @Test
+    void sentinelaIndicaProximaPaginaSemSerDevolvida() {
+        PaginaCursor<Integer> pagina = Paginacao.montarPagina(List.of(1, 2, 3), 2, ultimo -> "apos-" + ultimo);
+
+        assertThat(pagina.getItens()).containsExactly(1, 2);
+        assertThat(pagina.getProximoCursor()).isEqualTo("apos-2");
+        assertThat(pagina.isTemMais()).isTrue();
+    }
+
+    @Test
+    void semSentinelaEAUltimaPagina() {
+        PaginaCursor<Integer> pagina = Paginacao.montarPagina(List.of(1, 2), 2, ultimo -> "apos-" + ultimo);
+
+        assertThat(pagina.getItens()).containsExactly(1, 2);
+        assertThat(pagina.getProximoCursor()).isNull();
+        assertThat(pagina.isTemMais()).isFalse();
+    }
+
+    @Test
+    void cursorVoltaComAsMesmasPartes() {
+        String cursor = Paginacao.codificarCursor("nome", "42", "Jogo | com separador");
+
+        assertThat(Paginacao.decodificarCursor(cursor, "nome", 3)).containsExactly("nome", "42", "Jogo | com separador");
+        assertThatThrownBy(() -> Paginacao.decodificarCursor(cursor, "id", 3))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage("Cursor de paginação inválido");
+    }
+
+    @Test
+    void partesInvalidasDoCursorViramErroDeCursor() {
+        assertThat(Paginacao.parseId("7")).isEqualTo(7L);
+        assertThat(Paginacao.parseData("2024-02-29")).isEqualTo(LocalDate.of(2024, 2, 29));
+
+        assertThatThrownBy(() -> Paginacao.parseId("x")).hasMessage("Cursor de paginação inválido");
+        assertThatThrownBy(() -> Paginacao.parseLong("")).hasMessage("Cursor de paginação inválido");
+        assertThatThrownBy(() -> Paginacao.parseData("2024-13-01")).hasMessage("Cursor de paginação inválido");
+        assertThatThrownBy(() -> Paginacao.parseDataHora("2024-01-01")).hasMessage("Cursor de paginação inválido");
+    }
+
+    @Test
+    void ordenacaoPelaChaveComPadraoEMensagemDasOpcoes() {
+        assertThat(OrdenacaoCatalogo.de(null)).isEqualTo(OrdenacaoCatalogo.ID);
+        assertThat(OrdenacaoCatalogo.de(" Lancamento ")).isEqualTo(OrdenacaoCatalogo.LANCAMENTO);
+        assertThat(OrdenacaoSugestao.de("")).isEqualTo(OrdenacaoSugestao.POPULARIDADE);
+
+        assertThatThrownBy(() -> OrdenacaoBiblioteca.de("preco"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Ordenação inválida: preco. Use 'aquisicao' ou 'nome'");
+    }
+}
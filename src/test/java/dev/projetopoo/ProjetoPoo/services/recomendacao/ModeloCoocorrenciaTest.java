@@ -0,0 +1,82 @@
+package dev.projetopoo.ProjetoPoo.services.recomendacao;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import dev.projetopoo.ProjetoPoo.DadosTeste;
+import dev.projetopoo.ProjetoPoo.model.Compra;
+import dev.projetopoo.ProjetoPoo.model.Jogo;
+import dev.projetopoo.ProjetoPoo.model.User;
+import dev.projetopoo.ProjetoPoo.services.CompraServices;
+
+@SpringBootTest
+class ModeloCoocorrenciaTest {
+
+    @Autowired
+    private ModeloCoocorrencia modelo;
+
+    @Autowired
+    private CompraServices compraServices;
+
+    @Autowired
+    private DadosTeste dados;
+
+    @Test
+    void incrementalChegaAsMesmasContagensDaReconstrucao() {
+        Jogo a = dados.novoJogo(1000);
+        Jogo b = dados.novoJogo(1000);
+        Jogo c = dados.novoJogo(1000);
+        User primeiro = dados.novoUsuario();
+        User segundo = dados.novoUsuario();
+        dados.comprar(primeiro, a, b);
+        dados.comprar(segundo, a);
+        Compra compraC = dados.comprar(segundo, c);
+
+        // Os eventos dessas compras já estão nas bibliotecas lidas e não podem ser somados de novo
+        modelo.reconstruir();
+        modelo.atualizarIncremental();
+        assertThat(pontuacoes(a)).containsExactlyInAnyOrderEntriesOf(Map.of(b.getId(), 1L, c.getId(), 1L));
+
+        dados.comprar(primeiro, c);
+        modelo.atualizarIncremental();
+        assertThat(pontuacoes(c)).containsExactlyInAnyOrderEntriesOf(Map.of(a.getId(), 2L, b.getId(), 1L));
+
+        compraServices.efetuarReembolso(compraC.getId());
+        modelo.atualizarIncremental();
+        Map<Long, Long> incremental = pontuacoes(c);
+        assertThat(incremental).containsExactlyInAnyOrderEntriesOf(Map.of(a.getId(), 1L, b.getId(), 1L));
+
+        modelo.reconstruir();
+        assertThat(pontuacoes(c)).isEqualTo(incremental);
+    }
+
+    @Test
+    void compraSeguidaAntesDoAjusteNaoContaOParDuasVezes() {
+        modelo.reconstruir();
+        Jogo a = dados.novoJogo(1000);
+        Jogo b = dados.novoJogo(1000);
+        User usuario = dados.novoUsuario();
+
+        // Se a biblioteca fosse lida só no ajuste, a primeira compra já veria b e o par entraria duas vezes
+        dados.comprar(usuario, a);
+        dados.comprar(usuario, b);
+        modelo.atualizarIncremental();
+
+        assertThat(pontuacoes(a)).containsExactlyInAnyOrderEntriesOf(Map.of(b.getId(), 1L));
+        assertThat(pontuacoes(b)).containsExactlyInAnyOrderEntriesOf(Map.of(a.getId(), 1L));
+    }
+
+    private Map<Long, Long> pontuacoes(Jogo jogo) {
+        Map<Long, Long> pontuacoes = new HashMap<>();
+        for (ModeloCoocorrencia.Vizinho vizinho : modelo.recomendados(jogo.getId())) {
+            pontuacoes.put(vizinho.getJogoId(), vizinho.getPontuacao());
+        }
+        return pontuacoes;
+    }
+}
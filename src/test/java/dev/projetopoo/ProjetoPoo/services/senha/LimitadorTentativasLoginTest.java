@@ -0,0 +1,92 @@
+package dev.projetopoo.ProjetoPoo.services.senha;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import dev.projetopoo.ProjetoPoo.exception.MuitasTentativasException;
+
+class LimitadorTentativasLoginTest {
+
+    @Test
+    void loginsCorretosNaoGastamOLimiteDoIp() {
+        LimitadorTentativasLogin limitador = new LimitadorTentativasLogin(3, 5, Duration.ofMinutes(15));
+
+        for (int i = 0; i < 10; i++) {
+            String email = "usuario" + i + "@teste.local";
+            limitador.reservar(email, "10.0.0.1");
+            limitador.registrarSucesso(email, "10.0.0.1");
+        }
+
+        limitador.reservar("outro@teste.local", "10.0.0.1");
+    }
+
+    @Test
+    void falhasDoIpSomamEntreContas() {
+        LimitadorTentativasLogin limitador = new LimitadorTentativasLogin(3, 5, Duration.ofMinutes(15));
+
+        for (int i = 0; i < 3; i++) {
+            limitador.reservar("conta" + i + "@teste.local", "10.0.0.2");
+        }
+
+        assertThatThrownBy(() -> limitador.reservar("conta9@teste.local", "10.0.0.2"))
+                .isInstanceOf(MuitasTentativasException.class);
+        // A conta não pode ficar com a vaga de uma tentativa recusada pelo IP
+        limitador.reservar("conta9@teste.local", "10.0.0.3");
+    }
+
+    @Test
+    void tentativaSemRespostaDevolveAVaga() {
+        LimitadorTentativasLogin limitador = new LimitadorTentativasLogin(30, 1, Duration.ofMinutes(15));
+
+        limitador.reservar("a@teste.local", "10.0.0.4");
+        limitador.liberar("a@teste.local", "10.0.0.4");
+
+        limitador.reservar("A@Teste.local", "10.0.0.4");
+        assertThatThrownBy(() -> limitador.reservar("a@teste.local", "10.0.0.4"))
+                .isInstanceOf(MuitasTentativasException.class);
+    }
+
+    @Test
+    void tentativasSimultaneasNaoPassamDoLimiteDaConta() throws Exception {
+        LimitadorTentativasLogin limitador = new LimitadorTentativasLogin(1_000, 5, Duration.ofMinutes(15));
+        int tentativas = 64;
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch largada = new CountDownLatch(1);
+        try {
+            List<Future<Boolean>> resultados = new ArrayList<>();
+            for (int i = 0; i < tentativas; i++) {
+                resultados.add(executor.submit(() -> {
+                    largada.await();
+                    try {
+                        limitador.reservar("alvo@teste.local", null);
+                        return true;
+                    } catch (MuitasTentativasException e) {
+                        return false;
+                    }
+                }));
+            }
+            largada.countDown();
+
+            int aceitas = 0;
+            for (Future<Boolean> resultado : resultados) {
+                if (resultado.get(10, TimeUnit.SECONDS)) {
+                    aceitas++;
+                }
+            }
+            assertThat(aceitas).isEqualTo(5);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package dev.projetopoo.ProjetoPoo.services.senha;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import dev.projetopoo.ProjetoPoo.exception.ServicoSobrecarregadoException;
+
+class VerificadorSenhasTest {
+
+    @Test
+    void verificacoesSeguidasNaoSaoRecusadasComUmaThread() {
+        VerificadorSenhas verificador = new VerificadorSenhas(new EncoderTextoPuro(null), 1, Duration.ofSeconds(5));
+        try {
+            for (int i = 0; i < 200; i++) {
+                assertThat(verificador.confere("senha", "senha")).isTrue();
+            }
+        } finally {
+            verificador.encerrar();
+        }
+    }
+
+    @Test
+    void vagaOcupadaRecusaEVoltaQuandoOBcryptTermina() throws Exception {
+        CountDownLatch liberar = new CountDownLatch(1);
+        VerificadorSenhas verificador = new VerificadorSenhas(new EncoderTextoPuro(liberar), 1, Duration.ofMillis(100));
+        try {
+            // Estoura o timeout, mas a thread segue presa no encoder e a vaga continua ocupada
+            assertThatThrownBy(() -> verificador.confere("lenta", "lenta"))
+                    .isInstanceOf(ServicoSobrecarregadoException.class);
+            assertThatThrownBy(() -> verificador.confere("senha", "senha"))
+                    .isInstanceOf(ServicoSobrecarregadoException.class);
+
+            liberar.countDown();
+            long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (true) {
+                try {
+                    assertThat(verificador.confere("senha", "senha")).isTrue();
+                    break;
+                } catch (ServicoSobrecarregadoException e) {
+                    assertThat(System.nanoTime()).isLessThan(limite);
+                    Thread.sleep(10);
+                }
+            }
+        } finally {
+            verificador.encerrar();
+        }
+    }
+
+    // Compara em texto puro; com trava, a senha "lenta" só responde depois de liberada
+    private record EncoderTextoPuro(CountDownLatch trava) implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence senha) {
+            return senha.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence senha, String armazenada) {
+            if (trava != null && "lenta".contentEquals(senha)) {
+                while (true) {
+                    try {
+                        trava.await();
+                        break;
+                    } catch (InterruptedException e) {
+                        // o cancelamento do timeout interrompe; a verificação real não pararia no meio
+                    }
+                }
+            }
+            return armazenada.contentEquals(senha);
+        }
+    }
+}
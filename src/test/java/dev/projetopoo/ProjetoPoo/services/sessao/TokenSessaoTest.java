@@ -0,0 +1,53 @@
+package dev.projetopoo.ProjetoPoo.services.sessao;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+
+import dev.projetopoo.ProjetoPoo.model.User;
+
+class TokenSessaoTest {
+
+    private final TokenSessao tokenSessao = new TokenSessao("segredo-de-teste", Duration.ofHours(1), 100);
+
+    @Test
+    void emailComSeparadorVoltaIntacto() {
+        String token = tokenSessao.emitir(usuario(7L, "a|9|b@teste.local")).getToken();
+
+        SessaoUsuario sessao = tokenSessao.verificar(token).orElseThrow();
+
+        assertThat(sessao.getUsuarioId()).isEqualTo(7L);
+        assertThat(sessao.getEmail()).isEqualTo("a|9|b@teste.local");
+    }
+
+    @Test
+    void payloadAlteradoNaoPassaNaAssinatura() {
+        String token = tokenSessao.emitir(usuario(7L, "a@teste.local")).getToken();
+        String payload = new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))), StandardCharsets.UTF_8);
+        String forjado = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(payload.replaceFirst("^7", "8").getBytes(StandardCharsets.UTF_8))
+                + token.substring(token.indexOf('.'));
+
+        assertThat(tokenSessao.verificar(forjado)).isEmpty();
+    }
+
+    @Test
+    void tokenDeOutroSegredoOuExpiradoERecusado() {
+        String token = tokenSessao.emitir(usuario(7L, "a@teste.local")).getToken();
+        TokenSessao outro = new TokenSessao("outro-segredo", Duration.ofHours(1), 100);
+        TokenSessao semValidade = new TokenSessao("segredo-de-teste", Duration.ZERO, 100);
+
+        assertThat(outro.verificar(token)).isEmpty();
+        assertThat(semValidade.verificar(semValidade.emitir(usuario(7L, "a@teste.local")).getToken())).isEmpty();
+    }
+
+    private static User usuario(Long id, String email) {
+        User usuario = new User("Teste", email, "senha");
+        usuario.setId(id);
+        return usuario;
+    }
+}
@@ -0,0 +1,123 @@
+package dev.projetopoo.ProjetoPoo.services.vendas;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import dev.projetopoo.ProjetoPoo.DadosTeste;
+import dev.projetopoo.ProjetoPoo.dto.JogoMaisVendido;
+import dev.projetopoo.ProjetoPoo.model.Jogo;
+
+@SpringBootTest
+class ContadorVendasTest {
+
+    @Autowired
+    private ContadorVendas contadorVendas;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DadosTeste dados;
+
+    @Test
+    void reembolsoContaNoDiaDaCompra() {
+        Jogo jogo = dados.novoJogo(1000);
+        LocalDate diaCompra = LocalDate.now().minusDays(10);
+        List<Long> ids = List.of(jogo.getId());
+
+        for (int i = 0; i < 1000; i++) {
+            contadorVendas.registrarVendas(ids, diaCompra);
+        }
+        contadorVendas.registrarReembolsos(ids, diaCompra);
+        contadorVendas.descarregar();
+
+        assertThat(jdbcTemplate.queryForList("SELECT dia, vendas, reembolsos FROM game_sales_daily WHERE jogo_id = ?", jogo.getId()))
+                .singleElement()
+                .satisfies(linha -> {
+                    assertThat(linha.get("DIA").toString()).isEqualTo(diaCompra.toString());
+                    assertThat(((Number) linha.get("VENDAS")).longValue()).isEqualTo(1000);
+                    assertThat(((Number) linha.get("REEMBOLSOS")).longValue()).isEqualTo(1);
+                });
+        assertThat(contadorVendas.vendasLiquidas(jogo.getId())).isEqualTo(999);
+        assertThat(contadorVendas.maisVendidos(PeriodoVendas.SETE_DIAS, ContadorVendas.TAMANHO_RANKING))
+                .extracting(JogoMaisVendido::getJogoId).doesNotContain(jogo.getId());
+        assertThat(contadorVendas.maisVendidos(PeriodoVendas.TRINTA_DIAS, ContadorVendas.TAMANHO_RANKING))
+                .filteredOn(vendido -> vendido.getJogoId().equals(jogo.getId()))
+                .singleElement().extracting(JogoMaisVendido::getVendasLiquidas).isEqualTo(999L);
+    }
+
+    @Test
+    void recarregarNaoPerdeNemDuplicaPendentes() {
+        Jogo jogo = dados.novoJogo(1000);
+        List<Long> ids = List.of(jogo.getId());
+
+        contadorVendas.registrarVendas(ids, LocalDate.now());
+        contadorVendas.descarregar();
+        contadorVendas.registrarVendas(ids, LocalDate.now());
+
+        contadorVendas.carregar();
+        assertThat(contadorVendas.vendasLiquidas(jogo.getId())).isEqualTo(2);
+
+        contadorVendas.descarregar();
+        contadorVendas.carregar();
+        assertThat(contadorVendas.vendasLiquidas(jogo.getId())).isEqualTo(2);
+    }
+
+    @Test
+    void descargaConcorrenteNaoPerdeVendas() throws Exception {
+        Jogo jogo = dados.novoJogo(1000);
+        List<Long> ids = List.of(jogo.getId());
+        int threads = 4;
+        int vendasPorThread = 2000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        CountDownLatch largada = new CountDownLatch(1);
+        AtomicBoolean vendendo = new AtomicBoolean(true);
+        try {
+            List<Future<?>> vendedores = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                vendedores.add(executor.submit(() -> {
+                    largada.await();
+                    for (int i = 0; i < vendasPorThread; i++) {
+                        contadorVendas.registrarVendas(ids, LocalDate.now());
+                    }
+                    return null;
+                }));
+            }
+            Future<?> descarregador = executor.submit(() -> {
+                largada.await();
+                while (vendendo.get()) {
+                    contadorVendas.descarregar();
+                }
+                return null;
+            });
+
+            largada.countDown();
+            for (Future<?> vendedor : vendedores) {
+                vendedor.get();
+            }
+            vendendo.set(false);
+            descarregador.get();
+        } finally {
+            executor.shutdownNow();
+        }
+        contadorVendas.descarregar();
+
+        long gravadas = jdbcTemplate.queryForObject("SELECT SUM(vendas) FROM game_sales_daily WHERE jogo_id = ?", Long.class, jogo.getId());
+        assertThat(gravadas).isEqualTo((long) threads * vendasPorThread);
+        assertThat(contadorVendas.vendasLiquidas(jogo.getId())).isEqualTo(gravadas);
+    }
+}